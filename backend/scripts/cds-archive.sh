@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Builds a class-data-sharing archive for the packaged backend.
+#
+# The fat jar is unpacked into target/cds/app so classes load from a plain
+# class path (CDS cannot share classes loaded from nested jars), then one
+# training start with -XX:ArchiveClassesAtExit records every class loaded
+# until the context is refreshed (spring.context.exit=onRefresh, no requests
+# served, no database connection needed with the prod profile).
+#
+# Usage: scripts/cds-archive.sh [path/to/backend.jar]
+# Run:   java -XX:SharedArchiveFile=target/cds/app.jsa -Dspring.profiles.active=prod \
+#          [-Dspring.aot.enabled=true] -cp "$(cat target/cds/classpath)" com.skillbridge.SkillBridgeApplication
+# Rebuild the archive whenever the jar or the JDK changes; a mismatched
+# archive is ignored by the JVM (with a warning), not fatal.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR="${1:-target/backend-0.0.1-SNAPSHOT.jar}"
+OUT=target/cds
+MAIN=com.skillbridge.SkillBridgeApplication
+
+[ -f "$JAR" ] || { echo "No jar at $JAR (mvn package first)" >&2; exit 1; }
+
+rm -rf "$OUT"
+mkdir -p "$OUT/app"
+(cd "$OUT/app" && jar xf "../../../$JAR")
+
+# Fixed, sorted class path: the archive is only used when it matches
+CLASSPATH_FILE="$OUT/classpath"
+{
+  printf '%s' "$PWD/$OUT/app/BOOT-INF/classes"
+  find "$PWD/$OUT/app/BOOT-INF/lib" -name '*.jar' | sort | while read -r lib; do printf ':%s' "$lib"; done
+} > "$CLASSPATH_FILE"
+
+# Train with AOT when the jar was built with -Paot, so the archive matches how it will run
+AOT_FLAG=""
+if [ -n "$(find "$OUT/app/BOOT-INF/classes" -name '*__ApplicationContextInitializer.class' -print -quit)" ]; then
+  AOT_FLAG="-Dspring.aot.enabled=true"
+  echo "true" > "$OUT/aot"
+else
+  echo "false" > "$OUT/aot"
+fi
+
+echo "Training run ($([ -n "$AOT_FLAG" ] && echo "AOT" || echo "no AOT"))..."
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+  -Dspring.context.exit=onRefresh \
+  -Dspring.profiles.active=prod \
+  $AOT_FLAG \
+  -cp "$(cat "$CLASSPATH_FILE")" "$MAIN" > "$OUT/training.log" 2>&1 || {
+    echo "Training run failed, see $OUT/training.log" >&2
+    exit 1
+  }
+
+echo "Archive: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f1))"
@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# Time-to-ready of the backend, before and after the startup work.
+#
+# Each variant is started RUNS times; "ready" is the wall-clock time from
+# launching the JVM until /actuator/health answers 200, "spring" is what the
+# application reports in its "Started ... in N seconds" line. Variants:
+#   baseline      default profile (seeding, ddl-auto update, SQL logging)
+#   prod          prod profile (no seeding, no schema work, lazy beans)
+#   prod-aot      prod + Spring AOT          (jar built with -Paot)
+#   prod-aot-cds  prod + AOT + CDS archive   (after scripts/cds-archive.sh)
+# Variants whose prerequisites are missing are skipped.
+#
+# Needs a reachable database (DB_URL / DB_USERNAME / DB_PASSWORD as for the
+# application). baseline runs first, so the schema exists for the others.
+#
+# Usage: RUNS=5 PORT=18080 scripts/startup-benchmark.sh [path/to/backend.jar]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR="${1:-target/backend-0.0.1-SNAPSHOT.jar}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+LOG_DIR=target/startup-benchmark
+MAIN=com.skillbridge.SkillBridgeApplication
+
+[ -f "$JAR" ] || { echo "No jar at $JAR (mvn package first)" >&2; exit 1; }
+mkdir -p "$LOG_DIR"
+
+now_ms() { date +%s%3N; }
+
+# Starts the given command, waits for health, prints "<ready ms> <spring s>", stops it
+measure() {
+  local log="$1"; shift
+  local start pid ready
+  start=$(now_ms)
+  "$@" --server.port="$PORT" > "$log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null 2>&1; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "failed" ; return 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_ms) - start ))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  local spring
+  spring=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+ seconds' | cut -d' ' -f1 || true)
+  echo "$ready ${spring:-?}"
+}
+
+run_variant() {
+  local name="$1"; shift
+  local times=() springs=()
+  for i in $(seq 1 "$RUNS"); do
+    local result
+    if ! result=$(measure "$LOG_DIR/$name-$i.log" "$@"); then
+      printf '%-14s failed, see %s\n' "$name" "$LOG_DIR/$name-$i.log"
+      return
+    fi
+    times+=("${result%% *}")
+    springs+=("${result##* }")
+  done
+  local sorted
+  sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+  printf '%-14s ready ms: median %6s  min %6s  max %6s   spring s: %s\n' "$name" \
+    "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+    "$(echo "$sorted" | head -1)" "$(echo "$sorted" | tail -1)" "${springs[*]}"
+}
+
+AOT=false
+if unzip -l "$JAR" | grep -q '__ApplicationContextInitializer.class'; then
+  AOT=true
+fi
+
+echo "$RUNS runs per variant, port $PORT"
+run_variant baseline java -jar "$JAR"
+run_variant prod java -Dspring.profiles.active=prod -jar "$JAR"
+if [ "$AOT" = true ]; then
+  run_variant prod-aot java -Dspring.profiles.active=prod -Dspring.aot.enabled=true -jar "$JAR"
+else
+  echo "prod-aot       skipped (build with mvn -Paot package)"
+fi
+if [ -f target/cds/app.jsa ]; then
+  CDS_AOT=""
+  [ "$(cat target/cds/aot)" = true ] && CDS_AOT="-Dspring.aot.enabled=true"
+  run_variant prod-aot-cds java -XX:SharedArchiveFile=target/cds/app.jsa -Dspring.profiles.active=prod $CDS_AOT \
+    -cp "$(cat target/cds/classpath)" "$MAIN"
+else
+  echo "prod-aot-cds   skipped (run scripts/cds-archive.sh)"
+fi
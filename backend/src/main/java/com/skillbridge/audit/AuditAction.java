@@ -0,0 +1,13 @@
+package com.skillbridge.audit;
+
+// Stored by ordinal in segment files: append new values at the end only
+public enum AuditAction {
+    ASSIGNMENT_CREATED,
+    ASSIGNMENT_UPDATED,
+    ASSIGNMENT_ENDED,
+    SKILL_CHANGED,
+    SKILL_STATUS_CHANGED,
+    ALLOCATION_REQUEST_TRANSITIONED,
+    USER_CHANGED,
+    USER_DELETED
+}
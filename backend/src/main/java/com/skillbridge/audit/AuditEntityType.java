@@ -0,0 +1,9 @@
+package com.skillbridge.audit;
+
+// Stored by ordinal in segment files: append new values at the end only
+public enum AuditEntityType {
+    ASSIGNMENT,
+    EMPLOYEE_SKILL,
+    ALLOCATION_REQUEST,
+    USER
+}
@@ -0,0 +1,121 @@
+package com.skillbridge.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.event.AllocationRequestTransitionedEvent;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.event.DomainEvent;
+import com.skillbridge.event.EmployeeSkillChangedEvent;
+import com.skillbridge.event.OutboxDispatcher;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds this node's copy of the audit log from dispatched outbox events, so
+ * every audited change is one that committed and every node answers the
+ * audit endpoints alike.
+ *
+ * <p>
+ * Events arrive as {@link ClusterEvent}s. At startup, after a reconnect and
+ * once a day the outbox is replayed for events this node has not recorded
+ * yet; a node away for longer than outbox.retention-days misses what was
+ * purged in between (copy audit.dir from a peer to fill that gap).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditEventListener {
+
+    private static final int CATCH_UP_BATCH = 500;
+
+    private final AuditLog auditLog;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onEvent(ClusterEvent<?> clusterEvent) {
+        apply(clusterEvent.outboxId(), clusterEvent.actorId(), clusterEvent.occurredAt(), clusterEvent.event());
+    }
+
+    @EventListener({ ApplicationReadyEvent.class, ClusterResyncEvent.class })
+    @Scheduled(cron = "${audit.catch-up-cron:0 40 3 * * *}")
+    public void catchUp() {
+        List<Long> dispatched = outboxEventRepository.findDispatchedIds();
+        if (dispatched.isEmpty()) {
+            return;
+        }
+        auditLog.forgetBefore(dispatched.get(0));
+        List<Long> missing = dispatched.stream().filter(id -> !auditLog.isRecorded(id)).toList();
+        for (int from = 0; from < missing.size(); from += CATCH_UP_BATCH) {
+            List<OutboxEvent> rows = outboxEventRepository
+                    .findAllById(missing.subList(from, Math.min(from + CATCH_UP_BATCH, missing.size())));
+            rows.stream().sorted(Comparator.comparing(OutboxEvent::getId)).forEach(this::replay);
+        }
+        if (!missing.isEmpty()) {
+            log.info("Audit log caught up on {} outbox events", missing.size());
+        }
+    }
+
+    private void replay(OutboxEvent row) {
+        try {
+            apply(row.getId(), row.getActorId(), row.getCreatedAt(), OutboxDispatcher.decode(objectMapper, row));
+        } catch (Exception e) {
+            log.warn("Could not replay outbox event {} into the audit log: {}", row.getId(), e.getMessage());
+        }
+    }
+
+    private void apply(long outboxId, UUID actorId, LocalDateTime occurredAt, DomainEvent event) {
+        long timestamp = occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        if (event instanceof AssignmentCreatedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.ASSIGNMENT, e.assignmentId(), AuditAction.ASSIGNMENT_CREATED,
+                    actorId, timestamp, "employee=" + e.employeeId() + " project=" + e.projectId() + " allocation="
+                            + e.allocationPercent() + "% billing=" + e.billingType() + " " + e.startDate() + ".."
+                            + e.endDate());
+        } else if (event instanceof AssignmentUpdatedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.ASSIGNMENT, e.assignmentId(), AuditAction.ASSIGNMENT_UPDATED,
+                    actorId, timestamp, "allocation " + e.previousAllocationPercent() + "%->" + e.allocationPercent()
+                            + "% billing " + e.previousBillingType() + "->" + e.billingType() + " " + e.startDate()
+                            + ".." + e.endDate());
+        } else if (event instanceof AssignmentEndedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.ASSIGNMENT, e.assignmentId(), AuditAction.ASSIGNMENT_ENDED,
+                    actorId, timestamp, "employee=" + e.employeeId() + " project=" + e.projectId() + " ended="
+                            + e.endDate());
+        } else if (event instanceof EmployeeSkillChangedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.EMPLOYEE_SKILL, e.employeeSkillId(),
+                    AuditAction.SKILL_CHANGED, actorId, timestamp, "employee=" + e.employeeId() + " skills="
+                            + e.skillNames());
+        } else if (event instanceof SkillStatusChangedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.EMPLOYEE_SKILL, e.employeeSkillId(),
+                    AuditAction.SKILL_STATUS_CHANGED, actorId, timestamp, "employee=" + e.employeeId() + " skill="
+                            + e.skillName() + " status=" + e.status());
+        } else if (event instanceof AllocationRequestTransitionedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.ALLOCATION_REQUEST, e.requestId(),
+                    AuditAction.ALLOCATION_REQUEST_TRANSITIONED, actorId != null ? actorId : e.actorId(), timestamp,
+                    "employee=" + e.employeeId() + " project=" + e.projectId() + " " + e.fromStatus() + "->"
+                            + e.toStatus());
+        } else if (event instanceof UserChangedEvent e) {
+            auditLog.record(outboxId, AuditEntityType.USER, e.userId(),
+                    e.deleted() ? AuditAction.USER_DELETED : AuditAction.USER_CHANGED, actorId, timestamp,
+                    "manager " + e.previousManagerId() + "->" + e.managerId());
+        } else {
+            auditLog.skip(outboxId);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.skillbridge.audit;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-entity and per-actor record positions, rebuilt from the segments at
+ * startup. Positions are appended in write order, so a list reads newest
+ * first from its end. Entries pointing into retired segments are dropped
+ * lazily with {@link #prune}.
+ */
+final class AuditIndex {
+
+    /** Growable long list; appended by the writer thread, read under its monitor. */
+    private static final class Positions {
+        private long[] values = new long[4];
+        private int size;
+
+        synchronized void add(long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        synchronized long[] newest(int limit) {
+            int count = Math.min(limit, size);
+            long[] result = new long[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = values[size - 1 - i];
+            }
+            return result;
+        }
+
+        /** Drops positions below the cutoff; returns true when nothing is left. */
+        synchronized boolean dropBefore(long cutoff) {
+            int first = 0;
+            while (first < size && values[first] < cutoff) {
+                first++;
+            }
+            if (first > 0) {
+                values = Arrays.copyOfRange(values, first, Math.max(first + 4, size));
+                size -= first;
+            }
+            return size == 0;
+        }
+    }
+
+    private final Map<UUID, Positions> byEntity = new ConcurrentHashMap<>();
+    private final Map<UUID, Positions> byActor = new ConcurrentHashMap<>();
+
+    void add(long position, AuditRecord record) {
+        byEntity.computeIfAbsent(record.entityId(), id -> new Positions()).add(position);
+        if (record.actorId() != null) {
+            byActor.computeIfAbsent(record.actorId(), id -> new Positions()).add(position);
+        }
+    }
+
+    long[] entityPositions(UUID entityId, int limit) {
+        Positions positions = byEntity.get(entityId);
+        return positions != null ? positions.newest(limit) : new long[0];
+    }
+
+    long[] actorPositions(UUID actorId, int limit) {
+        Positions positions = byActor.get(actorId);
+        return positions != null ? positions.newest(limit) : new long[0];
+    }
+
+    /** Forgets positions in segments older than {@code oldestSegment}. */
+    void prune(int oldestSegment) {
+        long cutoff = (long) oldestSegment << 32;
+        byEntity.values().removeIf(positions -> positions.dropBefore(cutoff));
+        byActor.values().removeIf(positions -> positions.dropBefore(cutoff));
+    }
+
+    int entityCount() {
+        return byEntity.size();
+    }
+}
@@ -0,0 +1,195 @@
+package com.skillbridge.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only audit trail kept outside the database.
+ *
+ * <p>
+ * {@link #record} never blocks: it offers to a lock-free ring and, when the
+ * ring is full, drops the record and counts it. A single writer thread
+ * drains the ring into memory-mapped segment files (see
+ * {@link AuditSegmentStore}), indexes each record by entity and actor, and
+ * forces the active segment every audit.flush-interval-ms. Disk use is
+ * bounded by audit.max-segments; the oldest segment is deleted on roll.
+ *
+ * <p>
+ * Every node keeps a full copy: records are keyed by outbox event id, and
+ * an event already recorded here (found in the segments at startup, or
+ * arriving twice) is skipped, so {@link AuditEventListener} can feed the log
+ * from every dispatched event and replay the outbox after a gap.
+ */
+@Component
+@Slf4j
+public class AuditLog implements MeterBinder {
+
+    private static final long IDLE_PARK_MAX_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final AuditRingBuffer ring;
+    private final AuditSegmentStore store;
+    private final AuditIndex index = new AuditIndex();
+    private final long flushIntervalMs;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // Outbox events recorded (or deliberately not audited); pruned below the oldest event left in the outbox
+    private final Set<Long> recorded = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLog(@Value("${audit.dir:./data/audit}") String directory,
+            @Value("${audit.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${audit.max-segments:32}") int maxSegments,
+            @Value("${audit.ring-capacity:65536}") int ringCapacity,
+            @Value("${audit.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.ring = new AuditRingBuffer(ringCapacity);
+        this.store = new AuditSegmentStore(Path.of(directory), segmentSizeMb * 1024 * 1024, maxSegments);
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        long last = store.open((position, record) -> {
+            index.add(position, record);
+            recorded.add(record.sequence());
+        });
+        log.info("Audit log opened: last outbox event {}, {} entities indexed", last, index.entityCount());
+        running = true;
+        writer = new Thread(this::run, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        // The writer drains the ring before it exits
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        store.close();
+    }
+
+    /**
+     * Queues the record of outbox event {@code outboxId} for the writer;
+     * returns false if the event was already recorded or the record was
+     * dropped.
+     */
+    public boolean record(long outboxId, AuditEntityType entityType, UUID entityId, AuditAction action,
+            UUID actorId, long timestamp, String detail) {
+        if (entityId == null || !recorded.add(outboxId)) {
+            return false;
+        }
+        if (!ring.offer(new AuditRecord(outboxId, timestamp, entityType, entityId, action, actorId, detail))) {
+            recorded.remove(outboxId);
+            if (dropped.incrementAndGet() % 1000 == 1) {
+                log.warn("Audit ring full, dropping records ({} so far)", dropped.get());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /** Remembers an event that has no audit record, so a catch-up does not fetch it again. */
+    public void skip(long outboxId) {
+        recorded.add(outboxId);
+    }
+
+    public boolean isRecorded(long outboxId) {
+        return recorded.contains(outboxId);
+    }
+
+    /** Forgets events below {@code outboxId}: they have been purged from the outbox and cannot arrive again. */
+    public void forgetBefore(long outboxId) {
+        recorded.removeIf(id -> id < outboxId);
+    }
+
+    /** Most recent records about an entity, newest first. */
+    public List<AuditRecord> entityHistory(UUID entityId, int limit) {
+        return load(index.entityPositions(entityId, limit));
+    }
+
+    /** Most recent records written by an actor, newest first. */
+    public List<AuditRecord> actorHistory(UUID actorId, int limit) {
+        return load(index.actorPositions(actorId, limit));
+    }
+
+    private List<AuditRecord> load(long[] positions) {
+        List<AuditRecord> records = new ArrayList<>(positions.length);
+        for (long position : positions) {
+            AuditRecord record = store.read(position);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private void run() {
+        long nextFlush = System.currentTimeMillis() + flushIntervalMs;
+        long idleNanos = 1;
+
+        while (running || ring.size() > 0) {
+            AuditRecord record = ring.poll();
+            if (record != null) {
+                append(record);
+                idleNanos = 1;
+            } else {
+                // Back off while idle instead of spinning
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(idleNanos * 2, IDLE_PARK_MAX_NANOS);
+            }
+            if (System.currentTimeMillis() >= nextFlush) {
+                store.force();
+                nextFlush = System.currentTimeMillis() + flushIntervalMs;
+            }
+        }
+        store.force();
+    }
+
+    private void append(AuditRecord record) {
+        try {
+            int oldestBefore = store.oldestSegment();
+            long position = store.append(record);
+            index.add(position, record);
+            if (store.oldestSegment() != oldestBefore) {
+                index.prune(store.oldestSegment());
+            }
+            written.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            dropped.incrementAndGet();
+            log.error("Failed to append audit record {} for {} {}", record.sequence(), record.entityType(),
+                    record.entityId(), e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("audit.records.written", written, AtomicLong::get)
+                .description("Audit records appended to segment files")
+                .register(registry);
+        FunctionCounter.builder("audit.records.dropped", dropped, AtomicLong::get)
+                .description("Audit records dropped because the ring was full or the write failed")
+                .register(registry);
+        Gauge.builder("audit.ring.size", ring, AuditRingBuffer::size)
+                .description("Audit records waiting for the writer thread")
+                .register(registry);
+    }
+}
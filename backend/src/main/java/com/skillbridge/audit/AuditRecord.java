@@ -0,0 +1,12 @@
+package com.skillbridge.audit;
+
+import java.util.UUID;
+
+/**
+ * One audit entry. sequence is the id of the outbox event the entry was
+ * derived from, so it is the same on every node; actorId is null when the
+ * change had no authenticated user.
+ */
+public record AuditRecord(long sequence, long timestamp, AuditEntityType entityType, UUID entityId,
+        AuditAction action, UUID actorId, String detail) {
+}
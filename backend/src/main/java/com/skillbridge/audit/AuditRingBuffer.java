@@ -0,0 +1,54 @@
+package com.skillbridge.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring. Producers claim a slot with a
+ * CAS on the tail and never wait: when the ring is full {@link #offer} returns
+ * false. Only the audit writer thread calls {@link #poll}.
+ */
+final class AuditRingBuffer {
+
+    private final AtomicReferenceArray<AuditRecord> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    boolean offer(AuditRecord record) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), record);
+                return true;
+            }
+        }
+    }
+
+    /** Next record, or null when empty or the next claimed slot is not yet filled. */
+    AuditRecord poll() {
+        long next = head;
+        int index = (int) (next & mask);
+        AuditRecord record = slots.get(index);
+        if (record == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = next + 1;
+        return record;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,221 @@
+package com.skillbridge.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only audit records in fixed-size, memory-mapped segment files
+ * (audit-00000001.seg, ...).
+ *
+ * <p>
+ * Record layout: int bodyLength, then sequence (8), timestamp (8), entity
+ * type (1), action (1), entity id (16), actor id (16, zero = none), detail
+ * length (2) and UTF-8 detail. The length is written last, so a zero length
+ * marks the end of a segment and a torn write is never read back. A record's
+ * position is (segment number &lt;&lt; 32 | offset). Only the audit writer
+ * thread appends; reads use absolute accessors and may run concurrently.
+ */
+@Slf4j
+final class AuditSegmentStore implements Closeable {
+
+    static final int MAX_DETAIL_BYTES = 512;
+    private static final int BODY_HEADER_BYTES = 8 + 8 + 1 + 1 + 16 + 16 + 2;
+
+    private record Segment(int number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    /** Receives every record found on disk at startup, oldest first. */
+    interface RecoveryVisitor {
+        void visit(long position, AuditRecord record);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    private int writeOffset;
+
+    AuditSegmentStore(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(2, maxSegments);
+    }
+
+    /** Maps existing segments, replays their records and positions the writer after the last one. */
+    long open(RecoveryVisitor visitor) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(p -> p.getFileName().toString().matches("audit-\\d{8}\\.seg")).sorted().toList();
+        }
+
+        long lastSequence = 0;
+        for (Path file : files) {
+            Segment segment = map(segmentNumber(file), file);
+            segments.put(segment.number(), segment);
+            int offset = 0;
+            while (offset + 4 <= segmentSize) {
+                int length = segment.buffer().getInt(offset);
+                if (length <= 0 || offset + 4 + length > segmentSize) {
+                    break;
+                }
+                AuditRecord record = decode(segment.buffer(), offset);
+                visitor.visit(position(segment.number(), offset), record);
+                lastSequence = Math.max(lastSequence, record.sequence());
+                offset += 4 + length;
+            }
+            active = segment;
+            writeOffset = offset;
+        }
+        if (active == null) {
+            roll();
+        }
+        return lastSequence;
+    }
+
+    long append(AuditRecord record) throws IOException {
+        byte[] detail = detailBytes(record.detail());
+        int length = BODY_HEADER_BYTES + detail.length;
+        if (writeOffset + 4 + length + 4 > segmentSize) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = active.buffer();
+        int body = writeOffset + 4;
+        buffer.putLong(body, record.sequence());
+        buffer.putLong(body + 8, record.timestamp());
+        buffer.put(body + 16, (byte) record.entityType().ordinal());
+        buffer.put(body + 17, (byte) record.action().ordinal());
+        putUuid(buffer, body + 18, record.entityId());
+        putUuid(buffer, body + 34, record.actorId());
+        buffer.putShort(body + 50, (short) detail.length);
+        buffer.put(body + 52, detail);
+        // Publish: the length makes the record visible to recovery
+        buffer.putInt(writeOffset, length);
+
+        long position = position(active.number(), writeOffset);
+        writeOffset = body + length;
+        return position;
+    }
+
+    /** The record at a position, or null if its segment has been retired. */
+    AuditRecord read(long position) {
+        Segment segment = segments.get((int) (position >>> 32));
+        return segment != null ? decode(segment.buffer(), (int) position) : null;
+    }
+
+    /** Lowest segment number still on disk; positions in older segments are gone. */
+    int oldestSegment() {
+        return segments.isEmpty() ? 0 : segments.firstKey();
+    }
+
+    void force() {
+        if (active != null) {
+            active.buffer().force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        for (Segment segment : segments.values()) {
+            segment.channel().close();
+        }
+        segments.clear();
+    }
+
+    private void roll() throws IOException {
+        int number = active == null ? 1 : active.number() + 1;
+        if (active != null) {
+            active.buffer().force();
+        }
+        Path file = directory.resolve(String.format("audit-%08d.seg", number));
+        active = map(number, file);
+        segments.put(number, active);
+        writeOffset = 0;
+
+        // Bounded on disk: drop the oldest segments beyond the retention count
+        while (segments.size() > maxSegments) {
+            Map.Entry<Integer, Segment> oldest = segments.pollFirstEntry();
+            oldest.getValue().channel().close();
+            Files.deleteIfExists(oldest.getValue().path());
+            log.info("Retired audit segment {}", oldest.getValue().path().getFileName());
+        }
+    }
+
+    private Segment map(int number, Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(number, file, channel, buffer);
+    }
+
+    private static AuditRecord decode(MappedByteBuffer buffer, int offset) {
+        int body = offset + 4;
+        byte[] detail = new byte[buffer.getShort(body + 50)];
+        buffer.get(body + 52, detail);
+        return new AuditRecord(
+                buffer.getLong(body),
+                buffer.getLong(body + 8),
+                AuditEntityType.values()[buffer.get(body + 16)],
+                getUuid(buffer, body + 18),
+                AuditAction.values()[buffer.get(body + 17)],
+                getUuid(buffer, body + 34),
+                new String(detail, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] detailBytes(String detail) {
+        if (detail == null) {
+            return new byte[0];
+        }
+        byte[] bytes = detail.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_DETAIL_BYTES) {
+            return bytes;
+        }
+        // Truncate on a character boundary
+        String truncated = detail;
+        while (bytes.length > MAX_DETAIL_BYTES) {
+            truncated = truncated.substring(0, truncated.length() - 1);
+            bytes = truncated.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private static void putUuid(MappedByteBuffer buffer, int offset, UUID id) {
+        buffer.putLong(offset, id != null ? id.getMostSignificantBits() : 0L);
+        buffer.putLong(offset + 8, id != null ? id.getLeastSignificantBits() : 0L);
+    }
+
+    private static UUID getUuid(MappedByteBuffer buffer, int offset) {
+        long most = buffer.getLong(offset);
+        long least = buffer.getLong(offset + 8);
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring("audit-".length(), name.length() - ".seg".length()));
+        } catch (NumberFormatException e) {
+            throw new UncheckedIOException(new IOException("Unexpected audit segment name " + name));
+        }
+    }
+}
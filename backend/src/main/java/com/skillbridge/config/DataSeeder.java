@@ -3,6 +3,7 @@ package com.skillbridge.config;
 import com.skillbridge.entity.*;
 import com.skillbridge.enums.*;
 import com.skillbridge.repository.EmployeeSkillRepository;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
 import com.skillbridge.repository.ProjectAssignmentRepository;
 import com.skillbridge.repository.ProjectRepository;
 import com.skillbridge.repository.UserRepository;
@@ -11,17 +12,21 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+// Demo accounts for local runs; off in the prod profile
 @Configuration
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DataSeeder {
 
         private final UserRepository userRepository;
         private final ProjectRepository projectRepository;
         private final ProjectAssignmentRepository assignmentRepository;
+        private final ProjectAssignmentHistoryRepository historyRepository;
         private final EmployeeSkillRepository skillRepository;
         private final PasswordEncoder passwordEncoder;
 
@@ -87,7 +92,8 @@ public class DataSeeder {
                         }
 
                         // Seed project and assignment if missing
-                        if (assignmentRepository.findByEmployeeId(employee.getId()).isEmpty()) {
+                        if (assignmentRepository.findByEmployeeId(employee.getId()).isEmpty()
+                                        && !historyRepository.existsByEmployeeId(employee.getId())) {
                                 Project project = projectRepository.findByName("SkillBridge Platform").orElse(null);
                                 if (project == null) {
                                         project = Project.builder()
@@ -41,9 +41,12 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_HR")
 
                         // Employee + Manager personal endpoints
-                        .requestMatchers("/api/assignments/my").hasAnyAuthority("ROLE_EMPLOYEE", "ROLE_MANAGER")
+                        .requestMatchers("/api/assignments/my", "/api/assignments/my/history")
+                        .hasAnyAuthority("ROLE_EMPLOYEE", "ROLE_MANAGER")
                         .requestMatchers(HttpMethod.POST, "/api/allocation-requests").hasAuthority("ROLE_EMPLOYEE")
                         .requestMatchers("/api/skills/my").hasAnyAuthority("ROLE_EMPLOYEE", "ROLE_MANAGER")
                         .requestMatchers(HttpMethod.POST, "/api/skills")
@@ -56,6 +59,10 @@ public class SecurityConfig {
                         // Manager/HR endpoints
                         .requestMatchers("/api/users/team").hasAnyAuthority("ROLE_MANAGER", "ROLE_HR")
                         .requestMatchers("/api/utilization/team").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/api/utilization/trends/team").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/api/utilization/team/summary").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/api/utilization/availability").hasAnyAuthority("ROLE_MANAGER", "ROLE_HR")
+                        .requestMatchers("/api/assignments/history").hasAnyAuthority("ROLE_MANAGER", "ROLE_HR")
                         .requestMatchers("/api/skills/pending").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/api/skills/*/verify").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/api/skills/search").hasAnyAuthority("ROLE_MANAGER", "ROLE_HR")
@@ -67,10 +74,13 @@ public class SecurityConfig {
                         // Shared authenticated endpoints
                         .requestMatchers("/api/users/me").authenticated()
                         .requestMatchers("/api/utilization/me", "/api/allocations/me").authenticated()
-                        .requestMatchers("/api/catalog/skills").authenticated()
+                        .requestMatchers("/api/catalog/skills", "/api/catalog/skills/suggest").authenticated()
                         .requestMatchers("/api/projects/active")
                         .hasAnyAuthority("ROLE_MANAGER", "ROLE_HR", "ROLE_EMPLOYEE")
+                        .requestMatchers("/api/projects/by-tech", "/api/projects/staffing-gaps")
+                        .hasAnyAuthority("ROLE_MANAGER", "ROLE_HR")
                         .requestMatchers("/api/assignments/**").authenticated()
+                        .requestMatchers("/api/notifications/**").authenticated()
 
                         // HR-only endpoints
                         .requestMatchers(HttpMethod.PUT, "/api/assignments/*/end")
@@ -78,6 +88,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/users/**").hasAuthority("ROLE_HR")
                         .requestMatchers("/api/projects/**").hasAuthority("ROLE_HR")
                         .requestMatchers("/api/utilization/summary").hasAuthority("ROLE_HR")
+                        .requestMatchers("/api/utilization/trends", "/api/utilization/snapshots")
+                        .hasAuthority("ROLE_HR")
+                        .requestMatchers("/api/audit/**").hasAuthority("ROLE_HR")
 
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
@@ -118,7 +131,11 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration
-                .setAllowedHeaders(List.of("Authorization", "Content-Type", "Origin", "Accept", "X-Requested-With"));
+                .setAllowedHeaders(List.of("Authorization", "Content-Type", "Origin", "Accept", "X-Requested-With",
+                        "Idempotency-Key"));
+        configuration.setExposedHeaders(
+                List.of("X-Total-Count", "X-Resolved-Skills", "X-Query-Count", "Retry-After",
+                        "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,36 @@
+package com.skillbridge.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    // Resident views, outbox, audit, notifications, limits, routing and auth filters
+    private static final List<String> EAGER_PACKAGES = List.of(
+            "com.skillbridge.index.",
+            "com.skillbridge.event.",
+            "com.skillbridge.audit.",
+            "com.skillbridge.notification.",
+            "com.skillbridge.monitoring.",
+            "com.skillbridge.ratelimit.",
+            "com.skillbridge.datasource.",
+            "com.skillbridge.idempotency.",
+            "com.skillbridge.security.");
+
+    /**
+     * Beans kept eager under spring.main.lazy-initialization (prod profile):
+     * anything that starts threads, warms resident state or publishes
+     * metrics must exist before the first request, not after it. Beans with
+     * {@code @Scheduled} methods are already kept eager by Spring Boot.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (MeterBinder.class.isAssignableFrom(beanType)
+                        || EAGER_PACKAGES.stream().anyMatch(beanType.getName()::startsWith));
+    }
+}
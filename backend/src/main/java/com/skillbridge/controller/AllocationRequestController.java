@@ -5,12 +5,18 @@ import com.skillbridge.entity.AllocationRequest;
 import com.skillbridge.entity.Project;
 import com.skillbridge.entity.ProjectAssignment;
 import com.skillbridge.entity.User;
+import com.skillbridge.enums.AllocationRequestStatus;
 import com.skillbridge.enums.AssignmentStatus;
 import com.skillbridge.enums.BillingType;
+import com.skillbridge.event.AllocationRequestTransitionedEvent;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.OrgHierarchy;
 import com.skillbridge.repository.AllocationRequestRepository;
 import com.skillbridge.repository.ProjectAssignmentRepository;
 import com.skillbridge.repository.ProjectRepository;
 import com.skillbridge.repository.UserRepository;
+import com.skillbridge.service.AssignmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,8 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,10 +43,14 @@ public class AllocationRequestController {
     private final ProjectAssignmentRepository assignmentRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final OrgHierarchy orgHierarchy;
+    private final DomainEventPublisher domainEventPublisher;
+    private final AssignmentService assignmentService;
 
     // EMPLOYEE: Create Request
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_EMPLOYEE')")
+    @Transactional
     public ResponseEntity<?> createRequest(@RequestBody Map<String, String> payload) {
         UUID projectId = UUID.fromString(payload.get("projectId"));
         User currentUser = getAuthenticatedUser();
@@ -51,9 +63,9 @@ public class AllocationRequestController {
                 });
 
         // 2. Check for DUPLICATE pending requests (PENDING_MANAGER or PENDING_HR)
-        boolean hasPending = requestRepository.existsByEmployeeIdAndStatusIn(
+        boolean hasPending = requestRepository.existsByEmployeeIdAndStatusInAndArchivedFalse(
                 currentUser.getId(),
-                List.of("PENDING_MANAGER", "PENDING_HR"));
+                AllocationRequestStatus.OPEN);
 
         if (hasPending) {
             return ResponseEntity.badRequest().body(Map.of("error", "You already have a pending allocation request."));
@@ -62,11 +74,12 @@ public class AllocationRequestController {
         AllocationRequest req = AllocationRequest.builder()
                 .employeeId(currentUser.getId())
                 .projectId(projectId)
-                .status("PENDING_MANAGER") // Initial status
+                .status(AllocationRequestStatus.PENDING_MANAGER) // Initial status
                 .createdAt(LocalDateTime.now())
                 .build();
 
         requestRepository.save(req);
+        publishTransition(req, null, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("message", "Request submitted to Manager"));
     }
 
@@ -75,25 +88,16 @@ public class AllocationRequestController {
     @PreAuthorize("hasAuthority('ROLE_EMPLOYEE')")
     public ResponseEntity<List<AssignmentResponse>> getMyRequests() {
         User currentUser = getAuthenticatedUser();
-        List<AllocationRequest> requests = requestRepository.findByEmployeeId(currentUser.getId());
+        List<AllocationRequest> requests = requestRepository.findByEmployeeIdOrderByCreatedAtDesc(currentUser.getId());
 
         List<AssignmentResponse> responses = requests.stream().map(req -> {
             Project project = projectRepository.findById(req.getProjectId()).orElse(null);
 
-            AssignmentStatus dtoStatus;
-            try {
-                dtoStatus = AssignmentStatus.valueOf(req.getStatus());
-            } catch (IllegalArgumentException e) {
-                // Map custom pending statuses
-                if (req.getStatus().startsWith("PENDING"))
-                    dtoStatus = AssignmentStatus.PENDING;
-                else
-                    dtoStatus = AssignmentStatus.ENDED;
-            }
-            if ("REJECTED".equals(req.getStatus()))
-                dtoStatus = AssignmentStatus.REJECTED;
-            if ("APPROVED".equals(req.getStatus()))
-                dtoStatus = AssignmentStatus.ACTIVE;
+            AssignmentStatus dtoStatus = switch (req.getStatus()) {
+                case PENDING_MANAGER, PENDING_HR -> AssignmentStatus.PENDING;
+                case APPROVED -> AssignmentStatus.ACTIVE;
+                case REJECTED -> AssignmentStatus.REJECTED;
+            };
 
             return AssignmentResponse.builder()
                     .assignmentId(req.getId())
@@ -106,7 +110,7 @@ public class AllocationRequestController {
                     // Provide the raw status in a way if possible.
                     .employeeName(currentUser.getFirstName() + " " + currentUser.getLastName())
                     .assignmentStatus(dtoStatus)
-                    .requestStatus(req.getStatus())
+                    .requestStatus(req.getStatus().name())
                     .build();
         }).collect(Collectors.toList());
 
@@ -122,28 +126,38 @@ public class AllocationRequestController {
 
         if (currentUser.getRole().name().equals("MANAGER")) {
             // Filter team requests
-            List<User> reports = userRepository.findAllByManagerId(currentUser.getId());
-            List<UUID> reportIds = reports.stream().map(User::getId).collect(Collectors.toList());
+            Set<UUID> reportIds = orgHierarchy.directReports(currentUser.getId());
 
-            requests = requestRepository.findByStatus("PENDING_MANAGER").stream()
-                    .filter(r -> reportIds.contains(r.getEmployeeId()))
-                    .collect(Collectors.toList());
+            requests = reportIds.isEmpty() ? List.of()
+                    : requestRepository.findByStatusAndEmployeeIdInAndArchivedFalse(
+                            AllocationRequestStatus.PENDING_MANAGER, reportIds);
 
         } else if (currentUser.getRole().name().equals("HR")) {
             // HR sees PENDING_HR
-            requests = requestRepository.findByStatus("PENDING_HR");
+            requests = requestRepository.findByStatusAndArchivedFalse(AllocationRequestStatus.PENDING_HR);
         } else {
             requests = List.of();
         }
 
+        // Employees and forwarding managers in one query (projects come from the L2 cache)
+        Set<UUID> userIds = new HashSet<>();
+        requests.forEach(r -> {
+            userIds.add(r.getEmployeeId());
+            if (r.getForwardedBy() != null) {
+                userIds.add(r.getForwardedBy());
+            }
+        });
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+
         List<AssignmentResponse> responses = requests.stream().map(req -> {
             Project project = projectRepository.findById(req.getProjectId()).orElse(null);
-            User employee = userRepository.findById(req.getEmployeeId()).orElse(null);
+            User employee = users.get(req.getEmployeeId());
 
             // Resolve Manager Name (Forwarded By)
             String managerName = null;
             if (req.getForwardedBy() != null) {
-                User manager = userRepository.findById(req.getForwardedBy()).orElse(null);
+                User manager = users.get(req.getForwardedBy());
                 if (manager != null) {
                     managerName = manager.getFirstName() + " " + manager.getLastName();
                 }
@@ -157,7 +171,7 @@ public class AllocationRequestController {
                     .employeeName(employee != null ? employee.getFirstName() + " " + employee.getLastName() : "Unknown")
                     .requestedAt(req.getCreatedAt())
                     .assignmentStatus(AssignmentStatus.PENDING)
-                    .requestStatus(req.getStatus())
+                    .requestStatus(req.getStatus().name())
                     .billingType(req.getBillingType())
                     .managerName(managerName)
                     .build();
@@ -184,7 +198,7 @@ public class AllocationRequestController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("You can only manage your own reports.");
         }
 
-        if (!"PENDING_MANAGER".equals(req.getStatus())) {
+        if (req.getStatus() != AllocationRequestStatus.PENDING_MANAGER) {
             return ResponseEntity.badRequest().body("Request is not in pending manager state.");
         }
 
@@ -200,12 +214,13 @@ public class AllocationRequestController {
             return ResponseEntity.badRequest().body("Invalid billing type.");
         }
 
-        req.setStatus("PENDING_HR");
+        req.setStatus(AllocationRequestStatus.PENDING_HR);
         req.setManagerComments(payload.get("comments")); // Optional
         req.setForwardedAt(LocalDateTime.now());
         req.setForwardedBy(manager.getId());
 
         requestRepository.save(req);
+        publishTransition(req, AllocationRequestStatus.PENDING_MANAGER, manager);
         return ResponseEntity.ok(Map.of("message", "Forwarded to HR successfully"));
     }
 
@@ -217,7 +232,7 @@ public class AllocationRequestController {
         AllocationRequest req = requestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
 
-        if (!"PENDING_HR".equals(req.getStatus())) {
+        if (req.getStatus() != AllocationRequestStatus.PENDING_HR) {
             return ResponseEntity.badRequest().body("Request is not pending HR approval.");
         }
 
@@ -229,8 +244,16 @@ public class AllocationRequestController {
 
         User hr = getAuthenticatedUser();
 
+        // Lock the employee and check capacity before anything is written (full-time, open-ended)
+        LocalDate startDate = LocalDate.now();
+        try {
+            assignmentService.reserveCapacity(req.getEmployeeId(), startDate, null, 100);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
         // 1. Update Request
-        req.setStatus("APPROVED");
+        req.setStatus(AllocationRequestStatus.APPROVED);
         req.setReviewedAt(LocalDateTime.now());
         req.setReviewedBy(hr.getId());
         requestRepository.save(req);
@@ -241,10 +264,13 @@ public class AllocationRequestController {
                 .projectId(req.getProjectId())
                 .assignmentStatus(AssignmentStatus.ACTIVE)
                 .billingType(billingType)
-                .startDate(LocalDate.now())
+                .startDate(startDate)
                 .build();
 
-        assignmentRepository.save(assignment);
+        ProjectAssignment saved = assignmentRepository.save(assignment);
+
+        publishTransition(req, AllocationRequestStatus.PENDING_HR, hr);
+        domainEventPublisher.publish(AssignmentCreatedEvent.of(saved));
 
         return ResponseEntity.ok(Map.of("message", "Request Approved and Allocation Created"));
     }
@@ -266,22 +292,30 @@ public class AllocationRequestController {
         }
 
         // Validate Status transition allowability
-        if ("MANAGER".equals(role) && !"PENDING_MANAGER".equals(req.getStatus())) {
+        if ("MANAGER".equals(role) && req.getStatus() != AllocationRequestStatus.PENDING_MANAGER) {
             return ResponseEntity.badRequest().body("Manager can only reject requests pending manager review.");
         }
-        if ("HR".equals(role) && !"PENDING_HR".equals(req.getStatus())) {
+        if ("HR".equals(role) && req.getStatus() != AllocationRequestStatus.PENDING_HR) {
             return ResponseEntity.badRequest().body("HR can only reject requests pending HR review.");
         }
 
-        req.setStatus("REJECTED");
+        AllocationRequestStatus previousStatus = req.getStatus();
+        req.setStatus(AllocationRequestStatus.REJECTED);
         req.setRejectionReason(reason);
         req.setReviewedAt(LocalDateTime.now());
         req.setReviewedBy(currentUser.getId());
         requestRepository.save(req);
+        publishTransition(req, previousStatus, currentUser);
 
         return ResponseEntity.ok(Map.of("message", "Request Rejected"));
     }
 
+    private void publishTransition(AllocationRequest req, AllocationRequestStatus fromStatus, User actor) {
+        domainEventPublisher.publish(new AllocationRequestTransitionedEvent(req.getId(), req.getEmployeeId(),
+                req.getProjectId(), fromStatus != null ? fromStatus.name() : null, req.getStatus().name(),
+                actor.getId()));
+    }
+
     private User getAuthenticatedUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         return userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
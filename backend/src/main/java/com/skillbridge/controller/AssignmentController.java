@@ -5,6 +5,7 @@ import com.skillbridge.dto.CreateAssignmentRequest;
 import com.skillbridge.service.AssignmentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -46,9 +47,34 @@ public class AssignmentController {
         return ResponseEntity.ok(assignmentService.getMyAssignments());
     }
 
+    // Archived ENDED / REJECTED assignments; total count in a header
+    @GetMapping("/history")
+    @PreAuthorize("hasAnyRole('HR', 'MANAGER')")
+    public ResponseEntity<java.util.List<AssignmentResponse>> getAssignmentHistory(
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
+        return page(assignmentService.getAssignmentHistory(employeeId, projectId, page, size));
+    }
+
+    @GetMapping("/my/history")
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER')")
+    public ResponseEntity<java.util.List<AssignmentResponse>> getMyAssignmentHistory(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
+        return page(assignmentService.getMyAssignmentHistory(page, size));
+    }
+
     @GetMapping("/employee/{employeeId}/utilization")
     public ResponseEntity<com.skillbridge.dto.EmployeeUtilizationResponse> getEmployeeUtilization(
             @PathVariable UUID employeeId) {
         return ResponseEntity.ok(assignmentService.getEmployeeUtilization(employeeId));
     }
+
+    private ResponseEntity<java.util.List<AssignmentResponse>> page(Page<AssignmentResponse> results) {
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(results.getTotalElements()))
+                .body(results.getContent());
+    }
 }
@@ -0,0 +1,60 @@
+package com.skillbridge.controller;
+
+import com.skillbridge.audit.AuditLog;
+import com.skillbridge.audit.AuditRecord;
+import com.skillbridge.dto.AuditEntryResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final AuditLog auditLog;
+
+    // History of one assignment, employee skill, allocation request or user
+    @GetMapping("/entities/{id}")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<List<AuditEntryResponse>> getEntityHistory(@PathVariable UUID id,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(map(auditLog.entityHistory(id, clamp(limit))));
+    }
+
+    // Everything a user (reviewer, manager, HR) did
+    @GetMapping("/actors/{id}")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<List<AuditEntryResponse>> getActorHistory(@PathVariable UUID id,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return ResponseEntity.ok(map(auditLog.actorHistory(id, clamp(limit))));
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static List<AuditEntryResponse> map(List<AuditRecord> records) {
+        return records.stream()
+                .map(record -> AuditEntryResponse.builder()
+                        .sequence(record.sequence())
+                        .timestamp(Instant.ofEpochMilli(record.timestamp()))
+                        .entityType(record.entityType())
+                        .entityId(record.entityId())
+                        .action(record.action())
+                        .actorId(record.actorId())
+                        .detail(record.detail())
+                        .build())
+                .toList();
+    }
+}
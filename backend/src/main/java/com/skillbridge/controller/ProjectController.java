@@ -2,6 +2,7 @@ package com.skillbridge.controller;
 
 import com.skillbridge.dto.CreateProjectRequest;
 import com.skillbridge.dto.ProjectResponse;
+import com.skillbridge.dto.ProjectStaffingResponse;
 import com.skillbridge.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,24 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getActiveProjects());
     }
 
+    @GetMapping("/by-tech")
+    @org.springframework.security.access.prepost.PreAuthorize("hasAnyAuthority('ROLE_HR', 'ROLE_MANAGER')")
+    public ResponseEntity<List<ProjectResponse>> getProjectsByTech(
+            @RequestParam("tech") List<String> technologies,
+            @RequestParam(value = "match", defaultValue = "ALL") com.skillbridge.enums.MatchMode match,
+            @RequestParam(value = "status", required = false) com.skillbridge.enums.ProjectStatus status) {
+        return ResponseEntity.ok(projectService.findByTechnologies(technologies, match, status));
+    }
+
+    @GetMapping("/staffing-gaps")
+    @org.springframework.security.access.prepost.PreAuthorize("hasAnyAuthority('ROLE_HR', 'ROLE_MANAGER')")
+    public ResponseEntity<List<ProjectStaffingResponse>> getStaffingGaps(
+            @RequestParam(value = "status", required = false)
+            java.util.Set<com.skillbridge.enums.ProjectStatus> statuses,
+            @RequestParam(value = "understaffedOnly", defaultValue = "true") boolean understaffedOnly) {
+        return ResponseEntity.ok(projectService.getStaffingGaps(statuses, understaffedOnly));
+    }
+
     @PutMapping("/{id}/status")
     @org.springframework.security.access.prepost.PreAuthorize("hasAuthority('ROLE_HR')")
     public ResponseEntity<ProjectResponse> updateProjectStatus(
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,6 +28,14 @@ public class SkillCatalogController {
         return ResponseEntity.ok(skillCatalogService.getAllSkills());
     }
 
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        // Canonical skill names for a partial, misspelt or aliased term
+        return ResponseEntity.ok(skillCatalogService.suggest(query, limit));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('HR')")
     public ResponseEntity<Skill> addSkill(@RequestBody Skill skill) {
@@ -1,10 +1,17 @@
 package com.skillbridge.controller;
 
+import com.skillbridge.dto.ResolvedSkillTerm;
 import com.skillbridge.dto.SkillSearchRequest;
 import com.skillbridge.dto.SkillSearchResponse;
+import com.skillbridge.enums.MatchMode;
+import com.skillbridge.enums.ProficiencyLevel;
 import com.skillbridge.service.SkillSearchService;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,11 +30,39 @@ public class SkillSearchController {
     @PreAuthorize("hasAnyRole('MANAGER', 'HR')")
     public ResponseEntity<List<SkillSearchResponse>> searchSkills(
             @RequestParam(value = "skills", required = false) List<String> skillNames,
-            @RequestParam(value = "skill", required = false) String skillName) {
+            @RequestParam(value = "skill", required = false) String skillName,
+            @RequestParam(value = "minProficiency", required = false) ProficiencyLevel minProficiency,
+            @RequestParam(value = "match", defaultValue = "ALL") MatchMode match,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         SkillSearchRequest request = SkillSearchRequest.builder()
                 .skillName(skillName)
                 .skillNames(skillNames)
+                .minProficiencyLevel(minProficiency)
+                .matchMode(match)
+                .page(page)
+                .size(size)
                 .build();
-        return ResponseEntity.ok(skillSearchService.searchSkills(request));
+        // Ranked page in the body; total number of matching employees and how each term resolved in headers
+        Page<SkillSearchResponse> results = skillSearchService.searchSkills(request);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(results.getTotalElements()))
+                .header("X-Resolved-Skills", resolvedSkillsHeader(skillSearchService.resolveTerms(request)))
+                .body(results.getContent());
+    }
+
+    /**
+     * {@code term=Skill;MATCH} per search term, comma separated, with term and
+     * skill URL-encoded, e.g. {@code javscript=JavaScript;FUZZY, k8s=Kubernetes;SYNONYM}.
+     * The skill is empty for UNKNOWN terms.
+     */
+    private static String resolvedSkillsHeader(List<ResolvedSkillTerm> terms) {
+        return terms.stream()
+                .map(term -> encode(term.getTerm()) + "=" + encode(term.getSkillName()) + ";" + term.getMatch())
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String encode(String value) {
+        return value != null ? URLEncoder.encode(value, StandardCharsets.UTF_8) : "";
     }
 }
@@ -6,6 +6,7 @@ import com.skillbridge.dto.UserProfileResponse;
 import com.skillbridge.service.UserService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -33,8 +35,10 @@ public class UserController {
 
     @GetMapping("/team")
     @PreAuthorize("hasAuthority('ROLE_MANAGER')") // Also enforced in SecurityConfig
-    public ResponseEntity<List<UserProfileResponse>> getTeam() {
-        return ResponseEntity.ok(userService.getTeamMembers());
+    public ResponseEntity<List<UserProfileResponse>> getTeam(
+            @RequestParam(value = "scope", defaultValue = "direct") String scope) {
+        // scope=all includes indirect (skip-level) reports
+        return ResponseEntity.ok(userService.getTeamMembers("all".equalsIgnoreCase(scope)));
     }
 
     @PostMapping
@@ -43,6 +47,13 @@ public class UserController {
         return ResponseEntity.ok(userService.createUser(request));
     }
 
+    // Recompute the employee summary read model, e.g. after editing tables directly
+    @PostMapping("/summaries/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_HR')")
+    public ResponseEntity<Map<String, Integer>> rebuildSummaries() {
+        return ResponseEntity.ok(Map.of("rebuilt", userService.rebuildSummaries()));
+    }
+
     @GetMapping("/employees")
     @PreAuthorize("hasAuthority('ROLE_HR')")
     public ResponseEntity<List<UserProfileResponse>> getEmployees() {
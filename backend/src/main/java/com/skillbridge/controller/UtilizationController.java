@@ -1,16 +1,27 @@
 package com.skillbridge.controller;
 
+import com.skillbridge.dto.CapacityAvailabilityResponse;
 import com.skillbridge.dto.EmployeeUtilizationResponse;
+import com.skillbridge.dto.UtilizationSummaryResponse;
+import com.skillbridge.dto.UtilizationTrendPoint;
+import com.skillbridge.enums.TrendGranularity;
 import com.skillbridge.service.AssignmentService;
 import com.skillbridge.service.UserService;
+import com.skillbridge.service.UtilizationSnapshotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RestController
@@ -20,6 +31,7 @@ public class UtilizationController {
 
     private final AssignmentService assignmentService;
     private final UserService userService;
+    private final UtilizationSnapshotService snapshotService;
 
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('EMPLOYEE', 'MANAGER')")
@@ -29,9 +41,10 @@ public class UtilizationController {
 
     @GetMapping("/team")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<List<EmployeeUtilizationResponse>> getTeamUtilization() {
-        // Fetch team members, then get utilization for each
-        List<com.skillbridge.dto.UserProfileResponse> team = userService.getTeamMembers();
+    public ResponseEntity<List<EmployeeUtilizationResponse>> getTeamUtilization(
+            @RequestParam(value = "scope", defaultValue = "direct") String scope) {
+        // Fetch team members (scope=all adds skip-level reports), then get utilization for each
+        List<com.skillbridge.dto.UserProfileResponse> team = userService.getTeamMembers("all".equalsIgnoreCase(scope));
 
         List<EmployeeUtilizationResponse> utilizations = team.stream()
                 .map(member -> assignmentService.getEmployeeUtilization(member.getId()))
@@ -40,6 +53,21 @@ public class UtilizationController {
         return ResponseEntity.ok(utilizations);
     }
 
+    @GetMapping("/team/summary")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<UtilizationSummaryResponse> getTeamSummary(
+            @RequestParam(value = "scope", defaultValue = "direct") String scope) {
+        return ResponseEntity.ok(assignmentService.getMyTeamUtilizationSummary("all".equalsIgnoreCase(scope)));
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<UtilizationSummaryResponse> getSummary(
+            @RequestParam(value = "managerId", required = false) UUID managerId) {
+        // Headline KPIs from in-memory counters; managerId narrows to that manager's direct reports
+        return ResponseEntity.ok(assignmentService.getUtilizationSummary(managerId));
+    }
+
     @GetMapping("/all")
     @PreAuthorize("hasRole('HR')")
     public ResponseEntity<List<EmployeeUtilizationResponse>> getAllUtilization() {
@@ -58,4 +86,46 @@ public class UtilizationController {
 
         return ResponseEntity.ok(utilizations);
     }
+
+    @GetMapping("/availability")
+    @PreAuthorize("hasAnyRole('HR', 'MANAGER')")
+    public ResponseEntity<List<CapacityAvailabilityResponse>> getAvailability(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "minCapacity", defaultValue = "1") int minCapacity) {
+        // Omitting 'to' asks for capacity from 'from' onwards
+        return ResponseEntity.ok(assignmentService.getAvailableCapacity(from, to, minCapacity));
+    }
+
+    @GetMapping("/trends")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<List<UtilizationTrendPoint>> getTrends(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "granularity", defaultValue = "WEEK") TrendGranularity granularity,
+            @RequestParam(value = "managerId", required = false) UUID managerId) {
+        // Company-wide unless a specific manager's team is requested
+        if (managerId != null) {
+            return ResponseEntity.ok(snapshotService.getTeamTrend(managerId, from, to, granularity));
+        }
+        return ResponseEntity.ok(snapshotService.getCompanyTrend(from, to, granularity));
+    }
+
+    @GetMapping("/trends/team")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<List<UtilizationTrendPoint>> getTeamTrends(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "granularity", defaultValue = "WEEK") TrendGranularity granularity) {
+        return ResponseEntity.ok(snapshotService.getMyTeamTrend(from, to, granularity));
+    }
+
+    @PostMapping("/snapshots")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<Map<String, Object>> takeSnapshot() {
+        // Manual trigger for the daily job; re-running replaces today's rows
+        LocalDate today = LocalDate.now();
+        int recorded = snapshotService.snapshot(today);
+        return ResponseEntity.ok(Map.of("day", today.toString(), "employees", recorded));
+    }
 }
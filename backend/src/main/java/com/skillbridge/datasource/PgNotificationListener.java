@@ -0,0 +1,122 @@
+package com.skillbridge.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+/**
+ * Holds one dedicated connection (outside the pool) that LISTENs on a
+ * channel and hands every batch of notification payloads to
+ * {@link #onNotifications}. Postgres delivers a NOTIFY only when the sending
+ * transaction commits.
+ *
+ * <p>
+ * Waiting for notifications never touches the network, so a connection that
+ * died without a FIN or RST would look like a quiet channel for ever. Every
+ * {@code livenessIntervalMs} the connection therefore runs {@code SELECT 1}
+ * under a socket timeout (TCP keepalive is on as well); a failed probe is
+ * treated like any other connection loss: {@link #onDisconnected} runs, and
+ * {@link #onConnected} runs again once a fresh connection is listening.
+ * Subclasses must assume notifications were missed in between.
+ */
+@Slf4j
+public abstract class PgNotificationListener {
+
+    private static final int POLL_TIMEOUT_MS = 1000;
+
+    private final String channel;
+    private final DataSourceProperties dataSourceProperties;
+    private final long reconnectDelayMs;
+    private final long livenessIntervalMs;
+    private volatile boolean running;
+
+    protected PgNotificationListener(String channel, DataSourceProperties dataSourceProperties,
+            long reconnectDelayMs, long livenessIntervalMs) {
+        this.channel = channel;
+        this.dataSourceProperties = dataSourceProperties;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.livenessIntervalMs = livenessIntervalMs;
+    }
+
+    /** The connection is listening; anything cached before this may have missed notifications. */
+    protected abstract void onConnected();
+
+    /** The connection was lost (or failed its liveness probe) and notifications may be missed until reconnected. */
+    protected abstract void onDisconnected();
+
+    /** Payloads of the notifications received in one poll, in delivery order. */
+    protected abstract void onNotifications(List<String> payloads);
+
+    protected void startListening() {
+        running = true;
+        Thread worker = new Thread(this::run, channel + "-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    protected void stopListening() {
+        running = false;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                onConnected();
+                log.info("Listening on {}", channel);
+
+                long nextProbe = System.currentTimeMillis() + livenessIntervalMs;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null && notifications.length > 0) {
+                        List<String> payloads = new ArrayList<>(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            payloads.add(notification.getParameter());
+                        }
+                        onNotifications(payloads);
+                    }
+                    if (System.currentTimeMillis() >= nextProbe) {
+                        probe(connection);
+                        nextProbe = System.currentTimeMillis() + livenessIntervalMs;
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                onDisconnected();
+                if (running) {
+                    log.warn("Listener on {} disconnected: {}", channel, e.getMessage());
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(reconnectDelayMs));
+                }
+            }
+        }
+        onDisconnected();
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("tcpKeepAlive", "true");
+        // Bounds the liveness probe; getNotifications sets its own timeout per poll
+        properties.setProperty("socketTimeout", String.valueOf(Math.max(1, livenessIntervalMs / 1000)));
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private static void probe(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.skillbridge.datasource;
+
+import com.skillbridge.index.AfterCommit;
+import com.skillbridge.security.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work of signed-in users to the
+ * replica and everything else to the primary.
+ *
+ * <p>
+ * A read goes to the primary instead when the replica lags more than
+ * datasource.replica.max-lag-ms, or when the same user wrote within
+ * datasource.replica.read-your-writes-ms (any read-write transaction counts,
+ * stamped again at commit). Work without a user (schedulers, outbox
+ * dispatch, warm-ups) always uses the primary: it feeds resident views that
+ * must not be built from stale rows. A session that does read the replica
+ * only reads the second-level cache: rows up to max-lag-ms old must not be
+ * put there, where write paths would find them.
+ *
+ * <p>
+ * Recent writes are remembered per node, so read-your-writes only holds when
+ * the load balancer keeps a user on one instance (sticky sessions); a user
+ * moved to another instance may read the replica before it caught up.
+ *
+ * <p>
+ * Must sit behind a LazyConnectionDataSourceProxy: the JPA transaction
+ * manager fetches a connection before it publishes the read-only flag, and
+ * the proxy defers that until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesNanos;
+    private final Map<UUID, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final Map<Target, Counter> routed = new ConcurrentHashMap<>();
+    private final Runnable onReplicaRead;
+
+    /** {@code onReplicaRead} runs in the transaction whose connection was just routed to the replica. */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            long readYourWritesMs, Runnable onReplicaRead) {
+        this.lagMonitor = lagMonitor;
+        this.onReplicaRead = onReplicaRead;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = route();
+        if (target == Target.REPLICA) {
+            onReplicaRead.run();
+        }
+        Counter counter = routed.get(target);
+        if (counter != null) {
+            counter.increment();
+        }
+        return target;
+    }
+
+    private Target route() {
+        UUID userId = currentUserId();
+        if (userId == null) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            lastWriteNanos.put(userId, System.nanoTime());
+            AfterCommit.run(() -> lastWriteNanos.put(userId, System.nanoTime()));
+            return Target.PRIMARY;
+        }
+        Long wroteAt = lastWriteNanos.get(userId);
+        if (wroteAt != null && System.nanoTime() - wroteAt < readYourWritesNanos) {
+            return Target.PRIMARY;
+        }
+        return lagMonitor.isUsable() ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails details) {
+            return details.getUser().getId();
+        }
+        return null;
+    }
+
+    // Entries older than the window no longer affect routing
+    @Scheduled(fixedDelayString = "${datasource.replica.read-your-writes-ms:5000}")
+    public void forgetOldWrites() {
+        long cutoff = System.nanoTime() - readYourWritesNanos;
+        lastWriteNanos.values().removeIf(wroteAt -> wroteAt - cutoff < 0);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Target target : Target.values()) {
+            routed.put(target, Counter.builder("datasource.routed")
+                    .description("Connections handed out by the read/write router")
+                    .tag("target", target.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+}
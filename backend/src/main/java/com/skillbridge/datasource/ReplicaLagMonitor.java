@@ -0,0 +1,72 @@
+package com.skillbridge.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Polls the replica for its replay lag. Zero when it has replayed everything
+ * it received (an idle primary does not count as lag) or when it is not in
+ * recovery at all, e.g. a second standalone instance used locally. A standby
+ * without a running WAL receiver has replayed all it received but may be
+ * arbitrarily far behind, so it counts as unusable, as does a failed probe,
+ * until the next successful one.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    // Without pg_read_all_stats the receiver row only shows its pid: a null status then means running
+    private static final String LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver"
+            + " WHERE status IS NULL OR status = 'streaming') THEN NULL"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)"
+            + " END";
+
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+    private volatile long lagMs = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(2);
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = isUsable();
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            lagMs = lag != null ? lag.longValue() : Long.MAX_VALUE;
+        } catch (DataAccessException e) {
+            lagMs = Long.MAX_VALUE;
+            if (wasUsable) {
+                log.warn("Replica lag probe failed, routing reads to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != isUsable()) {
+            log.info("Replica lag {} ms, read-only transactions now go to the {}", lagMs,
+                    isUsable() ? "replica" : "primary");
+        }
+    }
+
+    public boolean isUsable() {
+        return lagMs <= maxLagMs;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMs == Long.MAX_VALUE ? -1 : monitor.lagMs)
+                .description("Replica replay lag in milliseconds, -1 when unreachable")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
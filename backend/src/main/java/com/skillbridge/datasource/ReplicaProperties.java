@@ -0,0 +1,30 @@
+package com.skillbridge.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    // Off: a single pool on spring.datasource, no routing
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    // Read-only transactions fall back to the primary while the replica is further behind than this
+    private long maxLagMs = 5000;
+
+    // A user's read-only transactions stay on the primary this long after their last write
+    private long readYourWritesMs = 5000;
+
+    private long lagCheckIntervalMs = 1000;
+}
@@ -0,0 +1,24 @@
+package com.skillbridge.dto;
+
+import com.skillbridge.audit.AuditAction;
+import com.skillbridge.audit.AuditEntityType;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntryResponse {
+    private long sequence;
+    private Instant timestamp;
+    private AuditEntityType entityType;
+    private UUID entityId;
+    private AuditAction action;
+    private UUID actorId;
+    private String detail;
+}
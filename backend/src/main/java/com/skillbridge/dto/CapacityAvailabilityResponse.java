@@ -0,0 +1,19 @@
+package com.skillbridge.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacityAvailabilityResponse {
+    private UUID employeeId;
+    private String employeeName;
+    private String email;
+    private Integer peakAllocation; // Highest total allocation on any day in the window
+    private Integer availableCapacity;
+}
@@ -0,0 +1,22 @@
+package com.skillbridge.dto;
+
+import com.skillbridge.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private UUID id;
+    private NotificationType type;
+    private String title;
+    private String message;
+    private LocalDateTime createdAt;
+    private boolean read;
+}
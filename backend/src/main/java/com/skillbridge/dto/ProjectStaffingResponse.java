@@ -0,0 +1,27 @@
+package com.skillbridge.dto;
+
+import com.skillbridge.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStaffingResponse {
+    private UUID projectId;
+    private String projectName;
+    private String companyName;
+    private ProjectStatus status;
+    private Integer employeesRequired;
+    // Distinct employees with an ACTIVE assignment on the project
+    private int headcount;
+    // Sum of ACTIVE allocation percentages / 100
+    private double allocatedFte;
+    private int headcountGap;
+    private double fteGap;
+}
@@ -0,0 +1,17 @@
+package com.skillbridge.dto;
+
+import com.skillbridge.enums.SkillMatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolvedSkillTerm {
+    private String term;
+    private String skillName; // canonical name, null when nothing matched
+    private SkillMatch match;
+}
@@ -17,6 +17,7 @@ public class SkillResponse {
     private UUID employeeId;
     private String employeeName;
     private String employeeEmail;
+    private UUID skillId;
     private String skillName;
     private ProficiencyLevel proficiencyLevel;
     private SkillStatus status;
@@ -1,5 +1,6 @@
 package com.skillbridge.dto;
 
+import com.skillbridge.enums.MatchMode;
 import com.skillbridge.enums.ProficiencyLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,4 +15,7 @@ public class SkillSearchRequest {
     private String skillName;
     private java.util.List<String> skillNames;
     private ProficiencyLevel minProficiencyLevel;
+    private MatchMode matchMode;
+    private int page;
+    private int size;
 }
@@ -21,4 +21,6 @@ public class SkillSearchResponse {
     private SkillStatus status;
     private UUID managerId;
     private java.util.List<SkillResponse> matches;
+    private Double score;
+    private Integer availableCapacity;
 }
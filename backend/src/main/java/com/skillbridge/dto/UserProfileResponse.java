@@ -27,5 +27,6 @@ public class UserProfileResponse {
     private LocalDate endDate;
     private String billingStatus;
     private String assignmentStatus;
+    private Integer totalUtilization;
     private List<SkillResponse> skills;
 }
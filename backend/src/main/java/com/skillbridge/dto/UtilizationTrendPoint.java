@@ -0,0 +1,23 @@
+package com.skillbridge.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationTrendPoint {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private int sampledDays;
+    // Daily averages over the sampled days in the period
+    private double averageHeadcount;
+    private double averageUtilization;
+    private double billableCount;
+    private double investmentCount;
+    private double benchCount;
+}
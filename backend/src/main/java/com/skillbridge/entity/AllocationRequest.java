@@ -1,5 +1,6 @@
 package com.skillbridge.entity;
 
+import com.skillbridge.enums.AllocationRequestStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,8 +27,9 @@ public class AllocationRequest {
     @Column(nullable = false)
     private UUID projectId;
 
-    @Column(nullable = false)
-    private String status; // PENDING, APPROVED, REJECTED
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AllocationRequestStatus status;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -54,4 +56,8 @@ public class AllocationRequest {
     @Enumerated(EnumType.STRING)
     @Column(name = "billing_type")
     private com.skillbridge.enums.BillingType billingType;
+
+    // Closed and past the archive horizon: lives in the cold partitions (see AllocationRequestArchiver)
+    @Column(nullable = false)
+    private boolean archived;
 }
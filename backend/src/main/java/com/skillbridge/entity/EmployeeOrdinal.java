@@ -0,0 +1,33 @@
+package com.skillbridge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dense integer alias for an employee, used as the key of compact analytics
+ * tables instead of the 16-byte UUID.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_ordinals")
+public class EmployeeOrdinal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer ordinal;
+
+    @Column(name = "employee_id", nullable = false, unique = true)
+    private UUID employeeId;
+}
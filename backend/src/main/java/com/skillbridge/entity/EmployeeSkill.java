@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.util.UUID;
@@ -22,7 +23,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "employee_skills")
+@Table(name = "employee_skills", indexes = {
+        @Index(name = "idx_employee_skills_skill_status", columnList = "skill_id, status"),
+        @Index(name = "idx_employee_skills_employee_skill", columnList = "employee_id, skill_id")
+})
 public class EmployeeSkill {
 
     @Id
@@ -32,6 +36,11 @@ public class EmployeeSkill {
     @Column(name = "employee_id", nullable = false)
     private UUID employeeId;
 
+    // Catalog skill (skills.id). Null only for legacy rows not yet backfilled.
+    @Column(name = "skill_id")
+    private UUID skillId;
+
+    // Display name, kept in step with the catalog entry during the transition
     @Column(name = "skill_name", nullable = false)
     private String skillName;
 
@@ -0,0 +1,89 @@
+package com.skillbridge.entity;
+
+import com.skillbridge.enums.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model: one denormalised row per user with everything the list, team,
+ * bench and search screens show. Derived from users, employee_skills,
+ * project_assignments and projects by EmployeeSummaryService; never written
+ * by anything else.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "employee_summary")
+public class EmployeeSummary {
+
+    @Id
+    @Column(name = "employee_id")
+    private UUID employeeId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Role role;
+
+    @Column(name = "manager_id")
+    private UUID managerId;
+
+    @Column(name = "manager_name")
+    private String managerName;
+
+    // Latest assignment by start date; NONE when the employee never had one
+    @Column(name = "assignment_status", nullable = false, length = 20)
+    private String assignmentStatus;
+
+    // Project of the latest assignment while it is ACTIVE, otherwise "Bench"
+    @Column(name = "project_name")
+    private String projectName;
+
+    @Column(name = "company_name")
+    private String companyName;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "billing_status", length = 20)
+    private String billingStatus;
+
+    // Sum of ACTIVE allocations, capped at 100
+    @Column(name = "total_utilization", nullable = false)
+    private int totalUtilization;
+
+    // All of the employee's skills as a JSON array of SkillResponse
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String skills;
+
+    // Comma-separated names of APPROVED skills, for display and export
+    @Column(name = "approved_skills", columnDefinition = "TEXT")
+    private String approvedSkills;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
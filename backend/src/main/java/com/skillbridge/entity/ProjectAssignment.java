@@ -2,6 +2,7 @@ package com.skillbridge.entity;
 
 import com.skillbridge.enums.AssignmentStatus;
 import com.skillbridge.enums.BillingType;
+import com.skillbridge.index.ProjectAssignmentListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ProjectAssignmentListener.class)
 @Table(name = "project_assignments")
 public class ProjectAssignment {
 
@@ -64,4 +66,9 @@ public class ProjectAssignment {
 
     @Version
     private Long version;
+
+    /** Whether {@code day} falls within the assignment's dates (end date inclusive, open-ended without one). */
+    public boolean isInForceOn(LocalDate day) {
+        return (startDate == null || !startDate.isAfter(day)) && (endDate == null || !endDate.isBefore(day));
+    }
 }
@@ -0,0 +1,89 @@
+package com.skillbridge.entity;
+
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An ENDED or REJECTED assignment moved out of project_assignments by
+ * AssignmentHistoryMover. Same columns and ID as the live row; read-only.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_assignment_history")
+public class ProjectAssignmentHistory {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "assignment_status", nullable = false)
+    private AssignmentStatus assignmentStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "billing_type")
+    private BillingType billingType;
+
+    @Column(name = "project_role")
+    private String projectRole;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "allocation_percent")
+    private Integer allocationPercent;
+
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "reviewed_by")
+    private UUID reviewedBy;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Detached, never-persisted view as an assignment, for code that shows the latest one. */
+    public ProjectAssignment toAssignment() {
+        return ProjectAssignment.builder()
+                .id(id)
+                .employeeId(employeeId)
+                .projectId(projectId)
+                .assignmentStatus(assignmentStatus)
+                .billingType(billingType)
+                .projectRole(projectRole)
+                .startDate(startDate)
+                .endDate(endDate)
+                .allocationPercent(allocationPercent)
+                .requestedAt(requestedAt)
+                .reviewedAt(reviewedAt)
+                .reviewedBy(reviewedBy)
+                .build();
+    }
+}
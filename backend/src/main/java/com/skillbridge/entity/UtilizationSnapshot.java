@@ -0,0 +1,61 @@
+package com.skillbridge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One row per employee per day: total allocation percent plus which billing
+ * types were active that day, and the employee's manager on that day so team
+ * trends follow the team as it was rather than as it is now. Rows are only ever inserted in bulk by the
+ * daily snapshotter, so {@link #isNew()} is always true to skip the
+ * merge-time SELECT that an assigned composite key would otherwise cause.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(UtilizationSnapshotId.class)
+@Table(name = "utilization_snapshots")
+public class UtilizationSnapshot implements Persistable<UtilizationSnapshotId> {
+
+    public static final short BILLABLE_BIT = 1;
+    public static final short INVESTMENT_BIT = 2;
+
+    @Id
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate snapshotDay;
+
+    @Id
+    @Column(name = "employee_ordinal", nullable = false)
+    private Integer employeeOrdinal;
+
+    @Column(name = "utilization_percent", nullable = false)
+    private Short utilizationPercent;
+
+    @Column(name = "billing_bits", nullable = false)
+    private Short billingBits;
+
+    // Ordinal of the direct manager when the snapshot was taken; null without one
+    @Column(name = "manager_ordinal")
+    private Integer managerOrdinal;
+
+    @Override
+    public UtilizationSnapshotId getId() {
+        return new UtilizationSnapshotId(employeeOrdinal, snapshotDay);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
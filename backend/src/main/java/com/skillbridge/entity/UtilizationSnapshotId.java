@@ -0,0 +1,15 @@
+package com.skillbridge.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationSnapshotId implements Serializable {
+    private Integer employeeOrdinal;
+    private LocalDate snapshotDay;
+}
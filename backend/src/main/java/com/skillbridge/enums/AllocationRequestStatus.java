@@ -0,0 +1,13 @@
+package com.skillbridge.enums;
+
+import java.util.List;
+
+public enum AllocationRequestStatus {
+    PENDING_MANAGER,
+    PENDING_HR,
+    APPROVED,
+    REJECTED;
+
+    // Still in the workflow; APPROVED and REJECTED requests are closed
+    public static final List<AllocationRequestStatus> OPEN = List.of(PENDING_MANAGER, PENDING_HR);
+}
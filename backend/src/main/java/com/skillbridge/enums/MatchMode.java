@@ -0,0 +1,6 @@
+package com.skillbridge.enums;
+
+public enum MatchMode {
+    ALL,
+    ANY
+}
@@ -0,0 +1,7 @@
+package com.skillbridge.enums;
+
+public enum NotificationType {
+    ALLOCATION_REQUEST,
+    SKILL_VERIFICATION,
+    DIGEST
+}
@@ -0,0 +1,9 @@
+package com.skillbridge.enums;
+
+/** How a skill search term was resolved to a canonical skill. */
+public enum SkillMatch {
+    EXACT,
+    SYNONYM,
+    FUZZY,
+    UNKNOWN
+}
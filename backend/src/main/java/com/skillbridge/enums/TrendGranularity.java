@@ -0,0 +1,7 @@
+package com.skillbridge.enums;
+
+public enum TrendGranularity {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,21 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/**
+ * An allocation request moved between workflow states (fromStatus is null
+ * when the request was created). actorId is the user who made the move.
+ */
+public record AllocationRequestTransitionedEvent(UUID requestId, UUID employeeId, UUID projectId, String fromStatus,
+        String toStatus, UUID actorId) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "AllocationRequest";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return requestId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.skillbridge.event;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.BillingType;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** An assignment became ACTIVE, either created directly or approved from a request. */
+public record AssignmentCreatedEvent(UUID assignmentId, UUID employeeId, UUID projectId, int allocationPercent,
+        BillingType billingType, LocalDate startDate, LocalDate endDate) implements DomainEvent {
+
+    public static AssignmentCreatedEvent of(ProjectAssignment assignment) {
+        return new AssignmentCreatedEvent(assignment.getId(), assignment.getEmployeeId(), assignment.getProjectId(),
+                assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100,
+                assignment.getBillingType(), assignment.getStartDate(), assignment.getEndDate());
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Assignment";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return assignmentId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.skillbridge.event;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.BillingType;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** An ACTIVE assignment was ended, or removed together with its employee. */
+public record AssignmentEndedEvent(UUID assignmentId, UUID employeeId, UUID projectId, int allocationPercent,
+        BillingType billingType, LocalDate endDate) implements DomainEvent {
+
+    public static AssignmentEndedEvent of(ProjectAssignment assignment, LocalDate endDate) {
+        return new AssignmentEndedEvent(assignment.getId(), assignment.getEmployeeId(), assignment.getProjectId(),
+                assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100,
+                assignment.getBillingType(), endDate);
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Assignment";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return assignmentId;
+    }
+}
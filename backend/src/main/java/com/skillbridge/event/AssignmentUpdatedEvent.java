@@ -0,0 +1,21 @@
+package com.skillbridge.event;
+
+import com.skillbridge.enums.BillingType;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Allocation, billing type or dates of an ACTIVE assignment changed. */
+public record AssignmentUpdatedEvent(UUID assignmentId, UUID employeeId, UUID projectId,
+        int previousAllocationPercent, int allocationPercent, BillingType previousBillingType,
+        BillingType billingType, LocalDate startDate, LocalDate endDate) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "Assignment";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return assignmentId;
+    }
+}
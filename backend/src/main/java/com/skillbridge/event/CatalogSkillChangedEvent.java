@@ -0,0 +1,17 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/** A catalog skill was added (by HR or auto-created from an employee skill) or deleted. */
+public record CatalogSkillChangedEvent(UUID skillId, String name, boolean deleted) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "Skill";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return skillId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.skillbridge.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * A dispatched domain event, published once on every node by
+ * {@link ClusterEventListener}. Resident per-node views (caches, counters,
+ * mirrors) listen for {@code ClusterEvent<X>} instead of the bare event,
+ * which only reaches the node that happens to run the dispatcher.
+ * Redelivery is possible, so listeners must be idempotent. actorId and
+ * occurredAt carry the outbox metadata, as in {@link EventEnvelope}.
+ */
+public record ClusterEvent<E extends DomainEvent>(long outboxId, UUID actorId, LocalDateTime occurredAt, E event)
+        implements ResolvableTypeProvider {
+
+    // Lets @EventListener methods declare the event type they want, e.g. ClusterEvent<UserChangedEvent>
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(ClusterEvent.class, ResolvableType.forInstance(event));
+    }
+}
@@ -0,0 +1,96 @@
+package com.skillbridge.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.datasource.PgNotificationListener;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans dispatched outbox events out to every node. The dispatcher sends
+ * {@code NOTIFY domain_events, '<outbox id>'} in each event's delivery
+ * transaction, so the notification arrives only once that event's
+ * cluster-wide listeners (read model rows, notifications) have committed.
+ * Each node then reads the rows and publishes them in outbox order as
+ * {@link ClusterEvent}s. After a reconnect a {@link ClusterResyncEvent} tells
+ * the views that events may have been missed.
+ */
+@Component
+@Slf4j
+public class ClusterEventListener extends PgNotificationListener {
+
+    public static final String CHANNEL = "domain_events";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private volatile boolean connectedBefore;
+
+    public ClusterEventListener(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+            ApplicationEventPublisher applicationEventPublisher, DataSourceProperties dataSourceProperties,
+            @Value("${outbox.broadcast.reconnect-delay-ms:2000}") long reconnectDelayMs,
+            @Value("${outbox.broadcast.liveness-interval-ms:10000}") long livenessIntervalMs) {
+        super(CHANNEL, dataSourceProperties, reconnectDelayMs, livenessIntervalMs);
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        startListening();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopListening();
+    }
+
+    @Override
+    protected void onConnected() {
+        // The first connection precedes the views' own startup load
+        if (connectedBefore) {
+            publish(new ClusterResyncEvent());
+        }
+        connectedBefore = true;
+    }
+
+    @Override
+    protected void onDisconnected() {
+    }
+
+    @Override
+    protected void onNotifications(List<String> payloads) {
+        List<Long> ids = payloads.stream().map(Long::valueOf).distinct().toList();
+        List<OutboxEvent> rows = outboxEventRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+        for (OutboxEvent row : rows) {
+            DomainEvent event;
+            try {
+                event = OutboxDispatcher.decode(objectMapper, row);
+            } catch (Exception e) {
+                log.warn("Could not decode outbox event {} for the cluster: {}", row.getId(), e.getMessage());
+                continue;
+            }
+            publish(new ClusterEvent<>(row.getId(), row.getActorId(), row.getCreatedAt(), event));
+        }
+    }
+
+    // A failing view is logged; it must not be mistaken for a lost connection
+    private void publish(Object event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Cluster event listener failed for {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.skillbridge.event;
+
+/**
+ * Published on a node when its {@link ClusterEventListener} is listening
+ * again after a connection loss: cluster events may have been missed in
+ * between, so resident views must reload or drop what they hold.
+ */
+public record ClusterResyncEvent() {
+}
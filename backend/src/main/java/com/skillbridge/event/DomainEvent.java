@@ -0,0 +1,20 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/**
+ * Something that happened to an aggregate, recorded in the outbox in the same
+ * transaction as the change and delivered to in-process listeners afterwards
+ * by the OutboxDispatcher. Events of one aggregate are delivered in the
+ * order they were written; delivery is at-least-once, so listeners must be
+ * idempotent. The bare event reaches one node per cluster; every node sees
+ * it as a {@link ClusterEvent}.
+ */
+public sealed interface DomainEvent permits AssignmentCreatedEvent, AssignmentUpdatedEvent, AssignmentEndedEvent,
+        SkillStatusChangedEvent, EmployeeSkillChangedEvent, AllocationRequestTransitionedEvent, UserChangedEvent,
+        CatalogSkillChangedEvent, EmployeeSummariesRebuiltEvent, ProjectChangedEvent {
+
+    String aggregateType();
+
+    UUID aggregateId();
+}
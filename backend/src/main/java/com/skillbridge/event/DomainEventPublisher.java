@@ -0,0 +1,60 @@
+package com.skillbridge.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.repository.OutboxEventRepository;
+import com.skillbridge.security.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction,
+ * so an event exists if and only if the change that caused it committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        // Flush the aggregate change first: its row lock then orders concurrent
+        // writers before they draw outbox IDs, keeping per-aggregate order
+        entityManager.flush();
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise " + event.getClass().getSimpleName(), e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(event.getClass().getSimpleName())
+                .payload(payload)
+                .actorId(currentActorId())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static UUID currentActorId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails details) {
+            return details.getUser().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.skillbridge.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An employee's skill was added, edited or deleted. skillNames holds every
+ * name involved (old and new on a rename).
+ */
+public record EmployeeSkillChangedEvent(UUID employeeSkillId, UUID employeeId, Set<String> skillNames)
+        implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "EmployeeSkill";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return employeeSkillId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/** The employee_summary table was recomputed as a whole; resident mirrors reload it. */
+public record EmployeeSummariesRebuiltEvent(UUID rebuildId) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "EmployeeSummary";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return rebuildId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.skillbridge.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A dispatched event together with its outbox metadata: who caused it (null
+ * for system changes) and when it was recorded. Published right after the
+ * bare event in the same delivery transaction, so envelope listeners (the
+ * workflow notifications) only see an event once its own listeners have succeeded.
+ */
+public record EventEnvelope(long outboxId, UUID actorId, LocalDateTime occurredAt, DomainEvent event) {
+}
@@ -0,0 +1,159 @@
+package com.skillbridge.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delivers outbox events to in-process listeners (plain Spring
+ * {@code @EventListener}s) in batches, off the write path.
+ *
+ * <p>
+ * Each batch runs under a Postgres advisory lock, so one dispatcher at a time
+ * walks the outbox in ID order. Every event is delivered and marked
+ * dispatched in its own transaction: listener writes commit with the mark,
+ * and a failing listener only holds back later events of the same aggregate
+ * until it succeeds or exhausts outbox.dispatch.max-attempts. A crash between
+ * delivery and commit redelivers the event (at-least-once).
+ *
+ * <p>
+ * Listeners of the bare event run once per cluster, on whichever node holds
+ * the lock: use them for shared side effects (database rows, notifications).
+ * Resident per-node state must listen for {@link ClusterEvent} instead; the
+ * delivery transaction also sends the NOTIFY that {@link ClusterEventListener}
+ * turns into one on every node.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final long DISPATCH_LOCK_KEY = 0x5B1D_0001L;
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Arrays
+            .stream(DomainEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toMap(Class::getSimpleName, type -> type.asSubclass(DomainEvent.class)));
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate eventTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+            ApplicationEventPublisher applicationEventPublisher, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.dispatch.batch-size:200}") int batchSize,
+            @Value("${outbox.dispatch.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.interval-ms:200}")
+    public void dispatch() {
+        // Keep draining while batches come back full and make progress
+        while (Boolean.TRUE.equals(batchTransaction.execute(status -> dispatchBatch()))) {
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        Integer purged = batchTransaction.execute(status -> outboxEventRepository
+                .deleteDispatchedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("Purged {} dispatched outbox events older than {} days", purged, retentionDays);
+    }
+
+    private boolean dispatchBatch() {
+        if (!outboxEventRepository.tryAdvisoryXactLock(DISPATCH_LOCK_KEY)) {
+            return false;
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.findByDispatchedAtIsNullOrderById(
+                PageRequest.of(0, batchSize));
+        // Aggregates with a failed event in this batch: their later events wait
+        Set<String> heldBack = new HashSet<>();
+        int delivered = 0;
+
+        for (OutboxEvent row : batch) {
+            String aggregate = row.getAggregateType() + ":" + row.getAggregateId();
+            if (heldBack.contains(aggregate)) {
+                continue;
+            }
+            try {
+                DomainEvent event = decode(objectMapper, row);
+                EventEnvelope envelope = new EventEnvelope(row.getId(), row.getActorId(), row.getCreatedAt(), event);
+                eventTransaction.executeWithoutResult(status -> {
+                    applicationEventPublisher.publishEvent(event);
+                    applicationEventPublisher.publishEvent(envelope);
+                    outboxEventRepository.markDispatched(row.getId(), LocalDateTime.now());
+                    jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                            ClusterEventListener.CHANNEL, String.valueOf(row.getId()));
+                });
+                delivered++;
+            } catch (Exception e) {
+                heldBack.add(aggregate);
+                recordFailure(row, e);
+            }
+        }
+
+        return batch.size() == batchSize && delivered > 0;
+    }
+
+    public static DomainEvent decode(ObjectMapper objectMapper, OutboxEvent row) throws JsonProcessingException {
+        return objectMapper.readValue(row.getPayload(), eventType(row));
+    }
+
+    private static Class<? extends DomainEvent> eventType(OutboxEvent row) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(row.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown event type " + row.getEventType());
+        }
+        return type;
+    }
+
+    private void recordFailure(OutboxEvent row, Exception e) {
+        row.setAttempts(row.getAttempts() + 1);
+        String message = String.valueOf(e.getMessage());
+        row.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+        if (row.getAttempts() >= maxAttempts) {
+            row.setFailed(true);
+            row.setDispatchedAt(LocalDateTime.now());
+            log.error("Giving up on outbox event {} ({} {}) after {} attempts", row.getId(), row.getEventType(),
+                    row.getAggregateId(), row.getAttempts(), e);
+        } else {
+            log.warn("Outbox event {} ({}) failed, attempt {}: {}", row.getId(), row.getEventType(),
+                    row.getAttempts(), message);
+        }
+    }
+}
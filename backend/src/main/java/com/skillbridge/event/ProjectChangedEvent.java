@@ -0,0 +1,20 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/**
+ * A project was created or had its status changed (by HR, or auto-activated
+ * by its first assignment). Carries only the ID: views re-read the row.
+ */
+public record ProjectChangedEvent(UUID projectId) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.skillbridge.event;
+
+import com.skillbridge.enums.SkillStatus;
+import java.util.UUID;
+
+/** A manager approved or rejected an employee skill. */
+public record SkillStatusChangedEvent(UUID employeeSkillId, UUID employeeId, String skillName,
+        SkillStatus status) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "EmployeeSkill";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return employeeSkillId;
+    }
+}
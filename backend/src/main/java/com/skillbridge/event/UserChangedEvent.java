@@ -0,0 +1,21 @@
+package com.skillbridge.event;
+
+import java.util.UUID;
+
+/**
+ * A user was created, had their profile or reporting line changed, or was
+ * deleted. Manager IDs may be null.
+ */
+public record UserChangedEvent(UUID userId, UUID previousManagerId, UUID managerId, boolean deleted)
+        implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "User";
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return userId;
+    }
+}
@@ -0,0 +1,261 @@
+package com.skillbridge.idempotency;
+
+import com.skillbridge.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Honours the Idempotency-Key header on the write endpoints listed in
+ * idempotency.endpoints. Runs after the security chain, so keys are scoped to
+ * the authenticated user and unauthenticated retries never reach the store.
+ *
+ * <p>
+ * The key is bound to a SHA-256 of method, URI and body: reusing it for a
+ * different request is a 422. The body is held in memory for that, so one
+ * above idempotency.max-body-bytes is refused with 413. A duplicate of a
+ * completed request gets the stored response (status, headers the handler
+ * set, body) with Idempotent-Replayed: true and no transaction runs.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<String[]> endpoints;
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store) {
+        this.properties = properties;
+        this.store = store;
+        // "POST /api/assignments" -> {"POST", "/api/assignments"}
+        this.endpoints = properties.getEndpoints().stream()
+                .map(endpoint -> endpoint.trim().split("\\s+", 2))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!properties.isEnabled() || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return endpoints.stream().noneMatch(endpoint -> endpoint[0].equalsIgnoreCase(request.getMethod())
+                && pathMatcher.match(endpoint[1], uri));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String key = request.getHeader(HEADER).trim();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpServletResponse.SC_BAD_REQUEST,
+                    HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // 1. Bind the key to this exact request; the body is read into memory, so it is bounded
+        int maxBodyBytes = properties.getMaxBodyBytes();
+        byte[] body = request.getContentLengthLong() > maxBodyBytes ? null
+                : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body == null || body.length > maxBodyBytes) {
+            reject(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Requests with an " + HEADER + " are limited to " + maxBodyBytes + " bytes");
+            return;
+        }
+        CachedBodyRequest cached = new CachedBodyRequest(request, body);
+        String requestHash = hash(request, body);
+        IdempotencyStore.Key storeKey = new IdempotencyStore.Key(principal.getUser().getId(), key);
+
+        // 2. Replay, wait for the in-flight original, or execute
+        IdempotencyStore.Decision decision = store.begin(storeKey, requestHash);
+        if (decision instanceof IdempotencyStore.Replay replay) {
+            replay(response, replay.response(), requestHash, IdempotencyStore.Outcome.REPLAYED);
+        } else if (decision instanceof IdempotencyStore.Await await) {
+            IdempotencyStore.StoredResponse original = await(await);
+            if (original == null) {
+                busy(response);
+            } else {
+                replay(response, original, requestHash, IdempotencyStore.Outcome.COALESCED);
+            }
+        } else if (decision instanceof IdempotencyStore.Execute execution) {
+            execute(cached, response, filterChain, execution, requestHash);
+        } else {
+            busy(response);
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+            IdempotencyStore.Execute execution, String requestHash) throws ServletException, IOException {
+        store.count(IdempotencyStore.Outcome.EXECUTED);
+        // Headers already set by earlier filters (CORS, ...) are set again on a replay; store only the handler's
+        Set<String> outerHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        outerHeaders.addAll(response.getHeaderNames());
+        outerHeaders.addAll(List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH));
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotencyStore.StoredResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            wrapper.getHeaderNames().stream()
+                    .filter(name -> !outerHeaders.contains(name))
+                    .forEach(name -> headers.put(name, List.copyOf(wrapper.getHeaders(name))));
+            result = new IdempotencyStore.StoredResponse(requestHash, wrapper.getStatus(),
+                    wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+        } finally {
+            // Unhandled exceptions leave result null, which releases the key for a retry
+            store.complete(execution, result);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private IdempotencyStore.StoredResponse await(IdempotencyStore.Await await) throws IOException {
+        try {
+            return await.future().get(properties.getInFlightWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for the original request", e);
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored, String requestHash,
+            IdempotencyStore.Outcome outcome) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            store.count(IdempotencyStore.Outcome.MISMATCH);
+            reject(response, 422, HEADER + " was already used for a different request");
+            return;
+        }
+        store.count(outcome);
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void busy(HttpServletResponse response) throws IOException {
+        store.count(IdempotencyStore.Outcome.BUSY);
+        response.setHeader("Retry-After", "1");
+        reject(response, HttpServletResponse.SC_CONFLICT, "A request with this " + HEADER + " is still in progress");
+    }
+
+    private static void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("text/plain");
+        response.getWriter().write(message);
+    }
+
+    private static String hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Request whose body has been read up front so it can be hashed and still reach the handler. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // Everything is already in memory: the listener can read it all at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.skillbridge.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    // "METHOD /path/pattern" (Ant style) of endpoints honouring Idempotency-Key; others ignore the header
+    private List<String> endpoints = new ArrayList<>();
+
+    // How long a completed response is replayed for the same key
+    private Duration ttl = Duration.ofHours(24);
+
+    // Completed responses kept in memory; older ones are read back from the table
+    private long maxEntries = 10_000;
+
+    // A duplicate waits this long for the original to finish before getting 409
+    private Duration inFlightWait = Duration.ofSeconds(10);
+
+    // An unfinished key not refreshed by its owner for this long is considered abandoned (node died mid-request)
+    private Duration abandonedAfter = Duration.ofMinutes(2);
+
+    // Larger request bodies are refused with 413; larger response bodies are not stored (the key is released)
+    private int maxBodyBytes = 64 * 1024;
+}
@@ -0,0 +1,269 @@
+package com.skillbridge.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.entity.IdempotencyRecord;
+import com.skillbridge.entity.IdempotencyRecordId;
+import com.skillbridge.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Idempotency keys: a bounded in-memory cache of completed responses in
+ * front of the idempotency_keys table, plus the requests currently executing
+ * on this node.
+ *
+ * <p>
+ * The first request with a key claims it in the table (INSERT ... ON
+ * CONFLICT DO NOTHING, committed before the handler runs), so only one node
+ * ever executes it. Duplicates arriving on the same node meanwhile wait on
+ * the owner's future and replay its response; duplicates on other nodes see
+ * the claimed row and are told to retry (409) until the response is stored.
+ * While a request runs, its node refreshes the claim every
+ * idempotency.heartbeat-interval-ms, so only a claim whose owner died goes
+ * stale and may be taken over after idempotency.abandoned-after. Responses
+ * (status, headers the handler set, body) are kept for idempotency.ttl; 5xx
+ * responses and failures release the key so a retry executes again.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore implements MeterBinder {
+
+    public record Key(UUID userId, String key) {
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType,
+            Map<String, List<String>> headers, byte[] body) {
+    }
+
+    public enum Outcome {
+        EXECUTED, REPLAYED, COALESCED, BUSY, MISMATCH
+    }
+
+    /** What to do with an incoming request: run it (and then {@link #complete}), replay, or wait. */
+    public sealed interface Decision {
+    }
+
+    public record Execute(Key key, CompletableFuture<StoredResponse> future) implements Decision {
+    }
+
+    public record Replay(StoredResponse response) implements Decision {
+    }
+
+    public record Await(CompletableFuture<StoredResponse> future) implements Decision {
+    }
+
+    public record Busy() implements Decision {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate transaction;
+    private final Cache<Key, StoredResponse> completed;
+    private final Map<Key, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    // Keys this node has claimed and is executing; their claims are refreshed by the heartbeat
+    private final Set<Key> executing = ConcurrentHashMap.newKeySet();
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, JdbcTemplate jdbcTemplate,
+            IdempotencyProperties properties, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public Decision begin(Key key, String requestHash) {
+        // 1. Completed recently on this node
+        StoredResponse done = completed.getIfPresent(key);
+        if (done != null) {
+            return new Replay(done);
+        }
+
+        // 2. Executing on this node: coalesce onto it
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return new Await(running);
+        }
+
+        // 3. Claim the key cluster-wide
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(properties.getTtl());
+        boolean claimed;
+        try {
+            claimed = Boolean.TRUE.equals(transaction.execute(status -> claim(key, requestHash, now, expiresAt)
+                    || takeOver(key, requestHash, now, expiresAt, now.minus(properties.getAbandonedAfter()))));
+        } catch (RuntimeException e) {
+            finish(key, mine, null);
+            throw e;
+        }
+        if (claimed) {
+            executing.add(key);
+            return new Execute(key, mine);
+        }
+
+        // 4. Completed earlier (no longer cached) or executing on another node
+        StoredResponse stored = repository.findById(new IdempotencyRecordId(key.userId(), key.key()))
+                .filter(r -> r.getResponseStatus() != null)
+                .map(IdempotencyStore::toResponse)
+                .orElse(null);
+        if (stored != null) {
+            completed.put(key, stored);
+        }
+        finish(key, mine, stored);
+        return stored != null ? new Replay(stored) : new Busy();
+    }
+
+    /** Stores the owner's response for replay, or releases the key when it must not be replayed. */
+    public void complete(Execute execution, StoredResponse response) {
+        Key key = execution.key();
+        boolean replayable = response != null && isReplayable(response.status())
+                && response.body().length <= properties.getMaxBodyBytes();
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (replayable) {
+                    store(key, response);
+                } else {
+                    repository.deleteById(new IdempotencyRecordId(key.userId(), key.key()));
+                }
+            });
+            if (replayable) {
+                completed.put(key, response);
+            }
+        } finally {
+            executing.remove(key);
+            finish(key, execution.future(), replayable ? response : null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (executing.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transaction.executeWithoutResult(status -> executing.forEach(key -> touch(key, now)));
+    }
+
+    // Plain JDBC for the statements on idempotency_keys: a native statement through Hibernate
+    // would flush the second-level cache on every keyed write and every heartbeat
+
+    /** True when this caller now owns the key. */
+    private boolean claim(Key key, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbcTemplate.update("INSERT INTO idempotency_keys "
+                + "(user_id, idempotency_key, request_hash, created_at, expires_at) VALUES (?, ?, ?, ?, ?) "
+                + "ON CONFLICT DO NOTHING",
+                key.userId(), key.key(), requestHash, now, expiresAt) == 1;
+    }
+
+    /** Takes over a key whose entry expired or whose owner stopped before completing it. */
+    private boolean takeOver(Key key, String requestHash, LocalDateTime now, LocalDateTime expiresAt,
+            LocalDateTime abandonedBefore) {
+        return jdbcTemplate.update("UPDATE idempotency_keys SET request_hash = ?, created_at = ?, expires_at = ?, "
+                + "response_status = NULL, response_content_type = NULL, response_headers = NULL, "
+                + "response_body = NULL WHERE user_id = ? AND idempotency_key = ? "
+                + "AND (expires_at < ? OR (response_status IS NULL AND created_at < ?))",
+                requestHash, now, expiresAt, key.userId(), key.key(), now, abandonedBefore) == 1;
+    }
+
+    // Owner's heartbeat: a key still executing is not mistaken for an abandoned one
+    private void touch(Key key, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = ? "
+                + "WHERE user_id = ? AND idempotency_key = ? AND response_status IS NULL",
+                now, key.userId(), key.key());
+    }
+
+    private void store(Key key, StoredResponse response) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET response_status = ?, response_content_type = ?, "
+                + "response_headers = ?, response_body = ? WHERE user_id = ? AND idempotency_key = ?",
+                response.status(), response.contentType(), encodeHeaders(response.headers()), response.body(),
+                key.userId(), key.key());
+    }
+
+    public void count(Outcome outcome) {
+        Counter counter = outcomes.get(outcome);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private void finish(Key key, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        inFlight.remove(key, future);
+        future.complete(response);
+    }
+
+    // Server errors, throttling and auth failures are not outcomes of the request itself
+    private static boolean isReplayable(int status) {
+        return status < 500 && status != 429 && status != 401 && status != 403;
+    }
+
+    private static StoredResponse toResponse(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+                record.getResponseContentType(), decodeHeaders(record.getResponseHeaders()),
+                record.getResponseBody() != null ? record.getResponseBody() : new byte[0]);
+    }
+
+    // One "Name: value" line per header value; header values never contain line breaks
+    private static String encodeHeaders(Map<String, List<String>> headers) {
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values
+                .forEach(value -> encoded.append(name).append(": ").append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    private static Map<String, List<String>> decodeHeaders(String encoded) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (encoded == null) {
+            return headers;
+        }
+        for (String line : encoded.split("\n")) {
+            int colon = line.indexOf(": ");
+            if (colon > 0) {
+                headers.computeIfAbsent(line.substring(0, colon), name -> new ArrayList<>())
+                        .add(line.substring(colon + 2));
+            }
+        }
+        return headers;
+    }
+
+    @Scheduled(cron = "${idempotency.purge-cron:0 20 * * * *}")
+    public void purgeExpired() {
+        Integer purged = transaction.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("idempotency.requests")
+                    .description("Requests carrying an Idempotency-Key, by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.BillingType;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the scheduling-relevant fields of an ACTIVE assignment.
+ * A null {@code endDate} means open-ended; both bounds are inclusive.
+ */
+public record AllocationInterval(
+        UUID assignmentId,
+        UUID employeeId,
+        UUID projectId,
+        int percent,
+        BillingType billingType,
+        LocalDate startDate,
+        LocalDate endDate) {
+
+    public static AllocationInterval from(ProjectAssignment assignment) {
+        return new AllocationInterval(
+                assignment.getId(),
+                assignment.getEmployeeId(),
+                assignment.getProjectId(),
+                assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100,
+                assignment.getBillingType(),
+                assignment.getStartDate(),
+                assignment.getEndDate());
+    }
+}
@@ -0,0 +1,185 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident per-employee index of ACTIVE assignments by date range. Answers
+ * "peak allocation over [start, end]" without scanning project_assignments.
+ *
+ * <p>
+ * Kept current by {@link ProjectAssignmentListener}, for this node's writes
+ * and other nodes' alike; employees not yet seen
+ * are loaded from the database on first access. Every applied change bumps
+ * the employee's generation first, and a loaded timeline is only cached if
+ * the generation did not move while it was read: otherwise a change that
+ * committed mid-load (and found no entry to update) would be lost for good.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CapacityCalendar {
+
+    private static final int PRELOAD_BATCH = 1000;
+
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final Map<UUID, EmployeeTimeline> timelines = new ConcurrentHashMap<>();
+    // Striped change counters; a shared stripe only costs an extra reload
+    private final AtomicLongArray generations = new AtomicLongArray(1024);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long[] before = new long[generations.length()];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = generations.get(i);
+        }
+        Map<UUID, List<AllocationInterval>> byEmployee = assignmentRepository
+                .findByAssignmentStatus(AssignmentStatus.ACTIVE).stream()
+                .map(AllocationInterval::from)
+                .collect(Collectors.groupingBy(AllocationInterval::employeeId));
+        byEmployee.forEach((employeeId, intervals) -> cacheIfUnchanged(employeeId,
+                before[stripe(employeeId)], EmployeeTimeline.of(intervals), false));
+        log.info("Capacity calendar loaded for {} employees", byEmployee.size());
+    }
+
+    // Changes from other nodes may have been missed: drop everything, readers reload
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        for (int i = 0; i < generations.length(); i++) {
+            generations.incrementAndGet(i);
+        }
+        timelines.clear();
+    }
+
+    /**
+     * Re-reads an employee's ACTIVE assignments from the database. Used under
+     * {@link EmployeeLocks} and the employee row lock right before a capacity
+     * check, so the check also sees writes committed by other nodes.
+     */
+    public void reload(UUID employeeId) {
+        long generation = generations.get(stripe(employeeId));
+        // Writes that skip the employee lock (ending, rejecting) can still land mid-load
+        cacheIfUnchanged(employeeId, generation, load(employeeId), true);
+    }
+
+    public int peakAllocation(UUID employeeId, LocalDate from, LocalDate to) {
+        return timeline(employeeId).peak(from, to);
+    }
+
+    /**
+     * Peak allocation ignoring one assignment, for re-validating an assignment
+     * whose own percentage or dates are being changed.
+     */
+    public int peakAllocationExcluding(UUID employeeId, LocalDate from, LocalDate to, UUID assignmentId) {
+        return timeline(employeeId).without(assignmentId).peak(from, to);
+    }
+
+    public int availableCapacity(UUID employeeId, LocalDate from, LocalDate to) {
+        return Math.max(0, 100 - peakAllocation(employeeId, from, to));
+    }
+
+    /**
+     * Available capacity of many employees over [from, to]. Employees without
+     * a resident timeline (including everyone with no ACTIVE assignment) are
+     * loaded with one query per {@value #PRELOAD_BATCH} instead of one each.
+     */
+    public Map<UUID, Integer> availableCapacity(Collection<UUID> employeeIds, LocalDate from, LocalDate to) {
+        preload(employeeIds);
+        Map<UUID, Integer> available = new HashMap<>(employeeIds.size() * 2);
+        for (UUID employeeId : employeeIds) {
+            available.put(employeeId, availableCapacity(employeeId, from, to));
+        }
+        return available;
+    }
+
+    /**
+     * Applies the current state of an assignment: ACTIVE rows are upserted,
+     * anything else is dropped from the calendar.
+     */
+    public void apply(ProjectAssignment assignment) {
+        if (assignment.getAssignmentStatus() == AssignmentStatus.ACTIVE) {
+            AllocationInterval interval = AllocationInterval.from(assignment);
+            generations.incrementAndGet(stripe(interval.employeeId()));
+            // No entry: nothing to update, the next reader loads the committed state
+            timelines.computeIfPresent(interval.employeeId(), (id, timeline) -> timeline.with(interval));
+        } else {
+            remove(assignment);
+        }
+    }
+
+    public void remove(ProjectAssignment assignment) {
+        generations.incrementAndGet(stripe(assignment.getEmployeeId()));
+        timelines.computeIfPresent(assignment.getEmployeeId(), (id, timeline) -> timeline.without(assignment.getId()));
+    }
+
+    private EmployeeTimeline timeline(UUID employeeId) {
+        EmployeeTimeline timeline = timelines.get(employeeId);
+        if (timeline != null) {
+            return timeline;
+        }
+        long generation = generations.get(stripe(employeeId));
+        return cacheIfUnchanged(employeeId, generation, load(employeeId), false);
+    }
+
+    /**
+     * Caches a timeline read while the employee's generation was
+     * {@code generation}, unless an entry appeared meanwhile (it is kept,
+     * except with {@code replace}) or a change was applied meanwhile (the
+     * load is used once and not cached, and a replaced entry is dropped).
+     */
+    private EmployeeTimeline cacheIfUnchanged(UUID employeeId, long generation, EmployeeTimeline loaded,
+            boolean replace) {
+        EmployeeTimeline cached = timelines.compute(employeeId, (id, current) -> {
+            if (current != null && !replace) {
+                return current;
+            }
+            return generations.get(stripe(id)) == generation ? loaded : null;
+        });
+        return cached != null ? cached : loaded;
+    }
+
+    private void preload(Collection<UUID> employeeIds) {
+        List<UUID> missing = employeeIds.stream().filter(id -> !timelines.containsKey(id)).toList();
+        for (int offset = 0; offset < missing.size(); offset += PRELOAD_BATCH) {
+            List<UUID> batch = missing.subList(offset, Math.min(offset + PRELOAD_BATCH, missing.size()));
+            Map<UUID, Long> before = new HashMap<>(batch.size() * 2);
+            batch.forEach(id -> before.put(id, generations.get(stripe(id))));
+            Map<UUID, List<AllocationInterval>> byEmployee = assignmentRepository
+                    .findByEmployeeIdInAndAssignmentStatus(batch, AssignmentStatus.ACTIVE).stream()
+                    .map(AllocationInterval::from)
+                    .collect(Collectors.groupingBy(AllocationInterval::employeeId));
+            for (UUID employeeId : batch) {
+                cacheIfUnchanged(employeeId, before.get(employeeId),
+                        EmployeeTimeline.of(byEmployee.getOrDefault(employeeId, List.of())), false);
+            }
+        }
+    }
+
+    private int stripe(UUID employeeId) {
+        int h = employeeId.hashCode();
+        return (h ^ (h >>> 16)) & (generations.length() - 1);
+    }
+
+    private EmployeeTimeline load(UUID employeeId) {
+        return EmployeeTimeline.of(assignmentRepository
+                .findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE).stream()
+                .map(AllocationInterval::from)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.skillbridge.index;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Striped per-employee locks for check-then-write sequences such as capacity
+ * validation. Writes for different employees almost never share a stripe, so
+ * they proceed in parallel; writes for the same employee queue here instead of
+ * on the database row lock, without each waiter holding a row lock.
+ */
+@Component
+public class EmployeeLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public EmployeeLocks(
+            @Value("${assignments.lock.stripes:256}") int stripeCount,
+            @Value("${assignments.lock.timeout-ms:5000}") long timeoutMillis) {
+        // Round up to a power of two so the stripe can be picked with a mask
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Locks the employee's stripe until the current transaction completes
+     * (commit or rollback), so resident views are updated before the next
+     * writer for the same employee reads them.
+     */
+    public void lockForTransaction(UUID employeeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Employee lock requires an active transaction");
+        }
+
+        ReentrantLock lock = stripes[stripe(employeeId)];
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException(
+                        "Another allocation change for this employee is in progress. Please retry.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for employee lock", e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private int stripe(UUID employeeId) {
+        int h = employeeId.hashCode();
+        return (h ^ (h >>> 16)) & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,186 @@
+package com.skillbridge.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.dto.SkillResponse;
+import com.skillbridge.dto.UserProfileResponse;
+import com.skillbridge.entity.EmployeeSummary;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.event.EmployeeSkillChangedEvent;
+import com.skillbridge.event.EmployeeSummariesRebuiltEvent;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.EmployeeSummaryRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident mirror of the employee_summary table, holding each row already
+ * shaped as the profile the API returns. Loaded once from the table;
+ * afterwards every node re-reads the rows an event touched when it arrives
+ * as a {@link ClusterEvent} (EmployeeSummaryService has written them in the
+ * event's delivery transaction, which commits before the broadcast), and the
+ * whole table after a rebuild or a missed-events resync. Responses are
+ * shared between callers and must not be modified.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSummaryIndex {
+
+    private static final TypeReference<List<SkillResponse>> SKILL_LIST = new TypeReference<>() {
+    };
+
+    private final EmployeeSummaryRepository employeeSummaryRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, UserProfileResponse> profiles = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public UserProfileResponse get(UUID employeeId) {
+        ensureLoaded();
+        return profiles.get(employeeId);
+    }
+
+    /** Profiles of the given users that have a summary, in the order given. */
+    public List<UserProfileResponse> getAll(Collection<UUID> employeeIds) {
+        ensureLoaded();
+        return employeeIds.stream().map(profiles::get).filter(Objects::nonNull).toList();
+    }
+
+    public List<UserProfileResponse> byRole(Role role) {
+        ensureLoaded();
+        return profiles.values().stream().filter(profile -> profile.getRole() == role).toList();
+    }
+
+    @EventListener
+    public void onAssignmentCreated(ClusterEvent<AssignmentCreatedEvent> clusterEvent) {
+        refresh(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onAssignmentUpdated(ClusterEvent<AssignmentUpdatedEvent> clusterEvent) {
+        refresh(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onAssignmentEnded(ClusterEvent<AssignmentEndedEvent> clusterEvent) {
+        refresh(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onSkillChanged(ClusterEvent<EmployeeSkillChangedEvent> clusterEvent) {
+        refresh(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onSkillStatusChanged(ClusterEvent<SkillStatusChangedEvent> clusterEvent) {
+        refresh(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onUserChanged(ClusterEvent<UserChangedEvent> clusterEvent) {
+        UUID userId = clusterEvent.event().userId();
+        refresh(userId);
+        if (loaded) {
+            // Reports carry the user's name as their manager name
+            employeeSummaryRepository.findByManagerId(userId)
+                    .forEach(summary -> profiles.put(summary.getEmployeeId(), toProfile(summary)));
+        }
+    }
+
+    @EventListener
+    public void onRebuilt(ClusterEvent<EmployeeSummariesRebuiltEvent> clusterEvent) {
+        reload();
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        reload();
+    }
+
+    /** Replaces the whole mirror from the table. */
+    public synchronized void reload() {
+        loaded = false;
+        ensureLoaded();
+    }
+
+    /** Re-reads one employee's row; nothing to do before the first load, which reads it anyway. */
+    private void refresh(UUID employeeId) {
+        if (!loaded) {
+            return;
+        }
+        employeeSummaryRepository.findById(employeeId).ifPresentOrElse(
+                summary -> profiles.put(employeeId, toProfile(summary)),
+                () -> profiles.remove(employeeId));
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            Map<UUID, UserProfileResponse> fresh = new ConcurrentHashMap<>();
+            employeeSummaryRepository.findAll()
+                    .forEach(summary -> fresh.put(summary.getEmployeeId(), toProfile(summary)));
+            profiles.keySet().retainAll(fresh.keySet());
+            profiles.putAll(fresh);
+            loaded = true;
+            log.info("Employee summary mirror loaded: {} rows", fresh.size());
+        }
+    }
+
+    private UserProfileResponse toProfile(EmployeeSummary summary) {
+        List<SkillResponse> skills;
+        try {
+            skills = objectMapper.readValue(summary.getSkills(), SKILL_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt skills in employee summary " + summary.getEmployeeId(), e);
+        }
+        String employeeName = summary.getFirstName() + " " + summary.getLastName();
+        skills.forEach(skill -> {
+            skill.setEmployeeId(summary.getEmployeeId());
+            skill.setEmployeeName(employeeName);
+            skill.setEmployeeEmail(summary.getEmail());
+        });
+
+        return UserProfileResponse.builder()
+                .id(summary.getEmployeeId())
+                .email(summary.getEmail())
+                .firstName(summary.getFirstName())
+                .lastName(summary.getLastName())
+                .role(summary.getRole())
+                .managerId(summary.getManagerId())
+                .managerName(summary.getManagerName())
+                .assignmentStatus(summary.getAssignmentStatus())
+                .projectName(summary.getProjectName())
+                .companyName(summary.getCompanyName())
+                .startDate(summary.getStartDate())
+                .endDate(summary.getEndDate())
+                .billingStatus(summary.getBillingStatus())
+                .totalUtilization(summary.getTotalUtilization())
+                .skills(List.copyOf(skills))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.skillbridge.index;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Immutable allocation step function for one employee.
+ *
+ * <p>
+ * {@code levels} maps each date on which the employee's total allocation
+ * changes to the total from that date until the next key, so the peak over a
+ * window is the level in force at its start plus the maximum of the
+ * breakpoints inside it: O(log n + k).
+ */
+final class EmployeeTimeline {
+
+    static final EmployeeTimeline EMPTY = new EmployeeTimeline(Map.of());
+
+    private final Map<UUID, AllocationInterval> intervals;
+    private final NavigableMap<LocalDate, Integer> levels;
+
+    private EmployeeTimeline(Map<UUID, AllocationInterval> intervals) {
+        this.intervals = intervals;
+        this.levels = buildLevels(intervals.values());
+    }
+
+    static EmployeeTimeline of(Collection<AllocationInterval> intervals) {
+        Map<UUID, AllocationInterval> byId = new HashMap<>();
+        for (AllocationInterval interval : intervals) {
+            byId.put(interval.assignmentId(), interval);
+        }
+        return new EmployeeTimeline(Map.copyOf(byId));
+    }
+
+    EmployeeTimeline with(AllocationInterval interval) {
+        Map<UUID, AllocationInterval> copy = new HashMap<>(intervals);
+        copy.put(interval.assignmentId(), interval);
+        return new EmployeeTimeline(Map.copyOf(copy));
+    }
+
+    EmployeeTimeline without(UUID assignmentId) {
+        if (!intervals.containsKey(assignmentId)) {
+            return this;
+        }
+        Map<UUID, AllocationInterval> copy = new HashMap<>(intervals);
+        copy.remove(assignmentId);
+        return new EmployeeTimeline(Map.copyOf(copy));
+    }
+
+    Collection<AllocationInterval> intervals() {
+        return intervals.values();
+    }
+
+    /**
+     * Highest total allocation on any day in [from, to]; a null {@code to}
+     * means open-ended.
+     */
+    int peak(LocalDate from, LocalDate to) {
+        Map.Entry<LocalDate, Integer> inForce = levels.floorEntry(from);
+        int peak = inForce != null ? inForce.getValue() : 0;
+
+        NavigableMap<LocalDate, Integer> inside = to != null
+                ? levels.subMap(from, false, to, true)
+                : levels.tailMap(from, false);
+        for (int level : inside.values()) {
+            peak = Math.max(peak, level);
+        }
+        return peak;
+    }
+
+    private static NavigableMap<LocalDate, Integer> buildLevels(Collection<AllocationInterval> intervals) {
+        TreeMap<LocalDate, Integer> deltas = new TreeMap<>();
+        for (AllocationInterval interval : intervals) {
+            deltas.merge(interval.startDate(), interval.percent(), Integer::sum);
+            if (interval.endDate() != null) {
+                // End date is inclusive, so the allocation drops the day after
+                deltas.merge(interval.endDate().plusDays(1), -interval.percent(), Integer::sum);
+            }
+        }
+
+        TreeMap<LocalDate, Integer> levels = new TreeMap<>();
+        int running = 0;
+        for (Map.Entry<LocalDate, Integer> delta : deltas.entrySet()) {
+            running += delta.getValue();
+            levels.put(delta.getKey(), running);
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,261 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.User;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.UserRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident copy of the users.manager_id tree with an in-memory closure of
+ * each user's ancestors.
+ *
+ * <p>
+ * "Is A under B" is a set lookup (O(1)); "everyone under X" walks only X's
+ * subtree. Re-parenting a user recomputes the closure for that user's subtree
+ * only.
+ *
+ * <p>
+ * The writing node applies its own changes after commit; every node applies
+ * them from the user's {@link ClusterEvent} and reloads after a reconnect.
+ * Two nodes re-parenting concurrently can still commit a manager loop, so
+ * walks never revisit a user.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrgHierarchy {
+
+    private final UserRepository userRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, UUID> managerOf = new HashMap<>();
+    private final Map<UUID, Set<UUID>> reportsOf = new HashMap<>();
+    private final Map<UUID, Set<UUID>> ancestorsOf = new HashMap<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /** The user's manager, or null. */
+    public UUID managerOf(UUID userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return managerOf.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Direct reports only. */
+    public Set<UUID> directReports(UUID managerId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(reportsOf.getOrDefault(managerId, Set.of()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Everyone under the given user at any depth, excluding the user. */
+    public List<UUID> subtree(UUID rootId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<UUID> result = new ArrayList<>();
+            Set<UUID> visited = new HashSet<>();
+            visited.add(rootId);
+            Deque<UUID> pending = new ArrayDeque<>(reportsOf.getOrDefault(rootId, Set.of()));
+            while (!pending.isEmpty()) {
+                UUID next = pending.pop();
+                if (!visited.add(next)) {
+                    continue;
+                }
+                result.add(next);
+                pending.addAll(reportsOf.getOrDefault(next, Set.of()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** True if {@code userId} reports to {@code managerId} directly or transitively. */
+    public boolean isUnder(UUID userId, UUID managerId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return ancestorsOf.getOrDefault(userId, Set.of()).contains(managerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** True if making {@code managerId} the manager of {@code userId} would close a loop. */
+    public boolean wouldCreateCycle(UUID userId, UUID managerId) {
+        return managerId != null && (managerId.equals(userId) || isUnder(managerId, userId));
+    }
+
+    public void upsert(UUID userId, UUID managerId) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            UUID previous = managerOf.get(userId);
+            if (managerOf.containsKey(userId) && Objects.equals(previous, managerId)) {
+                return;
+            }
+            detach(userId);
+            managerOf.put(userId, managerId);
+            if (managerId != null) {
+                reportsOf.computeIfAbsent(managerId, k -> new HashSet<>()).add(userId);
+            }
+            recomputeAncestors(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a user. Their reports lose their manager, mirroring
+     * UserService.deleteUser.
+     */
+    public void remove(UUID userId) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            detach(userId);
+            managerOf.remove(userId);
+            ancestorsOf.remove(userId);
+            Set<UUID> orphans = reportsOf.remove(userId);
+            if (orphans != null) {
+                for (UUID orphan : orphans) {
+                    managerOf.put(orphan, null);
+                    recomputeAncestors(orphan);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Delivered on every node, after the change committed; the row is re-read so a redelivery cannot go back
+    @EventListener
+    public void onUserChanged(ClusterEvent<UserChangedEvent> clusterEvent) {
+        UserChangedEvent event = clusterEvent.event();
+        User user = event.deleted() ? null : userRepository.findById(event.userId()).orElse(null);
+        if (user == null) {
+            remove(event.userId());
+        } else {
+            upsert(user.getId(), user.getManagerId());
+        }
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        lock.writeLock().lock();
+        try {
+            load();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void load() {
+        List<User> users = userRepository.findAll();
+        managerOf.clear();
+        reportsOf.clear();
+        ancestorsOf.clear();
+        for (User user : users) {
+            managerOf.put(user.getId(), user.getManagerId());
+            if (user.getManagerId() != null) {
+                reportsOf.computeIfAbsent(user.getManagerId(), k -> new HashSet<>()).add(user.getId());
+            }
+        }
+        for (UUID userId : managerOf.keySet()) {
+            if (managerOf.get(userId) == null || !managerOf.containsKey(managerOf.get(userId))) {
+                recomputeAncestors(userId);
+            }
+        }
+        // Users on a manager loop have no root above them
+        for (UUID userId : managerOf.keySet()) {
+            if (!ancestorsOf.containsKey(userId)) {
+                recomputeAncestors(userId);
+            }
+        }
+        loaded = true;
+        log.info("Org hierarchy loaded for {} users", users.size());
+    }
+
+    // Caller holds the write lock
+    private void detach(UUID userId) {
+        UUID previous = managerOf.get(userId);
+        if (previous != null) {
+            Set<UUID> siblings = reportsOf.get(previous);
+            if (siblings != null) {
+                siblings.remove(userId);
+                if (siblings.isEmpty()) {
+                    reportsOf.remove(previous);
+                }
+            }
+        }
+    }
+
+    // Caller holds the write lock. Top-down over the subtree rooted at userId.
+    private void recomputeAncestors(UUID userId) {
+        Set<UUID> visited = new HashSet<>();
+        Deque<UUID> pending = new ArrayDeque<>();
+        pending.push(userId);
+        while (!pending.isEmpty()) {
+            UUID node = pending.pop();
+            if (!visited.add(node)) {
+                continue; // Defensive: never loop on corrupt manager_id data
+            }
+            UUID manager = managerOf.get(node);
+            Set<UUID> ancestors;
+            if (manager == null) {
+                ancestors = Collections.emptySet();
+            } else {
+                ancestors = new HashSet<>(ancestorsOf.getOrDefault(manager, Set.of()));
+                ancestors.add(manager);
+            }
+            ancestorsOf.put(node, ancestors);
+            pending.addAll(reportsOf.getOrDefault(node, Set.of()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps resident assignment views in step with every write path
+ * (services, the allocation-request workflow, user deletion, seeding)
+ * without each of them having to remember to do so.
+ *
+ * <p>
+ * The entity callbacks only fire on the node that made the write. Writes made
+ * elsewhere arrive as assignment {@link ClusterEvent}s, for which the row is
+ * re-read and its committed state applied; the writing node gets them too,
+ * which is harmless because applying a state is idempotent.
+ */
+@Component
+public class ProjectAssignmentListener {
+
+    private final CapacityCalendar capacityCalendar;
+    private final UtilizationCounters utilizationCounters;
+    private final ProjectStaffingCounters projectStaffingCounters;
+    private final ProjectAssignmentRepository assignmentRepository;
+
+    // Lazy: Hibernate instantiates listeners while the EntityManagerFactory that
+    // the views' repositories need is still being built
+    public ProjectAssignmentListener(@Lazy CapacityCalendar capacityCalendar,
+            @Lazy UtilizationCounters utilizationCounters, @Lazy ProjectStaffingCounters projectStaffingCounters,
+            @Lazy ProjectAssignmentRepository assignmentRepository) {
+        this.capacityCalendar = capacityCalendar;
+        this.utilizationCounters = utilizationCounters;
+        this.projectStaffingCounters = projectStaffingCounters;
+        this.assignmentRepository = assignmentRepository;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(ProjectAssignment assignment) {
+        // Read the entity at commit time so several flushes collapse into its final state
+        AfterCommit.run(() -> apply(assignment));
+    }
+
+    @PostRemove
+    public void onRemoved(ProjectAssignment assignment) {
+        AfterCommit.run(() -> {
+            capacityCalendar.remove(assignment);
+            utilizationCounters.remove(assignment);
+            projectStaffingCounters.remove(assignment);
+        });
+    }
+
+    @EventListener
+    public void onCreated(ClusterEvent<AssignmentCreatedEvent> clusterEvent) {
+        AssignmentCreatedEvent event = clusterEvent.event();
+        sync(event.assignmentId(), event.employeeId(), event.projectId());
+    }
+
+    @EventListener
+    public void onUpdated(ClusterEvent<AssignmentUpdatedEvent> clusterEvent) {
+        AssignmentUpdatedEvent event = clusterEvent.event();
+        sync(event.assignmentId(), event.employeeId(), event.projectId());
+    }
+
+    @EventListener
+    public void onEnded(ClusterEvent<AssignmentEndedEvent> clusterEvent) {
+        AssignmentEndedEvent event = clusterEvent.event();
+        sync(event.assignmentId(), event.employeeId(), event.projectId());
+    }
+
+    private void sync(UUID assignmentId, UUID employeeId, UUID projectId) {
+        // A row deleted since (with its employee) is no longer ACTIVE either
+        ProjectAssignment current = assignmentRepository.findById(assignmentId)
+                .orElseGet(() -> ProjectAssignment.builder()
+                        .id(assignmentId)
+                        .employeeId(employeeId)
+                        .projectId(projectId)
+                        .assignmentStatus(AssignmentStatus.ENDED)
+                        .build());
+        apply(current);
+    }
+
+    private void apply(ProjectAssignment assignment) {
+        capacityCalendar.apply(assignment);
+        utilizationCounters.apply(assignment);
+        projectStaffingCounters.apply(assignment);
+    }
+}
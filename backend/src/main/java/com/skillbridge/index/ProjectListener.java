@@ -0,0 +1,70 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.Project;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ProjectChangedEvent;
+import com.skillbridge.repository.ProjectRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.List;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the project tech index and staffing counters in step with createProject,
+ * updateProjectStatus and the auto-activation done when assigning to a
+ * PLANNED project.
+ *
+ * <p>
+ * As with {@link ProjectAssignmentListener}, the entity callbacks only cover
+ * the writing node; the others re-read the project on its
+ * {@link ProjectChangedEvent}.
+ */
+@Component
+public class ProjectListener {
+
+    private final ProjectTechIndex projectTechIndex;
+    private final ProjectStaffingCounters projectStaffingCounters;
+    private final ProjectRepository projectRepository;
+
+    public ProjectListener(@Lazy ProjectTechIndex projectTechIndex,
+            @Lazy ProjectStaffingCounters projectStaffingCounters, @Lazy ProjectRepository projectRepository) {
+        this.projectTechIndex = projectTechIndex;
+        this.projectStaffingCounters = projectStaffingCounters;
+        this.projectRepository = projectRepository;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Project project) {
+        AfterCommit.run(() -> apply(project));
+    }
+
+    @PostRemove
+    public void onRemoved(Project project) {
+        AfterCommit.run(() -> {
+            projectTechIndex.remove(project.getId());
+            projectStaffingCounters.removeProject(project.getId());
+        });
+    }
+
+    @EventListener
+    public void onChanged(ClusterEvent<ProjectChangedEvent> clusterEvent) {
+        // Tech stack fetched with the row: there is no session to load it lazily here
+        List<Project> current = projectRepository
+                .findAllWithTechStackByIdIn(List.of(clusterEvent.event().projectId()));
+        if (current.isEmpty()) {
+            projectTechIndex.remove(clusterEvent.event().projectId());
+            projectStaffingCounters.removeProject(clusterEvent.event().projectId());
+        } else {
+            apply(current.get(0));
+        }
+    }
+
+    private void apply(Project project) {
+        projectTechIndex.put(project);
+        projectStaffingCounters.put(project);
+    }
+}
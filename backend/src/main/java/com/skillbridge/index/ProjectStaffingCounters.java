@@ -0,0 +1,244 @@
+package com.skillbridge.index;
+
+import com.skillbridge.dto.ProjectStaffingResponse;
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident per-project staffing: headcount (distinct employees with an ACTIVE
+ * assignment) and allocated FTE (sum of ACTIVE allocation percentages)
+ * against Project.employeesRequired, so the staffing-gap view never joins
+ * project_assignments.
+ *
+ * <p>
+ * Assignment changes arrive from {@link ProjectAssignmentListener}, project
+ * changes (status, required headcount) from {@link ProjectListener}; both
+ * also apply writes made on other nodes, from their cluster events. Each
+ * project's state is an immutable snapshot replaced atomically, with its
+ * totals computed once per change. {@link #reconcile} recounts from the
+ * database on a schedule and logs any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectStaffingCounters implements MeterBinder {
+
+    /** Allocation of one ACTIVE assignment. */
+    private record Allocation(UUID employeeId, int percent) {
+    }
+
+    /**
+     * A tracked project. Projects seen first through an assignment have no
+     * details (null status) until their project row is applied.
+     */
+    private record Staffing(String name, String companyName, ProjectStatus status, Integer required,
+            Map<UUID, Allocation> active, int headcount, int percent) {
+
+        static final Staffing EMPTY = of(null, null, null, null, Map.of());
+
+        static Staffing of(String name, String companyName, ProjectStatus status, Integer required,
+                Map<UUID, Allocation> active) {
+            int headcount = (int) active.values().stream().map(Allocation::employeeId).distinct().count();
+            int percent = active.values().stream().mapToInt(Allocation::percent).sum();
+            return new Staffing(name, companyName, status, required, active, headcount, percent);
+        }
+
+        Staffing withActive(Map<UUID, Allocation> newActive) {
+            return of(name, companyName, status, required, newActive);
+        }
+
+        int headcountGap() {
+            return required != null ? required - headcount : 0;
+        }
+
+        double fteGap() {
+            return required != null ? required - percent / 100.0 : 0;
+        }
+    }
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+
+    private final Map<UUID, Staffing> projects = new ConcurrentHashMap<>();
+    // Updates share the read lock; reconcile takes the write lock to swap in a recount
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Counter drift;
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * Projects with a required headcount, largest headcount gap first (then
+     * FTE gap). {@code statuses} defaults to PLANNED and ACTIVE; with
+     * {@code understaffedOnly} fully staffed projects are left out.
+     */
+    public List<ProjectStaffingResponse> gaps(Set<ProjectStatus> statuses, boolean understaffedOnly) {
+        ensureLoaded();
+        Set<ProjectStatus> wanted = statuses == null || statuses.isEmpty()
+                ? Set.of(ProjectStatus.PLANNED, ProjectStatus.ACTIVE)
+                : statuses;
+        return projects.entrySet().stream()
+                .filter(entry -> entry.getValue().status() != null && wanted.contains(entry.getValue().status()))
+                .filter(entry -> entry.getValue().required() != null)
+                .filter(entry -> !understaffedOnly || entry.getValue().headcountGap() > 0
+                        || entry.getValue().fteGap() > 0)
+                .map(entry -> toResponse(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(ProjectStaffingResponse::getHeadcountGap).reversed()
+                        .thenComparing(Comparator.comparingDouble(ProjectStaffingResponse::getFteGap).reversed())
+                        .thenComparing(ProjectStaffingResponse::getProjectName))
+                .collect(Collectors.toList());
+    }
+
+    /** Applies the current state of an assignment: ACTIVE rows are upserted, anything else is dropped. */
+    public void apply(ProjectAssignment assignment) {
+        if (assignment.getAssignmentStatus() != AssignmentStatus.ACTIVE) {
+            remove(assignment);
+            return;
+        }
+        Allocation allocation = new Allocation(assignment.getEmployeeId(),
+                assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100);
+        update(assignment.getProjectId(), staffing -> {
+            if (allocation.equals(staffing.active().get(assignment.getId()))) {
+                return staffing;
+            }
+            Map<UUID, Allocation> active = new HashMap<>(staffing.active());
+            active.put(assignment.getId(), allocation);
+            return staffing.withActive(Map.copyOf(active));
+        });
+    }
+
+    public void remove(ProjectAssignment assignment) {
+        update(assignment.getProjectId(), staffing -> {
+            if (!staffing.active().containsKey(assignment.getId())) {
+                return staffing;
+            }
+            Map<UUID, Allocation> active = new HashMap<>(staffing.active());
+            active.remove(assignment.getId());
+            return staffing.withActive(Map.copyOf(active));
+        });
+    }
+
+    public void put(Project project) {
+        update(project.getId(), staffing -> Staffing.of(project.getName(), project.getCompanyName(),
+                project.getStatus(), project.getEmployeesRequired(), staffing.active()));
+    }
+
+    public void removeProject(UUID projectId) {
+        update(projectId, staffing -> null);
+    }
+
+    @Scheduled(cron = "${projects.staffing.reconcile-cron:0 */15 * * * *}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            Map<UUID, Staffing> fresh = load();
+            if (loaded && !fresh.equals(projects)) {
+                long differing = fresh.keySet().stream()
+                        .filter(id -> !fresh.get(id).equals(projects.get(id)))
+                        .count() + projects.keySet().stream().filter(id -> !fresh.containsKey(id)).count();
+                log.warn("Project staffing counters drifted for {} projects; replaced with a recount", differing);
+                if (drift != null) {
+                    drift.increment();
+                }
+            }
+            projects.clear();
+            projects.putAll(fresh);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        reconcile();
+    }
+
+    /** Replaces one project's state; a null result stops tracking it. */
+    private void update(UUID projectId, UnaryOperator<Staffing> change) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            projects.compute(projectId, (id, current) -> change.apply(current != null ? current : Staffing.EMPTY));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reconcile();
+        }
+    }
+
+    private Map<UUID, Staffing> load() {
+        Map<UUID, Map<UUID, Allocation>> active = assignmentRepository
+                .findByAssignmentStatus(AssignmentStatus.ACTIVE).stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getProjectId, Collectors.toMap(
+                        ProjectAssignment::getId,
+                        a -> new Allocation(a.getEmployeeId(),
+                                a.getAllocationPercent() != null ? a.getAllocationPercent() : 100))));
+
+        Map<UUID, Staffing> result = new HashMap<>();
+        for (ProjectRepository.StaffingDetails project : projectRepository.findAllStaffingDetails()) {
+            result.put(project.getId(), Staffing.of(project.getName(), project.getCompanyName(),
+                    project.getStatus(), project.getEmployeesRequired(),
+                    Map.copyOf(active.getOrDefault(project.getId(), Map.of()))));
+        }
+        return result;
+    }
+
+    private static ProjectStaffingResponse toResponse(UUID projectId, Staffing staffing) {
+        return ProjectStaffingResponse.builder()
+                .projectId(projectId)
+                .projectName(staffing.name())
+                .companyName(staffing.companyName())
+                .status(staffing.status())
+                .employeesRequired(staffing.required())
+                .headcount(staffing.headcount())
+                .allocatedFte(staffing.percent() / 100.0)
+                .headcountGap(staffing.headcountGap())
+                .fteGap(staffing.fteGap())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("projects.understaffed", projects, map -> map.values().stream()
+                .filter(s -> s.status() == ProjectStatus.ACTIVE && s.headcountGap() > 0)
+                .count())
+                .description("ACTIVE projects with fewer employees than employees_required")
+                .register(registry);
+        drift = Counter.builder("projects.staffing.drift")
+                .description("Reconciliations that found the resident staffing counters out of step with the database")
+                .register(registry);
+    }
+}
@@ -0,0 +1,141 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.Project;
+import com.skillbridge.enums.MatchMode;
+import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.repository.ProjectRepository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index from technology name (case-insensitive) to project IDs, plus
+ * each project's status, so "which ACTIVE projects use Kafka and Java?" is a
+ * set intersection instead of loading every project. Kept current on every
+ * node by {@link ProjectListener}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectTechIndex {
+
+    private final ProjectRepository projectRepository;
+
+    private final Map<String, Set<UUID>> projectsByTech = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> techByProject = new ConcurrentHashMap<>();
+    private final Map<UUID, ProjectStatus> statusByProject = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    public Set<UUID> find(Collection<String> technologies, MatchMode mode, ProjectStatus status) {
+        ensureLoaded();
+        List<Set<UUID>> postings = technologies.stream()
+                .map(ProjectTechIndex::normalize)
+                .distinct()
+                .map(tech -> projectsByTech.getOrDefault(tech, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        if (postings.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<UUID> result;
+        if (mode == MatchMode.ALL) {
+            // Start from the rarest technology so the intersection stays small
+            result = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+                result.retainAll(postings.get(i));
+            }
+        } else {
+            result = new HashSet<>();
+            postings.forEach(result::addAll);
+        }
+
+        if (status != null) {
+            result.removeIf(id -> statusByProject.get(id) != status);
+        }
+        return result;
+    }
+
+    public synchronized void put(Project project) {
+        UUID id = project.getId();
+        Set<String> technologies = project.getTechStack() == null ? Set.of()
+                : project.getTechStack().stream().map(ProjectTechIndex::normalize).collect(Collectors.toSet());
+
+        Set<String> previous = techByProject.getOrDefault(id, Set.of());
+        for (String tech : previous) {
+            if (!technologies.contains(tech)) {
+                unlink(tech, id);
+            }
+        }
+        for (String tech : technologies) {
+            projectsByTech.computeIfAbsent(tech, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        techByProject.put(id, technologies);
+        statusByProject.put(id, project.getStatus());
+    }
+
+    public synchronized void remove(UUID projectId) {
+        Set<String> previous = techByProject.remove(projectId);
+        if (previous != null) {
+            previous.forEach(tech -> unlink(tech, projectId));
+        }
+        statusByProject.remove(projectId);
+    }
+
+    /** Project changes may have been missed while disconnected: re-apply every project, drop vanished ones. */
+    @EventListener(ClusterResyncEvent.class)
+    public synchronized void onResync() {
+        List<Project> projects = projectRepository.findAllWithTechStack();
+        Set<UUID> current = projects.stream().map(Project::getId).collect(Collectors.toSet());
+        projects.forEach(this::put);
+        Set.copyOf(techByProject.keySet()).stream()
+                .filter(id -> !current.contains(id))
+                .forEach(this::remove);
+        loaded = true;
+    }
+
+    private void unlink(String tech, UUID projectId) {
+        projectsByTech.computeIfPresent(tech, (k, ids) -> {
+            ids.remove(projectId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<Project> projects = projectRepository.findAllWithTechStack();
+            projects.forEach(this::put);
+            loaded = true;
+            log.info("Project tech index loaded: {} projects, {} technologies", projects.size(),
+                    projectsByTech.size());
+        }
+    }
+
+    static String normalize(String tech) {
+        return tech.trim().toLowerCase(Locale.ROOT);
+    }
+}
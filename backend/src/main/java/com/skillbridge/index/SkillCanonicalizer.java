@@ -0,0 +1,346 @@
+package com.skillbridge.index;
+
+import com.skillbridge.entity.Skill;
+import com.skillbridge.enums.SkillMatch;
+import com.skillbridge.event.CatalogSkillChangedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.repository.EmployeeSkillRepository;
+import com.skillbridge.repository.SkillRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps free-text skill names ("ReactJS", "React.js", "react") to dense
+ * integer canonical IDs.
+ *
+ * <p>
+ * Names are first reduced to a key (lower case, letters/digits/+/# only),
+ * then passed through the synonym dictionary in skill-synonyms.txt. Keys that
+ * still do not match are resolved by trigram similarity, so small typos find
+ * the intended skill. Every raw spelling seen is remembered per canonical ID
+ * so stored rows can still be fetched by name.
+ *
+ * <p>
+ * The canonical-ID to catalog-skill map follows catalog changes made on any
+ * node through {@link CatalogSkillChangedEvent}, and is reloaded after a
+ * cluster resync.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillCanonicalizer {
+
+    public static final int UNKNOWN = -1;
+
+    // Dice coefficient over padded trigrams required for a fuzzy match
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final int[] NO_IDS = new int[0];
+
+    private final SkillRepository skillRepository;
+    private final EmployeeSkillRepository employeeSkillRepository;
+
+    private final Map<String, String> canonicalKeyBySynonym = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idByKey = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idByRawName = new ConcurrentHashMap<>();
+    private final List<String> displayNames = new CopyOnWriteArrayList<>();
+    private final List<Integer> trigramCounts = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Set<String>> variantsById = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> idsByTrigram = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<UUID>> catalogIdsById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * Canonical ID for a stored skill name, registering it if new. Use for
+     * names that exist (or are about to exist) in employee_skills or the
+     * catalog.
+     */
+    public int idOf(String rawName) {
+        ensureLoaded();
+        Integer known = idByRawName.get(rawName);
+        if (known != null) {
+            return known;
+        }
+        String key = canonicalKey(key(rawName));
+        int id = key.isEmpty() ? UNKNOWN : intern(key, rawName.trim());
+        if (id != UNKNOWN) {
+            variantsById.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(rawName);
+        }
+        idByRawName.putIfAbsent(rawName, id);
+        return id;
+    }
+
+    public void register(String rawName) {
+        idOf(rawName);
+    }
+
+    /**
+     * Canonical ID of a name that is already known exactly or as a synonym,
+     * otherwise UNKNOWN. Neither registers the name nor guesses.
+     */
+    public int knownIdOf(String rawName) {
+        ensureLoaded();
+        if (rawName == null) {
+            return UNKNOWN;
+        }
+        Integer id = idByKey.get(canonicalKey(key(rawName)));
+        return id != null ? id : UNKNOWN;
+    }
+
+    /** A search term's canonical ID and how it was found. */
+    public record Resolution(int id, SkillMatch match) {
+    }
+
+    /**
+     * Canonical ID for a search term: exact or synonym match first, then the
+     * closest name by trigram similarity. Never registers the term.
+     */
+    public int resolve(String query) {
+        return resolveTerm(query).id();
+    }
+
+    public Resolution resolveTerm(String query) {
+        ensureLoaded();
+        if (query == null) {
+            return new Resolution(UNKNOWN, SkillMatch.UNKNOWN);
+        }
+        String key = key(query);
+        String canonical = canonicalKey(key);
+        Integer exact = idByKey.get(canonical);
+        if (exact != null) {
+            return new Resolution(exact, key.equals(canonical) ? SkillMatch.EXACT : SkillMatch.SYNONYM);
+        }
+        List<Integer> fuzzy = closest(canonical, 1);
+        return fuzzy.isEmpty()
+                ? new Resolution(UNKNOWN, SkillMatch.UNKNOWN)
+                : new Resolution(fuzzy.get(0), SkillMatch.FUZZY);
+    }
+
+    /** Up to {@code limit} canonical names for a partial or misspelt term, best first. */
+    public List<String> suggest(String query, int limit) {
+        ensureLoaded();
+        String key = canonicalKey(key(query));
+        Set<Integer> ids = new LinkedHashSet<>();
+        Integer exact = idByKey.get(key);
+        if (exact != null) {
+            ids.add(exact);
+        }
+        ids.addAll(closest(key, limit));
+        return ids.stream().limit(limit).map(displayNames::get).toList();
+    }
+
+    public String displayName(int id) {
+        return id >= 0 && id < displayNames.size() ? displayNames.get(id) : null;
+    }
+
+    /** Every stored spelling of the given canonical skills. */
+    public List<String> variantsOf(int... ids) {
+        List<String> variants = new ArrayList<>();
+        for (int id : ids) {
+            variants.addAll(variantsById.getOrDefault(id, Set.of()));
+        }
+        return variants;
+    }
+
+    /**
+     * Records a catalog entry under its canonical ID so free-text names can be
+     * mapped to skills.id.
+     */
+    public void registerCatalogSkill(Skill skill) {
+        int id = idOf(skill.getName());
+        if (id != UNKNOWN) {
+            catalogIdsById.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(skill.getId());
+        }
+    }
+
+    public void unregisterCatalogSkill(UUID skillId) {
+        catalogIdsById.values().forEach(ids -> ids.remove(skillId));
+    }
+
+    @EventListener
+    public void onCatalogSkillChanged(ClusterEvent<CatalogSkillChangedEvent> clusterEvent) {
+        CatalogSkillChangedEvent event = clusterEvent.event();
+        if (event.deleted()) {
+            unregisterCatalogSkill(event.skillId());
+        } else {
+            registerCatalogSkill(Skill.builder().id(event.skillId()).name(event.name()).build());
+        }
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        ensureLoaded();
+        Map<Integer, Set<UUID>> fresh = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            int id = idOf(skill.getName());
+            if (id != UNKNOWN) {
+                fresh.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(skill.getId());
+            }
+        }
+        catalogIdsById.keySet().retainAll(fresh.keySet());
+        catalogIdsById.putAll(fresh);
+    }
+
+    // Catalog skill IDs for the given canonical IDs
+    public List<UUID> catalogIdsOf(int... ids) {
+        ensureLoaded();
+        List<UUID> catalogIds = new ArrayList<>();
+        for (int id : ids) {
+            catalogIds.addAll(catalogIdsById.getOrDefault(id, Set.of()));
+        }
+        return catalogIds;
+    }
+
+    private List<Integer> closest(String key, int limit) {
+        long[] trigrams = trigrams(key);
+        if (trigrams.length == 0) {
+            return List.of();
+        }
+
+        int[] shared = new int[displayNames.size()];
+        for (long trigram : trigrams) {
+            for (int id : idsByTrigram.getOrDefault(trigram, NO_IDS)) {
+                if (id < shared.length) {
+                    shared[id]++;
+                }
+            }
+        }
+
+        List<double[]> scored = new ArrayList<>();
+        for (int id = 0; id < shared.length; id++) {
+            if (shared[id] == 0) {
+                continue;
+            }
+            double similarity = 2.0 * shared[id] / (trigrams.length + trigramCounts.get(id));
+            if (similarity >= MIN_SIMILARITY) {
+                scored.add(new double[] { similarity, id });
+            }
+        }
+        scored.sort((a, b) -> Double.compare(b[0], a[0]));
+        return scored.stream().limit(limit).map(s -> (int) s[1]).toList();
+    }
+
+    private synchronized int intern(String key, String displayName) {
+        Integer existing = idByKey.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int id = displayNames.size();
+        long[] trigrams = trigrams(key);
+        displayNames.add(displayName);
+        trigramCounts.add(trigrams.length);
+        for (long trigram : trigrams) {
+            idsByTrigram.merge(trigram, new int[] { id }, (current, added) -> {
+                int[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = id;
+                return grown;
+            });
+        }
+        idByKey.put(key, id);
+        return id;
+    }
+
+    private String canonicalKey(String key) {
+        return canonicalKeyBySynonym.getOrDefault(key, key);
+    }
+
+    static String key(String raw) {
+        String lower = raw.toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    // Distinct trigrams of "$key$", each packed into a long (3 x 16-bit chars)
+    static long[] trigrams(String key) {
+        if (key.isEmpty()) {
+            return new long[0];
+        }
+        String padded = "$" + key + "$";
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+        }
+        return grams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            loadSynonyms();
+            // Mark loaded before registering names so idOf() does not re-enter here
+            loaded = true;
+            skillRepository.findAll().forEach(this::registerCatalogSkill);
+            Collection<String> stored = employeeSkillRepository.findDistinctSkillNames();
+            stored.forEach(this::register);
+            log.info("Skill canonicalizer loaded: {} canonical skills, {} spellings", displayNames.size(),
+                    idByRawName.size());
+        }
+    }
+
+    private void loadSynonyms() {
+        ClassPathResource resource = new ClassPathResource("skill-synonyms.txt");
+        if (!resource.exists()) {
+            return;
+        }
+        try (InputStream in = resource.getInputStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int separator = line.indexOf('=');
+                if (line.isEmpty() || line.startsWith("#") || separator <= 0) {
+                    continue;
+                }
+                String canonical = line.substring(0, separator).trim();
+                String canonicalKey = key(canonical);
+                intern(canonicalKey, canonical);
+                for (String alias : line.substring(separator + 1).split(",")) {
+                    String aliasKey = key(alias);
+                    if (!aliasKey.isEmpty() && !aliasKey.equals(canonicalKey)) {
+                        canonicalKeyBySynonym.put(aliasKey, canonicalKey);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not load skill synonyms: {}", e.getMessage());
+        }
+    }
+}
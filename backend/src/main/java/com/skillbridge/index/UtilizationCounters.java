@@ -0,0 +1,327 @@
+package com.skillbridge.index;
+
+import com.skillbridge.dto.UtilizationSummaryResponse;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resident billable / investment / bench headcounts, org-wide and per direct
+ * manager, for employees and managers (the population of /api/utilization/all).
+ *
+ * <p>
+ * Classification matches getEmployeeUtilization: no ACTIVE allocation in
+ * force today is bench, any such BILLABLE assignment is billable, anything
+ * else is investment. Counts are for the day of the last reconcile, which
+ * also moves them to the new day after midnight. Each employee's ACTIVE
+ * assignments are tracked so every change moves the employee between
+ * classes with one atomic delta; reads are O(1). Assignment changes arrive
+ * from {@link ProjectAssignmentListener} (on this node's writes and, as
+ * cluster events, on everyone else's), role and manager changes from
+ * UserChangedEvent cluster events. {@link #reconcile} recounts from the
+ * database on a schedule and logs any drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UtilizationCounters implements MeterBinder {
+
+    enum Category {
+        BILLABLE, INVESTMENT, BENCH
+    }
+
+    /** Immutable headcounts, swapped or merged atomically. */
+    record Counts(long billable, long investment, long bench) {
+
+        static final Counts ZERO = new Counts(0, 0, 0);
+
+        static Counts of(Category category, long n) {
+            return switch (category) {
+                case BILLABLE -> new Counts(n, 0, 0);
+                case INVESTMENT -> new Counts(0, n, 0);
+                case BENCH -> new Counts(0, 0, n);
+            };
+        }
+
+        Counts plus(Counts other) {
+            return new Counts(billable + other.billable, investment + other.investment, bench + other.bench);
+        }
+
+        long total() {
+            return billable + investment + bench;
+        }
+
+        boolean isZero() {
+            return billable == 0 && investment == 0 && bench == 0;
+        }
+
+        UtilizationSummaryResponse toResponse() {
+            return UtilizationSummaryResponse.builder()
+                    .totalEmployees(total())
+                    .billableCount(billable)
+                    .investmentCount(investment)
+                    .benchCount(bench)
+                    .build();
+        }
+    }
+
+    /** Allocation and dates (end inclusive) of one ACTIVE assignment. */
+    private record Allocation(int percent, boolean billable, LocalDate start, LocalDate end) {
+
+        static Allocation of(ProjectAssignment assignment) {
+            return new Allocation(assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100,
+                    assignment.getBillingType() == BillingType.BILLABLE, assignment.getStartDate(),
+                    assignment.getEndDate());
+        }
+
+        boolean inForceOn(LocalDate day) {
+            return (start == null || !start.isAfter(day)) && (end == null || !end.isBefore(day));
+        }
+    }
+
+    /** A tracked employee: manager, whether they are counted, and their ACTIVE assignments. */
+    private record Employee(UUID managerId, boolean counted, Map<UUID, Allocation> active) {
+
+        Category category(LocalDate day) {
+            List<Allocation> current = active.values().stream().filter(a -> a.inForceOn(day)).toList();
+            int total = current.stream().mapToInt(Allocation::percent).sum();
+            if (total == 0) {
+                return Category.BENCH;
+            }
+            return current.stream().anyMatch(Allocation::billable) ? Category.BILLABLE : Category.INVESTMENT;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+
+    private final Map<UUID, Employee> employees = new ConcurrentHashMap<>();
+    private final AtomicReference<Counts> orgCounts = new AtomicReference<>(Counts.ZERO);
+    private final Map<UUID, Counts> byManager = new ConcurrentHashMap<>();
+    // Updates share the read lock; reconcile takes the write lock to swap in a recount
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Counter drift;
+    private volatile boolean loaded;
+    // Day the categories are computed for; only reconcile changes it
+    private volatile LocalDate countedDay = LocalDate.now();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    public UtilizationSummaryResponse summary() {
+        ensureLoaded();
+        return orgCounts.get().toResponse();
+    }
+
+    /** Headcounts of a manager's direct reports, or of everyone under them with {@code includeIndirect}. */
+    public UtilizationSummaryResponse teamSummary(UUID managerId, Collection<UUID> subtree, boolean includeIndirect) {
+        ensureLoaded();
+        Counts counts = byManager.getOrDefault(managerId, Counts.ZERO);
+        if (includeIndirect) {
+            // Only managers have entries, so this walks the subtree's managers
+            for (UUID member : subtree) {
+                counts = counts.plus(byManager.getOrDefault(member, Counts.ZERO));
+            }
+        }
+        return counts.toResponse();
+    }
+
+    /** Applies the current state of an assignment: ACTIVE rows are upserted, anything else is dropped. */
+    public void apply(ProjectAssignment assignment) {
+        if (assignment.getAssignmentStatus() != AssignmentStatus.ACTIVE) {
+            remove(assignment);
+            return;
+        }
+        Allocation allocation = Allocation.of(assignment);
+        update(assignment.getEmployeeId(), employee -> {
+            Map<UUID, Allocation> active = new HashMap<>(employee.active());
+            active.put(assignment.getId(), allocation);
+            return new Employee(employee.managerId(), employee.counted(), Map.copyOf(active));
+        });
+    }
+
+    public void remove(ProjectAssignment assignment) {
+        update(assignment.getEmployeeId(), employee -> {
+            if (!employee.active().containsKey(assignment.getId())) {
+                return employee;
+            }
+            Map<UUID, Allocation> active = new HashMap<>(employee.active());
+            active.remove(assignment.getId());
+            return new Employee(employee.managerId(), employee.counted(), Map.copyOf(active));
+        });
+    }
+
+    // Delivered on every node, after the change committed
+    @EventListener
+    public void onUserChanged(ClusterEvent<UserChangedEvent> clusterEvent) {
+        UserChangedEvent event = clusterEvent.event();
+        User user = event.deleted() ? null : userRepository.findById(event.userId()).orElse(null);
+        if (user == null) {
+            update(event.userId(), employee -> null);
+        } else {
+            boolean counted = isCounted(user.getRole());
+            update(user.getId(), employee -> new Employee(user.getManagerId(), counted, employee.active()));
+        }
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${utilization.counters.reconcile-cron:0 */15 * * * *}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            LocalDate today = LocalDate.now();
+            Map<UUID, Employee> fresh = load();
+            Counts freshOrg = Counts.ZERO;
+            Map<UUID, Counts> freshByManager = new HashMap<>();
+            for (Employee employee : fresh.values()) {
+                if (employee.counted()) {
+                    Counts one = Counts.of(employee.category(today), 1);
+                    freshOrg = freshOrg.plus(one);
+                    if (employee.managerId() != null) {
+                        freshByManager.merge(employee.managerId(), one, Counts::plus);
+                    }
+                }
+            }
+
+            // A new day legitimately moves people between categories
+            boolean drifted = !freshOrg.equals(orgCounts.get()) || !freshByManager.equals(nonZero(byManager));
+            if (loaded && today.equals(countedDay) && drifted) {
+                log.warn("Utilization counters drifted: {} in memory, {} in the database", orgCounts.get(),
+                        freshOrg);
+                if (drift != null) {
+                    drift.increment();
+                }
+            }
+            employees.clear();
+            employees.putAll(fresh);
+            orgCounts.set(freshOrg);
+            byManager.clear();
+            byManager.putAll(freshByManager);
+            countedDay = today;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces one employee's state (a null result stops tracking them) and
+     * moves them between categories and managers with atomic deltas.
+     */
+    private void update(UUID employeeId, UnaryOperator<Employee> change) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Employee[] before = new Employee[1];
+            Employee after = employees.compute(employeeId, (id, current) -> {
+                before[0] = current;
+                // Employees seen first through an assignment are counted once their user row is known
+                Employee base = current != null ? current : new Employee(null, false, Map.of());
+                return change.apply(base);
+            });
+            if (!Objects.equals(before[0], after)) {
+                adjust(before[0], -1);
+                adjust(after, 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void adjust(Employee employee, long n) {
+        if (employee == null || !employee.counted()) {
+            return;
+        }
+        Counts delta = Counts.of(employee.category(countedDay), n);
+        orgCounts.accumulateAndGet(delta, Counts::plus);
+        if (employee.managerId() != null) {
+            byManager.merge(employee.managerId(), delta, (a, b) -> {
+                Counts sum = a.plus(b);
+                return sum.isZero() ? null : sum;
+            });
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reconcile();
+        }
+    }
+
+    private Map<UUID, Employee> load() {
+        Map<UUID, Map<UUID, Allocation>> active = assignmentRepository
+                .findByAssignmentStatus(AssignmentStatus.ACTIVE).stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getEmployeeId, Collectors.toMap(
+                        ProjectAssignment::getId, Allocation::of)));
+
+        Map<UUID, Employee> result = new HashMap<>();
+        List<User> users = userRepository.findAll();
+        for (User user : users) {
+            result.put(user.getId(), new Employee(user.getManagerId(), isCounted(user.getRole()),
+                    Map.copyOf(active.getOrDefault(user.getId(), Map.of()))));
+        }
+        return result;
+    }
+
+    private static boolean isCounted(Role role) {
+        return role == Role.EMPLOYEE || role == Role.MANAGER;
+    }
+
+    private static Map<UUID, Counts> nonZero(Map<UUID, Counts> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Category category : Category.values()) {
+            Gauge.builder("utilization.headcount", orgCounts, ref -> switch (category) {
+                case BILLABLE -> ref.get().billable();
+                case INVESTMENT -> ref.get().investment();
+                case BENCH -> ref.get().bench();
+            })
+                    .description("Employees and managers by allocation category")
+                    .tag("category", category.name().toLowerCase())
+                    .register(registry);
+        }
+        drift = Counter.builder("utilization.counters.drift")
+                .description("Reconciliations that found the resident counters out of step with the database")
+                .register(registry);
+    }
+}
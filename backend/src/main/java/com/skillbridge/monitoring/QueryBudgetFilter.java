@@ -0,0 +1,123 @@
+package com.skillbridge.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Opens a {@link QueryCounter} scope per HTTP request (ahead of the security
+ * chain, so authentication lookups count too), reports the total in the
+ * X-Query-Count header and logs the statement histogram of requests that
+ * exceed their budget.
+ *
+ * <p>
+ * Normally the body streams through untouched and the header is set just
+ * before the response commits (open-in-view is off, so nothing is loaded
+ * while the body is written). Only with query-budget.fail-on-exceed, meant
+ * for CI, is the body buffered, so an over-budget response can still be
+ * replaced by a 500 and an N+1 regression fails any test that hits the
+ * endpoint.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final QueryBudgetProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (properties.isFailOnExceed()) {
+            doFilterBuffered(request, response, filterChain);
+            return;
+        }
+        QueryCounter.Scope scope = QueryCounter.begin();
+        try {
+            filterChain.doFilter(request, new CountOnCommitResponse(response, scope));
+        } finally {
+            QueryCounter.end();
+        }
+        if (!response.isCommitted()) {
+            response.setHeader(HEADER, String.valueOf(scope.count()));
+        }
+        overBudget(request, scope);
+    }
+
+    private void doFilterBuffered(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCounter.Scope scope = QueryCounter.begin();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            QueryCounter.end();
+        }
+        wrapper.setHeader(HEADER, String.valueOf(scope.count()));
+
+        String exceeded = overBudget(request, scope);
+        if (exceeded != null) {
+            wrapper.resetBuffer();
+            wrapper.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            wrapper.setContentType("text/plain");
+            wrapper.getOutputStream().write(exceeded.getBytes(StandardCharsets.UTF_8));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /** Logs the histogram of an over-budget request and returns a one-line summary, or null within budget. */
+    private String overBudget(HttpServletRequest request, QueryCounter.Scope scope) {
+        String endpoint = request.getMethod() + " " + pattern(request);
+        int budget = properties.getEndpoints().getOrDefault(endpoint, properties.getDefaultBudget());
+        if (scope.count() <= budget) {
+            return null;
+        }
+        log.warn("{} issued {} SQL statements (budget {}):\n{}", endpoint, scope.count(), budget,
+                scope.describe());
+        return String.format("%s issued %d SQL statements, budget is %d", endpoint, scope.count(), budget);
+    }
+
+    private static String pattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    /** Sets the header with the count so far just before the container commits the response. */
+    private static final class CountOnCommitResponse extends OnCommittedResponseWrapper {
+
+        private final QueryCounter.Scope scope;
+
+        CountOnCommitResponse(HttpServletResponse response, QueryCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(HEADER, String.valueOf(scope.count()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.skillbridge.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    // Statements allowed per request when no endpoint-specific budget is set
+    private int defaultBudget = 20;
+
+    // Keyed by "METHOD /path/pattern", e.g. "GET /api/skills/search"
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    // Answer 500 instead of only logging when a budget is exceeded (tests / CI)
+    private boolean failOnExceed = false;
+}
@@ -0,0 +1,80 @@
+package com.skillbridge.monitoring;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts SQL statements issued by the current thread between {@link #begin()}
+ * and {@link #end()}. Fed by {@link QueryCountingStatementInspector}; threads
+ * without an open scope (schedulers, the outbox dispatcher) are not counted.
+ *
+ * <p>
+ * Tests open a scope of their own around the call under test (see
+ * QueryBudgets in the test sources).
+ */
+public final class QueryCounter {
+
+    private static final int STATEMENT_KEY_LENGTH = 160;
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static final class Scope {
+        private final Map<String, Integer> histogram = new TreeMap<>();
+        private int count;
+
+        public int count() {
+            return count;
+        }
+
+        /** Statements (whitespace-collapsed, truncated) by number of executions, most frequent first. */
+        public Map<String, Integer> histogram() {
+            return histogram.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+                            LinkedHashMap::new));
+        }
+
+        public String describe() {
+            return histogram().entrySet().stream()
+                    .map(entry -> String.format("%4dx %s", entry.getValue(), entry.getKey()))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        private void record(String sql) {
+            count++;
+            histogram.merge(key(sql), 1, Integer::sum);
+        }
+    }
+
+    public static Scope begin() {
+        Scope scope = new Scope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+    }
+
+    private static String key(String sql) {
+        String collapsed = sql.replaceAll("\\s+", " ").trim();
+        return collapsed.length() > STATEMENT_KEY_LENGTH ? collapsed.substring(0, STATEMENT_KEY_LENGTH) + "..."
+                : collapsed;
+    }
+}
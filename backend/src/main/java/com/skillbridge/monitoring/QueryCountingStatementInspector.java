@@ -0,0 +1,26 @@
+package com.skillbridge.monitoring;
+
+import java.util.Map;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sees every SQL statement Hibernate prepares (queries, lazy loads, flushes)
+ * and records it in the calling thread's {@link QueryCounter} scope. The
+ * statement itself is passed through unchanged.
+ */
+@Component
+public class QueryCountingStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this);
+    }
+}
@@ -0,0 +1,29 @@
+package com.skillbridge.notification;
+
+import com.skillbridge.entity.Notification;
+import com.skillbridge.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in for an SMTP channel: writes the mail that would be sent to the
+ * log. Replace with a JavaMailSender-backed channel when a mail relay is
+ * available.
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.mail.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class LoggingMailChannel implements NotificationChannel {
+
+    @Override
+    public String name() {
+        return "mail";
+    }
+
+    @Override
+    public void deliver(User recipient, Notification notification) {
+        log.info("MAIL to={} subject=\"{}\"\n{}", recipient.getEmail(), notification.getTitle(),
+                notification.getMessage());
+    }
+}
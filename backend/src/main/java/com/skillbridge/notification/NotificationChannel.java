@@ -0,0 +1,16 @@
+package com.skillbridge.notification;
+
+import com.skillbridge.entity.Notification;
+import com.skillbridge.entity.User;
+
+/**
+ * Out-of-app delivery of a persisted notification (mail, chat, push...).
+ * Called from the notification pipeline's worker thread after the inbox rows
+ * are committed; a failing channel is logged and does not affect the inbox.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    void deliver(User recipient, Notification notification);
+}
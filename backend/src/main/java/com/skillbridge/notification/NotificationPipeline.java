@@ -0,0 +1,231 @@
+package com.skillbridge.notification;
+
+import com.skillbridge.entity.Notification;
+import com.skillbridge.entity.PendingNotification;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.NotificationType;
+import com.skillbridge.index.AfterCommit;
+import com.skillbridge.repository.NotificationRepository;
+import com.skillbridge.repository.PendingNotificationRepository;
+import com.skillbridge.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Durable, asynchronous path from workflow events to the notification inbox.
+ *
+ * <p>
+ * {@link #enqueue} writes a pending_notifications row in the outbox delivery
+ * transaction of the event, so the event is only marked dispatched once its
+ * notifications are stored, and a redelivered event adds nothing (one row
+ * per event and recipient). After commit the local worker is woken; it waits
+ * notifications.window-ms for the rest of the burst, then claims pending rows
+ * (FOR UPDATE SKIP LOCKED, so every node can run a worker), coalesces them
+ * into one notification (a digest when there are several) per recipient,
+ * and inserts those and deletes the claimed rows in one transaction. Workers
+ * also poll every notifications.poll-ms for rows another node left behind.
+ * Configured {@link NotificationChannel}s are called after that commit, so
+ * a crash in between loses the out-of-app copy, never the inbox row.
+ */
+@Component
+@Slf4j
+public class NotificationPipeline implements MeterBinder {
+
+    public record Item(UUID recipientId, NotificationType type, String title, String message) {
+    }
+
+    private final PendingNotificationRepository pendingRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final List<NotificationChannel> channels;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final long windowMs;
+    private final long pollMs;
+    private final int batchSize;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationPipeline(PendingNotificationRepository pendingRepository,
+            NotificationRepository notificationRepository, UserRepository userRepository,
+            List<NotificationChannel> channels, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${notifications.window-ms:2000}") long windowMs,
+            @Value("${notifications.poll-ms:30000}") long pollMs,
+            @Value("${notifications.batch-size:1000}") int batchSize) {
+        this.pendingRepository = pendingRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.channels = channels;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.windowMs = windowMs;
+        this.pollMs = pollMs;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stores a notification caused by outbox event {@code outboxEventId}. Must
+     * run in that event's delivery transaction.
+     */
+    public void enqueue(long outboxEventId, Item item) {
+        if (item.recipientId() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Notifications are enqueued in the event delivery transaction");
+        }
+        // Plain JDBC: a native statement through Hibernate would flush the second-level cache
+        jdbcTemplate.update("INSERT INTO pending_notifications "
+                + "(outbox_event_id, recipient_id, type, title, message, created_at) VALUES (?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT (outbox_event_id, recipient_id) DO NOTHING",
+                outboxEventId, item.recipientId(), item.type().name(), item.title(), item.message(),
+                LocalDateTime.now());
+        AfterCommit.run(wakeUps::release);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "notification-pipeline");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Pending rows are durable: whatever is left is picked up after restart or by another node
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (wakeUps.tryAcquire(pollMs, TimeUnit.MILLISECONDS)) {
+                    // Let the rest of the burst arrive, so it is coalesced into one window
+                    Thread.sleep(windowMs);
+                    wakeUps.drainPermits();
+                }
+                int claimed;
+                do {
+                    claimed = flushBatch();
+                } while (running && claimed == batchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                log.error("Failed to move pending notifications to the inbox; will retry", e);
+            }
+        }
+    }
+
+    /** Claims up to one batch of pending rows, writes them to the inbox and delivers them; returns rows claimed. */
+    int flushBatch() {
+        List<Notification> notifications = new ArrayList<>();
+        Integer claimed = transaction.execute(status -> {
+            List<PendingNotification> pending = pendingRepository.claim(batchSize);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            Map<UUID, List<PendingNotification>> byRecipient = pending.stream().collect(Collectors
+                    .groupingBy(PendingNotification::getRecipientId, LinkedHashMap::new, Collectors.toList()));
+            LocalDateTime now = LocalDateTime.now();
+            byRecipient.forEach((recipientId, items) -> notifications.add(coalesce(recipientId, items, now)));
+
+            // JDBC-batched inserts (hibernate.jdbc.batch_size)
+            notificationRepository.saveAll(notifications);
+            pendingRepository.deleteAllInBatch(pending);
+            return pending.size();
+        });
+        persisted.addAndGet(notifications.size());
+        deliver(notifications);
+        return claimed != null ? claimed : 0;
+    }
+
+    private void deliver(List<Notification> notifications) {
+        if (channels.isEmpty() || notifications.isEmpty()) {
+            return;
+        }
+        Map<UUID, User> recipients = userRepository.findAllById(notifications.stream()
+                .map(Notification::getRecipientId)
+                .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Notification notification : notifications) {
+            User recipient = recipients.get(notification.getRecipientId());
+            if (recipient == null) {
+                continue;
+            }
+            for (NotificationChannel channel : channels) {
+                try {
+                    channel.deliver(recipient, notification);
+                } catch (RuntimeException e) {
+                    log.warn("Channel {} failed for notification {}: {}", channel.name(), notification.getId(),
+                            e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Notification coalesce(UUID recipientId, List<PendingNotification> items, LocalDateTime now) {
+        if (items.size() == 1) {
+            PendingNotification item = items.get(0);
+            return Notification.builder()
+                    .recipientId(recipientId)
+                    .type(item.getType())
+                    .title(item.getTitle())
+                    .message(item.getMessage())
+                    .createdAt(now)
+                    .build();
+        }
+        String message = items.stream()
+                .map(item -> "- " + item.getTitle() + ": " + item.getMessage())
+                .collect(Collectors.joining("\n"));
+        return Notification.builder()
+                .recipientId(recipientId)
+                .type(NotificationType.DIGEST)
+                .title(items.size() + " updates")
+                .message(message)
+                .createdAt(now)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("notifications.persisted", persisted, AtomicLong::get)
+                .description("Inbox notifications written (after coalescing)")
+                .register(registry);
+        FunctionCounter.builder("notifications.flush.failures", failures, AtomicLong::get)
+                .description("Attempts to move pending notifications to the inbox that failed and will be retried")
+                .register(registry);
+    }
+}
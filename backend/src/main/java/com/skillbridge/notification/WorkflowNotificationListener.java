@@ -0,0 +1,95 @@
+package com.skillbridge.notification;
+
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.NotificationType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.enums.SkillStatus;
+import com.skillbridge.event.AllocationRequestTransitionedEvent;
+import com.skillbridge.event.EventEnvelope;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.notification.NotificationPipeline.Item;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns workflow events delivered by the outbox into inbox notifications for
+ * the people who have to act on them or are waiting for the outcome. Listens
+ * for the envelope so each notification is keyed by its outbox event, which
+ * makes redelivery harmless.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkflowNotificationListener {
+
+    private final NotificationPipeline pipeline;
+    private final OrgHierarchy orgHierarchy;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+
+    @EventListener
+    public void onEvent(EventEnvelope envelope) {
+        if (envelope.event() instanceof AllocationRequestTransitionedEvent event) {
+            onAllocationRequest(envelope.outboxId(), event);
+        } else if (envelope.event() instanceof SkillStatusChangedEvent event) {
+            onSkillStatusChanged(envelope.outboxId(), event);
+        }
+    }
+
+    private void onAllocationRequest(long outboxId, AllocationRequestTransitionedEvent event) {
+        String project = projectRepository.findById(event.projectId()).map(Project::getName).orElse("a project");
+        String employee = userRepository.findById(event.employeeId()).map(this::fullName).orElse("An employee");
+        UUID managerId = orgHierarchy.managerOf(event.employeeId());
+
+        switch (event.toStatus()) {
+            case "PENDING_MANAGER" -> notify(outboxId, managerId, "New allocation request",
+                    employee + " has requested allocation to " + project + ".");
+            case "PENDING_HR" -> {
+                notify(outboxId, event.employeeId(), "Allocation request forwarded",
+                        "Your manager forwarded your request for " + project + " to HR.");
+                userRepository.findByRole(Role.HR).forEach(hr -> notify(outboxId, hr.getId(),
+                        "Allocation request awaiting HR approval",
+                        employee + "'s request for " + project + " was forwarded by their manager."));
+            }
+            case "APPROVED" -> {
+                notify(outboxId, event.employeeId(), "Allocation approved",
+                        "You have been allocated to " + project + ".");
+                notify(outboxId, managerId, "Allocation approved",
+                        employee + " has been allocated to " + project + ".");
+            }
+            case "REJECTED" -> {
+                notify(outboxId, event.employeeId(), "Allocation request rejected",
+                        "Your request for " + project + " was rejected.");
+                if ("PENDING_HR".equals(event.fromStatus())) {
+                    notify(outboxId, managerId, "Allocation request rejected",
+                            "HR rejected " + employee + "'s request for " + project + ".");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void onSkillStatusChanged(long outboxId, SkillStatusChangedEvent event) {
+        if (event.status() == SkillStatus.APPROVED) {
+            pipeline.enqueue(outboxId, new Item(event.employeeId(), NotificationType.SKILL_VERIFICATION,
+                    "Skill verified", "Your manager verified your " + event.skillName() + " skill."));
+        } else if (event.status() == SkillStatus.REJECTED) {
+            pipeline.enqueue(outboxId, new Item(event.employeeId(), NotificationType.SKILL_VERIFICATION,
+                    "Skill rejected", "Your manager did not verify your " + event.skillName() + " skill."));
+        }
+    }
+
+    private void notify(long outboxId, UUID recipientId, String title, String message) {
+        pipeline.enqueue(outboxId, new Item(recipientId, NotificationType.ALLOCATION_REQUEST, title, message));
+    }
+
+    private String fullName(User user) {
+        return user.getFirstName() + " " + user.getLastName();
+    }
+}
@@ -0,0 +1,35 @@
+package com.skillbridge.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Budgets by endpoint class, e.g. "search" -> 20 burst, 2 per second
+    private Map<String, Budget> classes = new HashMap<>();
+
+    // Keyed by "METHOD /path/pattern", value is the endpoint class; unlisted endpoints are not limited
+    private Map<String, String> endpoints = new HashMap<>();
+
+    // Buckets untouched this long are dropped (a full bucket carries no state)
+    private long idleEvictionSeconds = 600;
+
+    // Hard cap on tracked (user, class) buckets; beyond it the least valuable are evicted
+    private int maxBuckets = 100_000;
+
+    @Data
+    public static class Budget {
+        // Requests allowed back to back
+        private int capacity = 10;
+        // Sustained requests per second
+        private double refillPerSecond = 1.0;
+    }
+}
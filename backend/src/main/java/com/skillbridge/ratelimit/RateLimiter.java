@@ -0,0 +1,76 @@
+package com.skillbridge.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user admission control for expensive endpoints: one {@link TokenBucket}
+ * per (user, endpoint class), sized by rate-limit.classes. Buckets are
+ * created on first use and held in a Caffeine cache bounded by
+ * rate-limit.max-buckets and expired after rate-limit.idle-eviction-seconds
+ * without use, so state stays proportional to recently active users.
+ *
+ * <p>
+ * Buckets are per node: behind a load balancer with N instances a user can
+ * get up to N times the configured budget. Size the classes for that, or
+ * route users to instances by session affinity.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private record Key(UUID userId, String endpointClass) {
+    }
+
+    private final RateLimitProperties properties;
+    private final Cache<Key, TokenBucket> buckets;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleEvictionSeconds()))
+                .build();
+    }
+
+    /** Endpoint class of "METHOD /pattern", or null when the endpoint is not limited. */
+    public String classify(String endpoint) {
+        String endpointClass = properties.getEndpoints().get(endpoint);
+        return endpointClass != null && properties.getClasses().containsKey(endpointClass) ? endpointClass : null;
+    }
+
+    /** Returns 0 when the request is admitted, otherwise the nanos until the user may retry. */
+    public long tryAcquire(UUID userId, String endpointClass) {
+        RateLimitProperties.Budget budget = properties.getClasses().get(endpointClass);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new Key(userId, endpointClass),
+                key -> new TokenBucket(budget.getCapacity(), budget.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        Counter rejected = rejections.get(endpointClass);
+        if (waitNanos > 0 && rejected != null) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ratelimit.buckets", buckets, Cache::estimatedSize)
+                .description("Tracked (user, endpoint class) token buckets")
+                .register(registry);
+        properties.getClasses().keySet().forEach(endpointClass -> rejections.put(endpointClass,
+                Counter.builder("ratelimit.rejections")
+                        .description("Requests answered 429 by the per-user rate limiter")
+                        .tag("class", endpointClass)
+                        .register(registry)));
+    }
+}
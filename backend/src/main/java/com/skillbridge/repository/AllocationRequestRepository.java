@@ -1,16 +1,46 @@
 package com.skillbridge.repository;
 
 import com.skillbridge.entity.AllocationRequest;
+import com.skillbridge.enums.AllocationRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AllocationRequestRepository extends JpaRepository<AllocationRequest, UUID> {
-    List<AllocationRequest> findByStatus(String status);
 
-    List<AllocationRequest> findByEmployeeId(UUID employeeId);
+    // Workflow queries touch only the hot partition (archived = false)
+    List<AllocationRequest> findByStatusAndArchivedFalse(AllocationRequestStatus status);
 
-    boolean existsByEmployeeIdAndStatusIn(UUID employeeId, List<String> statuses);
+    List<AllocationRequest> findByStatusAndEmployeeIdInAndArchivedFalse(AllocationRequestStatus status,
+            Collection<UUID> employeeIds);
+
+    boolean existsByEmployeeIdAndStatusInAndArchivedFalse(UUID employeeId,
+            Collection<AllocationRequestStatus> statuses);
+
+    // An employee's full history, hot and archived
+    List<AllocationRequest> findByEmployeeIdOrderByCreatedAtDesc(UUID employeeId);
+
+    /**
+     * Moves up to {@code batchSize} closed requests created before the horizon
+     * to the cold partitions (archived is the partition key, so Postgres
+     * relocates the rows). Returns the number moved.
+     */
+    @Modifying
+    @Query(value = "UPDATE allocation_requests SET archived = TRUE "
+            + "WHERE archived = FALSE AND id IN (SELECT id FROM allocation_requests "
+            + "WHERE archived = FALSE AND status IN ('APPROVED', 'REJECTED') AND created_at < :horizon "
+            + "ORDER BY created_at LIMIT :batchSize)", nativeQuery = true)
+    int archiveClosedBefore(@Param("horizon") LocalDateTime horizon, @Param("batchSize") int batchSize);
+
+    @Query(value = "SELECT MIN(created_at) FROM allocation_requests "
+            + "WHERE archived = FALSE AND status IN ('APPROVED', 'REJECTED') AND created_at < :horizon",
+            nativeQuery = true)
+    LocalDateTime findOldestArchivableCreatedAt(@Param("horizon") LocalDateTime horizon);
 }
@@ -0,0 +1,12 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.EmployeeOrdinal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmployeeOrdinalRepository extends JpaRepository<EmployeeOrdinal, Integer> {
+    List<EmployeeOrdinal> findByEmployeeIdIn(Collection<java.util.UUID> employeeIds);
+}
@@ -2,9 +2,12 @@ package com.skillbridge.repository;
 
 import com.skillbridge.entity.EmployeeSkill;
 import com.skillbridge.enums.SkillStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,5 +24,23 @@ public interface EmployeeSkillRepository extends JpaRepository<EmployeeSkill, UU
 
     List<EmployeeSkill> findBySkillNameIgnoreCase(String skillName);
 
-    boolean existsByEmployeeIdAndSkillNameIgnoreCase(UUID employeeId, String skillName);
+    @Query("SELECT DISTINCT s.skillName FROM EmployeeSkill s")
+    List<String> findDistinctSkillNames();
+
+    // Catalog-keyed lookups (indexed equality on skill_id)
+    List<EmployeeSkill> findBySkillIdInAndStatus(Collection<UUID> skillIds, SkillStatus status);
+
+    boolean existsByEmployeeIdAndSkillId(UUID employeeId, UUID skillId);
+
+    boolean existsBySkillId(UUID skillId);
+
+    // Legacy rows still identified only by name (dual-read until the backfill completes)
+    List<EmployeeSkill> findBySkillIdIsNullAndSkillNameInIgnoreCaseAndStatus(Collection<String> skillNames,
+            SkillStatus status);
+
+    boolean existsByEmployeeIdAndSkillIdIsNullAndSkillNameIgnoreCase(UUID employeeId, String skillName);
+
+    List<EmployeeSkill> findBySkillIdIsNullAndIdGreaterThanOrderById(UUID after, Pageable pageable);
+
+    long countBySkillIdIsNull();
 }
@@ -0,0 +1,29 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.EmployeeSummary;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmployeeSummaryRepository extends JpaRepository<EmployeeSummary, UUID> {
+
+    List<EmployeeSummary> findByManagerId(UUID managerId);
+
+    @Query("SELECT s.employeeId FROM EmployeeSummary s")
+    List<UUID> findAllIds();
+
+    // Transaction-scoped, held for the whole startup rebuild
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    // Denormalised manager name on every report's row; returns the rows changed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EmployeeSummary s SET s.managerName = :name "
+            + "WHERE s.managerId = :managerId AND (s.managerName IS NULL OR s.managerName <> :name)")
+    int updateManagerName(@Param("managerId") UUID managerId, @Param("name") String name);
+}
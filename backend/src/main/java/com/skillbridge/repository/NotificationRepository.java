@@ -0,0 +1,31 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.Notification;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+    List<Notification> findByRecipientIdOrderByCreatedAtDesc(UUID recipientId, Pageable pageable);
+
+    List<Notification> findByRecipientIdAndReadAtIsNullOrderByCreatedAtDesc(UUID recipientId, Pageable pageable);
+
+    long countByRecipientIdAndReadAtIsNull(UUID recipientId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :at "
+            + "WHERE n.id = :id AND n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markRead(@Param("id") UUID id, @Param("recipientId") UUID recipientId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :at WHERE n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markAllRead(@Param("recipientId") UUID recipientId, @Param("at") LocalDateTime at);
+}
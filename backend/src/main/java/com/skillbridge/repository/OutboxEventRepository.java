@@ -0,0 +1,33 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByDispatchedAtIsNullOrderById(Pageable pageable);
+
+    // Transaction-scoped, so it is released on commit/rollback of the dispatch batch
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    // Everything still replayable to a node that missed cluster events (see AuditEventListener)
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.dispatchedAt IS NOT NULL AND e.failed = false ORDER BY e.id")
+    List<Long> findDispatchedIds();
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :at WHERE e.id = :id")
+    int markDispatched(@Param("id") Long id, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before AND e.failed = false")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,17 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.PendingNotification;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, Long> {
+
+    // Oldest first; rows claimed by another node's open transaction are skipped, not waited for
+    @Query(value = "SELECT * FROM pending_notifications ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<PendingNotification> claim(@Param("limit") int limit);
+}
@@ -0,0 +1,54 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.ProjectAssignmentHistory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectAssignmentHistoryRepository extends JpaRepository<ProjectAssignmentHistory, UUID> {
+
+    Optional<ProjectAssignmentHistory> findTopByEmployeeIdOrderByStartDateDesc(UUID employeeId);
+
+    Page<ProjectAssignmentHistory> findByEmployeeIdOrderByStartDateDesc(UUID employeeId, Pageable pageable);
+
+    Page<ProjectAssignmentHistory> findByProjectIdOrderByStartDateDesc(UUID projectId, Pageable pageable);
+
+    boolean existsByEmployeeId(UUID employeeId);
+
+    void deleteByEmployeeId(UUID employeeId);
+
+    // Latest archived assignment of every employee, for rebuilding read models
+    @Query(value = "SELECT DISTINCT ON (employee_id) * FROM project_assignment_history "
+            + "ORDER BY employee_id, start_date DESC", nativeQuery = true)
+    List<ProjectAssignmentHistory> findLatestPerEmployee();
+
+    /**
+     * Moves up to {@code batchSize} ENDED / REJECTED assignments that closed
+     * before the cutoff from project_assignments into history, in one
+     * statement. Returns the number of rows moved.
+     */
+    @Modifying
+    @Query(value = "WITH moved AS ("
+            + "DELETE FROM project_assignments WHERE id IN ("
+            + "SELECT id FROM project_assignments WHERE assignment_status IN ('ENDED', 'REJECTED') "
+            + "AND COALESCE(end_date, start_date) < :cutoff ORDER BY start_date LIMIT :batchSize "
+            + "FOR UPDATE SKIP LOCKED) "
+            + "RETURNING id, employee_id, project_id, assignment_status, billing_type, project_role, start_date, "
+            + "end_date, allocation_percent, requested_at, reviewed_at, reviewed_by) "
+            + "INSERT INTO project_assignment_history (id, employee_id, project_id, assignment_status, billing_type, "
+            + "project_role, start_date, end_date, allocation_percent, requested_at, reviewed_at, reviewed_by, "
+            + "archived_at) "
+            + "SELECT id, employee_id, project_id, assignment_status, billing_type, project_role, start_date, "
+            + "end_date, allocation_percent, requested_at, reviewed_at, reviewed_by, now() FROM moved",
+            nativeQuery = true)
+    int moveClosedBefore(@Param("cutoff") LocalDate cutoff, @Param("batchSize") int batchSize);
+}
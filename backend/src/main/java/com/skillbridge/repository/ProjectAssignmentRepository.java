@@ -1,9 +1,13 @@
 package com.skillbridge.repository;
 
 import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +17,15 @@ public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssign
     Optional<ProjectAssignment> findTopByEmployeeIdOrderByStartDateDesc(UUID employeeId);
 
     List<ProjectAssignment> findByEmployeeId(UUID employeeId);
+
+    List<ProjectAssignment> findByAssignmentStatus(AssignmentStatus assignmentStatus);
+
+    List<ProjectAssignment> findByEmployeeIdAndAssignmentStatus(UUID employeeId, AssignmentStatus assignmentStatus);
+
+    List<ProjectAssignment> findByEmployeeIdInAndAssignmentStatus(Collection<UUID> employeeIds,
+            AssignmentStatus assignmentStatus);
+
+    /** Owner of an assignment, without loading the entity into the persistence context. */
+    @Query("SELECT a.employeeId FROM ProjectAssignment a WHERE a.id = :id")
+    Optional<UUID> findEmployeeIdById(@Param("id") UUID id);
 }
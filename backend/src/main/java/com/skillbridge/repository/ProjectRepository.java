@@ -3,8 +3,11 @@ package com.skillbridge.repository;
 import com.skillbridge.entity.Project;
 import com.skillbridge.enums.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +19,31 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     boolean existsByName(String name);
 
     Optional<Project> findByName(String name);
+
+    // Listing variants that load tech stacks in the same statement instead of one select per project
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.techStack")
+    List<Project> findAllWithTechStack();
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.techStack WHERE p.status = :status")
+    List<Project> findByStatusWithTechStack(@Param("status") ProjectStatus status);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.techStack WHERE p.id IN :ids")
+    List<Project> findAllWithTechStackByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /** Columns the staffing counters need, without entities or tech stacks. */
+    interface StaffingDetails {
+        UUID getId();
+
+        String getName();
+
+        String getCompanyName();
+
+        ProjectStatus getStatus();
+
+        Integer getEmployeesRequired();
+    }
+
+    @Query("SELECT p.id AS id, p.name AS name, p.companyName AS companyName, p.status AS status, "
+            + "p.employeesRequired AS employeesRequired FROM Project p")
+    List<StaffingDetails> findAllStaffingDetails();
 }
@@ -0,0 +1,58 @@
+package com.skillbridge.repository;
+
+import com.skillbridge.entity.UtilizationSnapshot;
+import com.skillbridge.entity.UtilizationSnapshotId;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UtilizationSnapshotRepository extends JpaRepository<UtilizationSnapshot, UtilizationSnapshotId> {
+
+    /**
+     * Per-day totals. Bench is 0%; billable is any allocation with the billable
+     * bit set; everything else allocated counts as investment.
+     */
+    interface DailyAggregate {
+        LocalDate getDay();
+
+        Long getHeadcount();
+
+        Long getPercentTotal();
+
+        Long getBenchCount();
+
+        Long getBillableCount();
+    }
+
+    String DAILY_AGGREGATE_SELECT = "SELECT s.snapshotDay AS day, COUNT(s) AS headcount, "
+            + "SUM(s.utilizationPercent) AS percentTotal, "
+            + "SUM(CASE WHEN s.utilizationPercent = 0 THEN 1 ELSE 0 END) AS benchCount, "
+            + "SUM(CASE WHEN s.utilizationPercent > 0 AND MOD(s.billingBits, 2) = 1 THEN 1 ELSE 0 END) "
+            + "AS billableCount "
+            + "FROM UtilizationSnapshot s WHERE s.snapshotDay BETWEEN :from AND :to ";
+
+    @Query(DAILY_AGGREGATE_SELECT + "GROUP BY s.snapshotDay ORDER BY s.snapshotDay")
+    List<DailyAggregate> aggregateByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Team membership as recorded on each day, not the manager's current reports
+    @Query(DAILY_AGGREGATE_SELECT
+            + "AND s.managerOrdinal = :managerOrdinal GROUP BY s.snapshotDay ORDER BY s.snapshotDay")
+    List<DailyAggregate> aggregateByDayForManager(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("managerOrdinal") Integer managerOrdinal);
+
+    @Modifying
+    @Query("DELETE FROM UtilizationSnapshot s WHERE s.snapshotDay = :day")
+    int deleteBySnapshotDay(@Param("day") LocalDate day);
+
+    // Transaction-scoped, held for the whole delete-then-insert of a day
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    int advisoryXactLock(@Param("key") long key);
+}
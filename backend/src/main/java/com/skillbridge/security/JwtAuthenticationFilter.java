@@ -9,8 +9,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,11 +19,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-    // We need to check activeJti. The CustomUserDetails contains the user entity
-    // state AT THE TIME OF LOADING.
-    // If we load UserDetails here, it fetches fresh from DB.
-    // So CustomUserDetails.getUser().getActiveJti() will be the current one in DB.
+    // Users by email, kept current across nodes; the session (active JTI) check needs no DB read on a hit
+    private final SessionCache sessionCache;
 
     @Override
     protected void doFilterInternal(
@@ -46,23 +41,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             userEmail = jwtService.extractUsername(jwt);
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load fresh user details from DB
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                // STRICT JTI ENFORCEMENT: only the user's newest login is accepted
+                String tokenJti = jwtService.extractJti(jwt);
+                com.skillbridge.entity.User user = sessionCache.userForSession(userEmail, tokenJti).orElse(null);
+                if (user == null) {
+                    // Unknown user, or JTI mismatch: this token is from an old session
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
+                            "Session expired or invalid (JTI Mismatch)");
+                    return;
+                }
+                CustomUserDetails userDetails = new CustomUserDetails(user);
 
                 // Validate generic token validity (signature, expiration)
                 if (jwtService.isTokenValid(jwt, userDetails)) {
-                    // STRICT JTI ENFORCEMENT
-                    String tokenJti = jwtService.extractJti(jwt);
-                    if (userDetails instanceof CustomUserDetails customUserDetails) {
-                        String dbJti = customUserDetails.getUser().getActiveJti();
-
-                        if (dbJti == null || !dbJti.equals(tokenJti)) {
-                            // JTI mismatch implies this token is from an old session
-                            response.sendError(HttpServletResponse.SC_UNAUTHORIZED,
-                                    "Session expired or invalid (JTI Mismatch)");
-                            return;
-                        }
-                    }
 
                     // 1. Extract all claims
                     io.jsonwebtoken.Claims claims = jwtService.extractAllClaims(jwt);
@@ -0,0 +1,145 @@
+package com.skillbridge.security;
+
+import com.skillbridge.entity.User;
+import com.skillbridge.index.AfterCommit;
+import com.skillbridge.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-node cache of users by email, so {@link JwtAuthenticationFilter} can
+ * check a token's session (its JTI against {@code users.active_jti}) without
+ * reading the database on every request.
+ *
+ * <p>
+ * Whenever a session rotates (login) or a user row changes, the writer sends
+ * {@code NOTIFY session_invalidated, '<email>'} in its transaction; every
+ * node's {@link SessionInvalidationListener} evicts that email when the
+ * transaction commits, so an older token stops working within milliseconds
+ * everywhere. A token newer than the cached session is re-checked against
+ * the database once, so the newest login is never refused while its
+ * notification is in flight. While the listener is disconnected the cache is
+ * bypassed; entries also expire after auth.session-cache.ttl as a backstop.
+ */
+@Component
+@Slf4j
+public class SessionCache implements MeterBinder {
+
+    public static final String CHANNEL = "session_invalidated";
+
+    private record Entry(User user, long loadedAtNanos) {
+    }
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped by every eviction; a load that raced with one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean synced;
+    private Counter hits;
+    private Counter misses;
+
+    public SessionCache(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+            @Value("${auth.session-cache.enabled:true}") boolean enabled,
+            @Value("${auth.session-cache.ttl:5m}") Duration ttl,
+            @Value("${auth.session-cache.max-entries:50000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The user whose current session is {@code jti}, or empty when the user
+     * does not exist or has logged in again since the token was issued.
+     */
+    public Optional<User> userForSession(String email, String jti) {
+        Optional<User> user = cached(email).or(() -> load(email));
+        if (user.isPresent() && !Objects.equals(user.get().getActiveJti(), jti)) {
+            // Possibly a login on another node whose notification has not arrived yet
+            user = load(email);
+        }
+        return user.filter(u -> Objects.equals(u.getActiveJti(), jti));
+    }
+
+    /** Announces that the user's row changed; all nodes evict it once the surrounding transaction commits. */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CHANNEL, email);
+        AfterCommit.run(() -> evict(email));
+    }
+
+    // Called by the listener for every notification, including this node's own
+    void evict(String email) {
+        invalidations.incrementAndGet();
+        entries.remove(email);
+    }
+
+    // Listener (re)connected or lost: anything cached may have missed a notification
+    void setSynced(boolean synced) {
+        invalidations.incrementAndGet();
+        entries.clear();
+        this.synced = synced;
+    }
+
+    private Optional<User> cached(String email) {
+        if (!enabled || !synced) {
+            return Optional.empty();
+        }
+        Entry entry = entries.get(email);
+        if (entry == null || System.nanoTime() - entry.loadedAtNanos() > ttlNanos) {
+            return Optional.empty();
+        }
+        if (hits != null) {
+            hits.increment();
+        }
+        return Optional.of(entry.user());
+    }
+
+    private Optional<User> load(String email) {
+        long stamp = invalidations.get();
+        Optional<User> user = userRepository.findByEmail(email);
+        if (misses != null) {
+            misses.increment();
+        }
+        if (enabled && synced && user.isPresent() && invalidations.get() == stamp) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(email, new Entry(user.get(), System.nanoTime()));
+        }
+        return user;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        hits = Counter.builder("auth.session.cache").tag("result", "hit")
+                .description("Token session checks answered from memory")
+                .register(registry);
+        misses = Counter.builder("auth.session.cache").tag("result", "miss")
+                .description("Token session checks that read the user from the database")
+                .register(registry);
+        Gauge.builder("auth.session.cache.size", entries, Map::size)
+                .description("Users cached for token session checks")
+                .register(registry);
+    }
+}
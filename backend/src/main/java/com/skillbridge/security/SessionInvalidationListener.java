@@ -0,0 +1,55 @@
+package com.skillbridge.security;
+
+import com.skillbridge.datasource.PgNotificationListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * LISTENs on {@link SessionCache#CHANNEL} and evicts each notified email from
+ * this node's {@link SessionCache}. Postgres delivers a NOTIFY only when the
+ * sending transaction commits, so a rolled-back login never evicts anything.
+ * On connection loss, including a connection that silently stopped answering
+ * the liveness probe, the cache is cleared and bypassed until the listener is
+ * back.
+ */
+@Component
+public class SessionInvalidationListener extends PgNotificationListener {
+
+    private final SessionCache sessionCache;
+
+    public SessionInvalidationListener(SessionCache sessionCache, DataSourceProperties dataSourceProperties,
+            @Value("${auth.session-cache.reconnect-delay-ms:2000}") long reconnectDelayMs,
+            @Value("${auth.session-cache.liveness-interval-ms:10000}") long livenessIntervalMs) {
+        super(SessionCache.CHANNEL, dataSourceProperties, reconnectDelayMs, livenessIntervalMs);
+        this.sessionCache = sessionCache;
+    }
+
+    @PostConstruct
+    public void start() {
+        startListening();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopListening();
+    }
+
+    @Override
+    protected void onConnected() {
+        sessionCache.setSynced(true);
+    }
+
+    @Override
+    protected void onDisconnected() {
+        sessionCache.setSynced(false);
+    }
+
+    @Override
+    protected void onNotifications(List<String> payloads) {
+        payloads.forEach(sessionCache::evict);
+    }
+}
@@ -0,0 +1,94 @@
+package com.skillbridge.service;
+
+import com.skillbridge.repository.AllocationRequestRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves closed allocation requests older than allocation-requests.archive.horizon-days
+ * out of the hot partition.
+ *
+ * <p>
+ * allocation_requests is list-partitioned on {@code archived}: the hot
+ * partition holds open and recently closed requests, which is all the
+ * workflow queries read; the cold partition is range-partitioned by
+ * created_at into yearly tables (see database/schema.sql). Flipping
+ * {@code archived} makes Postgres relocate the row, in batches of
+ * allocation-requests.archive.batch-size, each in its own transaction. With
+ * manage-partitions the yearly cold tables the batch needs are created first,
+ * so nothing lands in the default partition.
+ */
+@Service
+@Slf4j
+public class AllocationRequestArchiver {
+
+    private final AllocationRequestRepository requestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int horizonDays;
+    private final int batchSize;
+    private final boolean managePartitions;
+
+    public AllocationRequestArchiver(AllocationRequestRepository requestRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${allocation-requests.archive.horizon-days:180}") int horizonDays,
+            @Value("${allocation-requests.archive.batch-size:1000}") int batchSize,
+            @Value("${allocation-requests.archive.manage-partitions:true}") boolean managePartitions) {
+        this.requestRepository = requestRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.managePartitions = managePartitions;
+    }
+
+    @Scheduled(cron = "${allocation-requests.archive.cron:0 15 2 * * *}")
+    public void archive() {
+        LocalDateTime horizon = LocalDate.now().minusDays(horizonDays).atStartOfDay();
+        if (managePartitions) {
+            ensureColdPartitions(horizon);
+        }
+
+        int total = 0;
+        int moved;
+        do {
+            moved = transaction.execute(status -> requestRepository.archiveClosedBefore(horizon, batchSize));
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} closed allocation requests created before {}", total, horizon.toLocalDate());
+        }
+    }
+
+    private void ensureColdPartitions(LocalDateTime horizon) {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT to_regclass('allocation_requests_cold') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            log.debug("allocation_requests is not partitioned; archiving only flags rows");
+            return;
+        }
+        LocalDateTime oldest = requestRepository.findOldestArchivableCreatedAt(horizon);
+        if (oldest == null) {
+            return;
+        }
+        for (int year = oldest.getYear(); year <= horizon.getYear(); year++) {
+            try {
+                jdbcTemplate.execute(String.format("CREATE TABLE IF NOT EXISTS allocation_requests_cold_%d "
+                        + "PARTITION OF allocation_requests_cold FOR VALUES FROM ('%d-01-01') TO ('%d-01-01')",
+                        year, year, year + 1));
+            } catch (DataAccessException e) {
+                // Typically rows for that year already sit in the default partition
+                log.error("Could not create cold partition for {}; rows will go to the default partition", year, e);
+            }
+        }
+    }
+}
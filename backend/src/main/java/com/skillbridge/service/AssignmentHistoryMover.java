@@ -0,0 +1,56 @@
+package com.skillbridge.service;
+
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps project_assignments down to live rows by moving ENDED and REJECTED
+ * assignments into project_assignment_history once they have been closed for
+ * assignments.history.grace-days.
+ *
+ * <p>
+ * Each batch is a single DELETE ... RETURNING / INSERT statement in its own
+ * short transaction, and skips rows another transaction has locked, so it
+ * never holds up request threads. History stays reachable through
+ * /api/assignments/history.
+ */
+@Service
+@Slf4j
+public class AssignmentHistoryMover {
+
+    private final ProjectAssignmentHistoryRepository historyRepository;
+    private final TransactionTemplate transaction;
+    private final int graceDays;
+    private final int batchSize;
+
+    public AssignmentHistoryMover(ProjectAssignmentHistoryRepository historyRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${assignments.history.grace-days:30}") int graceDays,
+            @Value("${assignments.history.batch-size:500}") int batchSize) {
+        this.historyRepository = historyRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.graceDays = graceDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${assignments.history.cron:0 45 2 * * *}")
+    public void moveClosed() {
+        LocalDate cutoff = LocalDate.now().minusDays(graceDays);
+        int total = 0;
+        int moved;
+        do {
+            moved = transaction.execute(status -> historyRepository.moveClosedBefore(cutoff, batchSize));
+            total += moved;
+        } while (moved == batchSize);
+
+        if (total > 0) {
+            log.info("Moved {} closed assignments to history", total);
+        }
+    }
+}
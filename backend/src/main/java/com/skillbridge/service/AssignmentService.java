@@ -1,41 +1,69 @@
 package com.skillbridge.service;
 
 import com.skillbridge.dto.AssignmentResponse;
+import com.skillbridge.dto.CapacityAvailabilityResponse;
 import com.skillbridge.dto.CreateAssignmentRequest;
 import com.skillbridge.entity.Project;
 import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.ProjectAssignmentHistory;
 import com.skillbridge.entity.User;
 import com.skillbridge.enums.AssignmentStatus;
 import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.event.ProjectChangedEvent;
+import com.skillbridge.index.CapacityCalendar;
+import com.skillbridge.index.EmployeeLocks;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.UtilizationCounters;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
 import com.skillbridge.repository.ProjectAssignmentRepository;
 import com.skillbridge.repository.ProjectRepository;
 import com.skillbridge.repository.UserRepository;
 import com.skillbridge.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.skillbridge.repository.AllocationRequestRepository;
-import com.skillbridge.entity.AllocationRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AssignmentService {
 
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    public static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     private final ProjectAssignmentRepository assignmentRepository;
+    private final ProjectAssignmentHistoryRepository historyRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final AllocationRequestRepository allocationRequestRepository;
+    private final CapacityCalendar capacityCalendar;
+    private final EmployeeLocks employeeLocks;
+    private final DomainEventPublisher domainEventPublisher;
+    private final UtilizationCounters utilizationCounters;
+    private final OrgHierarchy orgHierarchy;
 
     @Transactional
     public AssignmentResponse assignEmployeeToProject(CreateAssignmentRequest request) {
-        // 1. Validate employee exists
-        if (!userRepository.existsById(request.getEmployeeId())) {
-            throw new RuntimeException("Employee not found with ID: " + request.getEmployeeId());
-        }
+        // 1. Validate employee exists, and serialise allocation changes for them
+        lockEmployee(request.getEmployeeId());
 
         // 2. Validate project exists and is active
         Project project = projectRepository.findById(request.getProjectId())
@@ -48,44 +76,23 @@ public class AssignmentService {
 
         // Auto-activate project if it is currently PLANNED
         if (project.getStatus() == ProjectStatus.PLANNED) {
-            System.err.println("DEBUG: Auto-activating PLANNED project: " + project.getName());
+            log.debug("Auto-activating PLANNED project {}", project.getName());
             project.setStatus(ProjectStatus.ACTIVE);
             projectRepository.save(project);
+            domainEventPublisher.publish(new ProjectChangedEvent(project.getId()));
         }
 
-        // 3. Validate partial allocation - allow multiple assignments but check total
-        // doesn't exceed 100%
-        int requestedAllocation = request.getAllocationPercent() != null ? request.getAllocationPercent() : 100;
-
-        // Calculate current utilization from active assignments
-        int currentUtilization = assignmentRepository.findAll().stream()
-                .filter(a -> a.getEmployeeId().equals(request.getEmployeeId()))
-                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
-                .mapToInt(a -> a.getAllocationPercent() != null ? a.getAllocationPercent() : 100)
-                .sum();
-
-        System.err.println(
-                "DEBUG: Allocation Request - Emp: " + request.getEmployeeId() + ", Proj: " + request.getProjectId());
-        System.err.println("DEBUG: Current Util: " + currentUtilization + ", Requested: " + requestedAllocation);
-
-        int totalAfterAllocation = currentUtilization + requestedAllocation;
-        int availableCapacity = 100 - currentUtilization;
-
-        if (totalAfterAllocation > 100) {
-            System.err.println("DEBUG: Allocation REJECTED. Total: " + totalAfterAllocation);
-            throw new IllegalStateException(
-                    String.format(
-                            "Cannot allocate %d%%. Employee is already %d%% allocated. Only %d%% capacity available.",
-                            requestedAllocation,
-                            currentUtilization,
-                            availableCapacity));
-        }
-
-        // 4. Validate dates
+        // 3. Validate dates
         if (request.getEndDate() != null && request.getStartDate().isAfter(request.getEndDate())) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
 
+        // 4. Validate partial allocation - allow multiple assignments but check the
+        // peak total over the requested period doesn't exceed 100%
+        int requestedAllocation = request.getAllocationPercent() != null ? request.getAllocationPercent() : 100;
+        checkCapacity(request.getEmployeeId(), request.getStartDate(), request.getEndDate(), requestedAllocation,
+                null);
+
         // 5. Create and save assignment
         ProjectAssignment assignment = ProjectAssignment.builder()
                 .employeeId(request.getEmployeeId())
@@ -100,9 +107,10 @@ public class AssignmentService {
                 .allocationPercent(request.getAllocationPercent() != null ? request.getAllocationPercent() : 100)
                 .build();
 
-        System.err.println("DEBUG: Assigning with Role: " + assignment.getProjectRole());
+        log.debug("Assigning employee {} with role {}", request.getEmployeeId(), assignment.getProjectRole());
 
         ProjectAssignment savedAssignment = assignmentRepository.save(assignment);
+        domainEventPublisher.publish(AssignmentCreatedEvent.of(savedAssignment));
         return mapToResponse(savedAssignment);
     }
 
@@ -115,9 +123,13 @@ public class AssignmentService {
             throw new RuntimeException("Assignment is already ended");
         }
 
+        boolean wasActive = assignment.getAssignmentStatus() == AssignmentStatus.ACTIVE;
         assignment.setAssignmentStatus(AssignmentStatus.ENDED);
         assignment.setEndDate(LocalDate.now());
         assignmentRepository.save(assignment);
+        if (wasActive) {
+            domainEventPublisher.publish(AssignmentEndedEvent.of(assignment, assignment.getEndDate()));
+        }
     }
 
     @Transactional
@@ -158,19 +170,24 @@ public class AssignmentService {
 
     @Transactional
     public AssignmentResponse approveAssignment(UUID assignmentId, com.skillbridge.enums.BillingType billingType) {
-        ProjectAssignment assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new RuntimeException("Assignment request not found"));
+        // Approval makes the allocation ACTIVE: same lock and capacity check as a direct assignment
+        ProjectAssignment assignment = lockAndLoad(assignmentId, "Assignment request not found");
 
         if (assignment.getAssignmentStatus() != AssignmentStatus.PENDING) {
             throw new IllegalStateException("Can only approve pending requests");
         }
 
+        checkCapacity(assignment.getEmployeeId(), assignment.getStartDate(), assignment.getEndDate(),
+                assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100, null);
+
         User currentUser = getAuthenticatedUser();
         assignment.setAssignmentStatus(AssignmentStatus.ACTIVE);
         assignment.setBillingType(billingType);
         assignment.setReviewedAt(java.time.LocalDateTime.now());
         assignment.setReviewedBy(currentUser.getId());
-        return mapToResponse(assignmentRepository.save(assignment));
+        ProjectAssignment approved = assignmentRepository.save(assignment);
+        domainEventPublisher.publish(AssignmentCreatedEvent.of(approved));
+        return mapToResponse(approved);
     }
 
     @Transactional
@@ -192,8 +209,7 @@ public class AssignmentService {
     @Transactional(readOnly = true)
     public java.util.List<AssignmentResponse> getPendingAssignments() {
         // In a real system, we'd filter by manager's team members
-        return assignmentRepository.findAll().stream()
-                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.PENDING)
+        return assignmentRepository.findByAssignmentStatus(AssignmentStatus.PENDING).stream()
                 .map(this::mapToResponse)
                 .collect(java.util.stream.Collectors.toList());
     }
@@ -203,32 +219,54 @@ public class AssignmentService {
         User currentUser = getAuthenticatedUser();
         java.util.List<AssignmentResponse> responses = new java.util.ArrayList<>();
 
-        // 1. Active Assignments
-        assignmentRepository.findByEmployeeId(currentUser.getId()).stream()
-                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
+        assignmentRepository.findByEmployeeIdAndAssignmentStatus(currentUser.getId(), AssignmentStatus.ACTIVE).stream()
                 .map(this::mapToResponse)
                 .forEach(responses::add);
 
-        // 2. Pending Requests
-        allocationRequestRepository.findByEmployeeId(currentUser.getId()).stream()
-                .filter(r -> "PENDING".equals(r.getStatus()))
-                .map(req -> {
-                    Project project = projectRepository.findById(req.getProjectId()).orElse(null);
-                    return AssignmentResponse.builder()
-                            .assignmentId(req.getId())
-                            .employeeId(req.getEmployeeId())
-                            .projectId(req.getProjectId())
-                            .projectName(project != null ? project.getName() : "Requested Project")
-                            .assignmentStatus(AssignmentStatus.PENDING)
-                            .requestedAt(req.getCreatedAt())
-                            .utilization("PENDING")
-                            .build();
-                })
-                .forEach(responses::add);
-
+        // Open allocation requests are listed by /api/allocation-requests/my
         return responses;
     }
 
+    /**
+     * Archived (ENDED / REJECTED) assignments, newest first. These live in
+     * project_assignment_history once AssignmentHistoryMover has moved them,
+     * so live queries never see them. HR may filter by employee or project;
+     * managers only by an employee in their reporting line.
+     */
+    @Transactional(readOnly = true)
+    public Page<AssignmentResponse> getAssignmentHistory(UUID employeeId, UUID projectId, int page, int size) {
+        User currentUser = getAuthenticatedUser();
+        Pageable pageable = historyPage(page, size);
+
+        if (employeeId != null) {
+            if (currentUser.getRole() == Role.MANAGER
+                    && !orgHierarchy.subtree(currentUser.getId()).contains(employeeId)) {
+                throw new AccessDeniedException("Employee is not in your reporting line");
+            }
+            return historyRepository.findByEmployeeIdOrderByStartDateDesc(employeeId, pageable)
+                    .map(this::mapToResponse);
+        }
+        if (projectId != null && currentUser.getRole() == Role.HR) {
+            return historyRepository.findByProjectIdOrderByStartDateDesc(projectId, pageable)
+                    .map(this::mapToResponse);
+        }
+        throw new IllegalArgumentException(currentUser.getRole() == Role.HR
+                ? "Either employeeId or projectId is required"
+                : "employeeId is required");
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AssignmentResponse> getMyAssignmentHistory(int page, int size) {
+        User currentUser = getAuthenticatedUser();
+        return historyRepository.findByEmployeeIdOrderByStartDateDesc(currentUser.getId(), historyPage(page, size))
+                .map(this::mapToResponse);
+    }
+
+    private Pageable historyPage(int page, int size) {
+        int pageSize = Math.max(1, Math.min(size > 0 ? size : DEFAULT_HISTORY_PAGE_SIZE, MAX_HISTORY_PAGE_SIZE));
+        return PageRequest.of(Math.max(0, page), pageSize);
+    }
+
     @Transactional(readOnly = true)
     public com.skillbridge.dto.AllocationResponse getMyAllocation(UUID employeeId) {
         java.util.Optional<ProjectAssignment> opt = assignmentRepository
@@ -269,6 +307,10 @@ public class AssignmentService {
         throw new RuntimeException("User not authenticated");
     }
 
+    private AssignmentResponse mapToResponse(ProjectAssignmentHistory archived) {
+        return mapToResponse(archived.toAssignment());
+    }
+
     private AssignmentResponse mapToResponse(ProjectAssignment assignment) {
         Project project = projectRepository.findById(assignment.getProjectId()).orElse(null);
         String projectName = project != null ? project.getName() : "Unknown Project";
@@ -297,14 +339,13 @@ public class AssignmentService {
     public com.skillbridge.dto.EmployeeUtilizationResponse getEmployeeUtilization(UUID employeeId) {
         // Get all ACTIVE assignments for the employee
         java.util.List<ProjectAssignment> activeAssignments = assignmentRepository
-                .findAll().stream()
-                .filter(a -> a.getEmployeeId().equals(employeeId))
-                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
-                .collect(java.util.stream.Collectors.toList());
+                .findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE);
 
-        // Calculate total utilization
+        // Calculate total utilization: only assignments in force today count, upcoming ones are listed
+        LocalDate today = LocalDate.now();
         int totalUtilization = 0;
         java.util.List<com.skillbridge.dto.AllocationDetail> assignments = new java.util.ArrayList<>();
+        java.util.List<com.skillbridge.dto.AllocationDetail> current = new java.util.ArrayList<>();
 
         for (ProjectAssignment assignment : activeAssignments) {
             Project project = projectRepository.findById(assignment.getProjectId()).orElse(null);
@@ -313,9 +354,7 @@ public class AssignmentService {
             // Use actual allocation percent from the assignment, default to 100% if not set
             int allocationPercent = assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100;
 
-            totalUtilization += allocationPercent;
-
-            assignments.add(com.skillbridge.dto.AllocationDetail.builder()
+            com.skillbridge.dto.AllocationDetail detail = com.skillbridge.dto.AllocationDetail.builder()
                     .assignmentId(assignment.getId())
                     .projectId(assignment.getProjectId())
                     .projectName(projectName)
@@ -324,7 +363,12 @@ public class AssignmentService {
                     .projectRole(assignment.getProjectRole())
                     .startDate(assignment.getStartDate())
                     .endDate(assignment.getEndDate())
-                    .build());
+                    .build();
+            assignments.add(detail);
+            if (assignment.isInForceOn(today)) {
+                totalUtilization += allocationPercent;
+                current.add(detail);
+            }
         }
 
         // Cap at 100% max
@@ -336,10 +380,10 @@ public class AssignmentService {
                 .totalUtilization(totalUtilization)
                 .availableCapacity(availableCapacity)
                 .allocationStatus(totalUtilization == 0 ? "BENCH"
-                        : assignments.stream().anyMatch(a -> "BILLABLE".equals(a.getBillingType())) ? "BILLABLE"
+                        : current.stream().anyMatch(a -> "BILLABLE".equals(a.getBillingType())) ? "BILLABLE"
                                 : "INVESTMENT")
-                .projectName(assignments.isEmpty() ? null
-                        : assignments.stream()
+                .projectName(current.isEmpty() ? null
+                        : current.stream()
                                 .map(com.skillbridge.dto.AllocationDetail::getProjectName)
                                 .collect(java.util.stream.Collectors.joining(", ")))
                 .assignments(assignments)
@@ -351,31 +395,41 @@ public class AssignmentService {
         return getEmployeeUtilization(getAuthenticatedUser().getId());
     }
 
+    /** Org-wide headcounts, or those of one manager's direct reports; served from resident counters. */
+    public com.skillbridge.dto.UtilizationSummaryResponse getUtilizationSummary(UUID managerId) {
+        if (managerId == null) {
+            return utilizationCounters.summary();
+        }
+        return utilizationCounters.teamSummary(managerId, List.of(), false);
+    }
+
+    public com.skillbridge.dto.UtilizationSummaryResponse getMyTeamUtilizationSummary(boolean includeIndirect) {
+        UUID managerId = getAuthenticatedUser().getId();
+        return utilizationCounters.teamSummary(managerId,
+                includeIndirect ? orgHierarchy.subtree(managerId) : List.of(), includeIndirect);
+    }
+
     @Transactional
     public AssignmentResponse updateAssignment(UUID assignmentId, com.skillbridge.dto.UpdateAssignmentRequest request) {
-        ProjectAssignment assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new RuntimeException("Assignment not found with ID: " + assignmentId));
+        ProjectAssignment assignment = lockAndLoad(assignmentId, "Assignment not found with ID: " + assignmentId);
 
         if (assignment.getAssignmentStatus() != AssignmentStatus.ACTIVE) {
             throw new IllegalStateException("Can only update ACTIVE assignments.");
         }
 
-        // Calculate utilization excluding current assignment
-        int currentUtilization = assignmentRepository.findAll().stream()
-                .filter(a -> a.getEmployeeId().equals(assignment.getEmployeeId()))
-                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
-                .filter(a -> !a.getId().equals(assignmentId))
-                .mapToInt(a -> a.getAllocationPercent() != null ? a.getAllocationPercent() : 100)
-                .sum();
+        LocalDate newStart = request.getStartDate() != null ? request.getStartDate() : assignment.getStartDate();
+        LocalDate newEnd = request.getEndDate() != null ? request.getEndDate() : assignment.getEndDate();
+        if (newEnd != null && newStart.isAfter(newEnd)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
 
+        // Peak utilization over the (possibly new) period, excluding this assignment
         int requestedAlloc = request.getAllocationPercent() != null ? request.getAllocationPercent()
                 : (assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100);
+        checkCapacity(assignment.getEmployeeId(), newStart, newEnd, requestedAlloc, assignmentId);
 
-        if (currentUtilization + requestedAlloc > 100) {
-            throw new IllegalStateException(String.format(
-                    "Cannot allocate %d%%. Employee is already %d%% allocated (excluding this). Only %d%% total capacity available.",
-                    requestedAlloc, currentUtilization, (100 - currentUtilization)));
-        }
+        int previousAllocation = assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100;
+        com.skillbridge.enums.BillingType previousBillingType = assignment.getBillingType();
 
         if (request.getAllocationPercent() != null)
             assignment.setAllocationPercent(request.getAllocationPercent());
@@ -388,6 +442,116 @@ public class AssignmentService {
         if (request.getEndDate() != null)
             assignment.setEndDate(request.getEndDate());
 
-        return mapToResponse(assignmentRepository.save(assignment));
+        ProjectAssignment updated = assignmentRepository.save(assignment);
+        domainEventPublisher.publish(new AssignmentUpdatedEvent(updated.getId(), updated.getEmployeeId(),
+                updated.getProjectId(), previousAllocation, requestedAlloc, previousBillingType,
+                updated.getBillingType(), updated.getStartDate(), updated.getEndDate()));
+        return mapToResponse(updated);
+    }
+
+    /**
+     * Lowest available capacity of each employee over [from, to], for finding
+     * people who can be booked for an upcoming project. HR sees everyone who can
+     * be allocated; managers see their direct reports.
+     */
+    @Transactional(readOnly = true)
+    public List<CapacityAvailabilityResponse> getAvailableCapacity(LocalDate from, LocalDate to,
+            int minCapacity) {
+        if (to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date cannot be after end date");
+        }
+
+        User currentUser = getAuthenticatedUser();
+        List<User> candidates;
+        if (currentUser.getRole() == Role.HR) {
+            candidates = new ArrayList<>(userRepository.findByRole(Role.EMPLOYEE));
+            candidates.addAll(userRepository.findByRole(Role.MANAGER));
+        } else {
+            candidates = userRepository.findByManagerId(currentUser.getId());
+        }
+
+        // One batched load for every candidate without a resident timeline
+        Map<UUID, Integer> available = capacityCalendar.availableCapacity(
+                candidates.stream().map(User::getId).collect(Collectors.toList()), from, to);
+        return candidates.stream()
+                .map(user -> {
+                    int capacity = available.get(user.getId());
+                    return CapacityAvailabilityResponse.builder()
+                            .employeeId(user.getId())
+                            .employeeName(user.getFirstName() + " " + user.getLastName())
+                            .email(user.getEmail())
+                            .peakAllocation(100 - capacity)
+                            .availableCapacity(capacity)
+                            .build();
+                })
+                .filter(r -> r.getAvailableCapacity() >= minCapacity)
+                .sorted(Comparator.comparing(CapacityAvailabilityResponse::getAvailableCapacity)
+                        .reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Locks the employee for the rest of the caller's transaction and checks
+     * that {@code percent} more over [start, end] keeps them at or below 100%.
+     * For write paths outside this service that create ACTIVE assignments
+     * (allocation-request approval); throws IllegalStateException when the
+     * capacity is not there. Deliberately not {@code @Transactional}: a
+     * rejected check must not mark the caller's transaction rollback-only.
+     */
+    public void reserveCapacity(UUID employeeId, LocalDate start, LocalDate end, int percent) {
+        lockEmployee(employeeId);
+        checkCapacity(employeeId, start, end, percent, null);
+    }
+
+    /**
+     * Peak allocation over [start, end], optionally ignoring the assignment
+     * being changed, plus {@code requested} must not exceed 100%. Callers hold
+     * the employee lock (see {@link #lockEmployee}).
+     */
+    private void checkCapacity(UUID employeeId, LocalDate start, LocalDate end, int requested,
+            UUID excludedAssignmentId) {
+        int currentUtilization = excludedAssignmentId == null
+                ? capacityCalendar.peakAllocation(employeeId, start, end)
+                : capacityCalendar.peakAllocationExcluding(employeeId, start, end, excludedAssignmentId);
+
+        log.debug("Allocation check for employee {}: peak {}%, requested {}%", employeeId, currentUtilization,
+                requested);
+
+        if (currentUtilization + requested > 100) {
+            log.debug("Allocation rejected for employee {}: total {}%", employeeId, currentUtilization + requested);
+            throw new IllegalStateException(String.format(
+                    "Cannot allocate %d%%. Employee is already %d%% allocated %s%s. Only %d%% capacity available.",
+                    requested, currentUtilization, describePeriod(start, end),
+                    excludedAssignmentId != null ? " (excluding this)" : "", 100 - currentUtilization));
+        }
+    }
+
+    /**
+     * Takes the in-process stripe lock and the employee's row lock for the rest
+     * of the transaction, then refreshes the employee's calendar so the capacity
+     * check that follows cannot race another writer on any node.
+     */
+    private void lockEmployee(UUID employeeId) {
+        employeeLocks.lockForTransaction(employeeId);
+        userRepository.findByIdForUpdate(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
+        capacityCalendar.reload(employeeId);
+    }
+
+    /**
+     * Locks the assignment's employee, then reads the assignment. Reading it
+     * first would validate (and save) a row another writer may have changed
+     * while this transaction waited for the lock.
+     */
+    private ProjectAssignment lockAndLoad(UUID assignmentId, String notFoundMessage) {
+        UUID employeeId = assignmentRepository.findEmployeeIdById(assignmentId)
+                .orElseThrow(() -> new RuntimeException(notFoundMessage));
+        lockEmployee(employeeId);
+        return assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new RuntimeException(notFoundMessage));
+    }
+
+    private String describePeriod(LocalDate start, LocalDate end) {
+        return end != null ? "between " + start + " and " + end : "from " + start + " onwards";
     }
 }
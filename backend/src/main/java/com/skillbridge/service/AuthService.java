@@ -6,6 +6,7 @@ import com.skillbridge.entity.User;
 import com.skillbridge.repository.UserRepository;
 import com.skillbridge.security.CustomUserDetails;
 import com.skillbridge.security.JwtService;
+import com.skillbridge.security.SessionCache;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +14,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +23,9 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final SessionCache sessionCache;
 
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -37,6 +41,8 @@ public class AuthService {
         // Update user active JTI to enforce single session
         user.setActiveJti(jti);
         userRepository.save(user);
+        // Older tokens stop working on every node when this commits
+        sessionCache.invalidate(user.getEmail());
 
         // Generate token with this specific JTI
         String jwtToken = jwtService.generateToken(user, jti);
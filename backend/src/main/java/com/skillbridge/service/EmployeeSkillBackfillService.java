@@ -0,0 +1,158 @@
+package com.skillbridge.service;
+
+import com.skillbridge.entity.EmployeeSkill;
+import com.skillbridge.entity.Skill;
+import com.skillbridge.index.SkillCanonicalizer;
+import com.skillbridge.repository.EmployeeSkillRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves employee_skills rows from free-text names to catalog skill IDs.
+ *
+ * <p>
+ * Rows without a skill_id are walked in keyset batches (one transaction per
+ * batch); each name is mapped to a catalog entry through
+ * {@link SkillCatalogService#resolveOrCreate(String, boolean)}, creating missing
+ * entries. Until a pass finds no legacy rows left, reads keep falling back to
+ * skill_name.
+ *
+ * <p>
+ * A pass holds a Postgres advisory lock, so nodes starting together do not
+ * migrate the same rows. A node that finds a pass running elsewhere retries
+ * every skills.backfill.retry-interval-ms until it has completed one itself
+ * (by then a cheap one), which also ends its dual reads.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSkillBackfillService {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final long BACKFILL_LOCK_KEY = 0x5B1D_0003L;
+
+    private final EmployeeSkillRepository employeeSkillRepository;
+    private final SkillCatalogService skillCatalogService;
+    private final SkillCanonicalizer skillCanonicalizer;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${skills.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${skills.backfill.batch-size:500}")
+    private int batchSize;
+
+    // Dual-read switch: true until a backfill pass confirms every row has a skill_id
+    private volatile boolean legacyRows = true;
+    // Startup pass not yet run on this node because another node held the lock
+    private volatile boolean pending;
+
+    public boolean hasLegacyRows() {
+        return legacyRows;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (enabled) {
+            pending = !backfillIfUnlocked();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${skills.backfill.retry-interval-ms:60000}")
+    public void retryPending() {
+        if (pending) {
+            pending = !backfillIfUnlocked();
+        }
+    }
+
+    /** Runs a pass unless another node is running one; returns false when it was skipped. */
+    boolean backfillIfUnlocked() {
+        // Session-level lock on a connection held for the whole pass; its batches commit on their own connections
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                log.info("Employee skill backfill running on another node; retrying later");
+                return false;
+            }
+            try {
+                backfill();
+            } finally {
+                advisoryLock(connection, "pg_advisory_unlock");
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, BACKFILL_LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    public int backfill() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        UUID after = MIN_ID;
+        int migrated = 0;
+
+        while (true) {
+            List<EmployeeSkill> batch = employeeSkillRepository.findBySkillIdIsNullAndIdGreaterThanOrderById(
+                    after, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Integer done = transaction.execute(status -> migrateBatch(batch));
+            migrated += done != null ? done : 0;
+            after = batch.get(batch.size() - 1).getId();
+        }
+
+        long remaining = employeeSkillRepository.countBySkillIdIsNull();
+        legacyRows = remaining > 0;
+        log.info("Employee skill backfill: {} rows linked to catalog skills, {} legacy rows remaining", migrated,
+                remaining);
+        return migrated;
+    }
+
+    private int migrateBatch(List<EmployeeSkill> batch) {
+        Map<String, Skill> resolved = new HashMap<>();
+        int migrated = 0;
+
+        for (EmployeeSkill row : batch) {
+            String name = row.getSkillName();
+            if (name == null || skillCanonicalizer.idOf(name) == SkillCanonicalizer.UNKNOWN) {
+                log.warn("Employee skill {} has no usable name ('{}'); left unlinked", row.getId(), name);
+                continue;
+            }
+            Skill skill = resolved.computeIfAbsent(name.trim().toLowerCase(Locale.ROOT),
+                    k -> skillCatalogService.resolveOrCreate(name, true));
+            row.setSkillId(skill.getId());
+            row.setSkillName(skill.getName());
+            migrated++;
+        }
+
+        employeeSkillRepository.saveAll(batch);
+        return migrated;
+    }
+}
@@ -0,0 +1,277 @@
+package com.skillbridge.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.dto.SkillResponse;
+import com.skillbridge.entity.EmployeeSkill;
+import com.skillbridge.entity.EmployeeSummary;
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.ProjectAssignmentHistory;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.SkillStatus;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.event.EmployeeSkillChangedEvent;
+import com.skillbridge.event.EmployeeSummariesRebuiltEvent;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.index.EmployeeSummaryIndex;
+import com.skillbridge.repository.EmployeeSkillRepository;
+import com.skillbridge.repository.EmployeeSummaryRepository;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the employee_summary read model and its resident mirror
+ * ({@link EmployeeSummaryIndex}).
+ *
+ * <p>
+ * Rows are recomputed per employee from the outbox events of the change
+ * (so they lag a committed write by one dispatch interval) and written in
+ * the dispatcher's transaction; every node's mirror re-reads them when the
+ * event is broadcast as a ClusterEvent. A manager's
+ * rename is pushed to their reports' rows with one update. {@link #rebuild}
+ * recomputes every row in a handful of queries and runs on startup when the
+ * table is out of step with users (first deployment, seeding), on one node
+ * at a time under a Postgres advisory lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSummaryService {
+
+    private static final long REBUILD_LOCK_KEY = 0x5B1D_0004L;
+
+    private final EmployeeSummaryRepository employeeSummaryRepository;
+    private final UserRepository userRepository;
+    private final EmployeeSkillRepository employeeSkillRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final ProjectAssignmentHistoryRepository historyRepository;
+    private final ProjectRepository projectRepository;
+    private final EmployeeSummaryIndex employeeSummaryIndex;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (employeeSummaryRepository.count() == userRepository.count()) {
+            employeeSummaryIndex.reload();
+            return;
+        }
+        // Called on this bean, not through the proxy: open the transaction here
+        Boolean rebuilt = new TransactionTemplate(transactionManager).execute(status -> {
+            // Nodes starting together: one rebuilds, the others pick its rows up from the rebuilt event
+            if (!employeeSummaryRepository.tryAdvisoryXactLock(REBUILD_LOCK_KEY)
+                    || employeeSummaryRepository.count() == userRepository.count()) {
+                return false;
+            }
+            log.info("Employee summaries out of step with users, rebuilding");
+            rebuild();
+            return true;
+        });
+        if (!Boolean.TRUE.equals(rebuilt)) {
+            employeeSummaryIndex.reload();
+        }
+    }
+
+    /** Recomputes every summary from the source tables; returns the number of rows written. */
+    @Transactional
+    public int rebuild() {
+        List<User> users = userRepository.findAll();
+        Map<UUID, User> usersById = users.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<UUID, List<EmployeeSkill>> skillsByEmployee = employeeSkillRepository.findAll().stream()
+                .collect(Collectors.groupingBy(EmployeeSkill::getEmployeeId));
+        Map<UUID, List<ProjectAssignment>> assignmentsByEmployee = assignmentRepository.findAll().stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getEmployeeId,
+                        Collectors.toCollection(ArrayList::new)));
+        // The latest archived assignment still counts when picking the latest one
+        historyRepository.findLatestPerEmployee().forEach(archived -> assignmentsByEmployee
+                .computeIfAbsent(archived.getEmployeeId(), id -> new ArrayList<>())
+                .add(archived.toAssignment()));
+        Map<UUID, Project> projects = projectRepository.findAll().stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<EmployeeSummary> summaries = users.stream()
+                .map(user -> build(user,
+                        managerName(Optional.ofNullable(user.getManagerId()).map(usersById::get), user),
+                        skillsByEmployee.getOrDefault(user.getId(), List.of()),
+                        assignmentsByEmployee.getOrDefault(user.getId(), List.of()),
+                        projects::get))
+                .toList();
+        employeeSummaryRepository.saveAll(summaries);
+
+        Set<UUID> stale = new HashSet<>(employeeSummaryRepository.findAllIds());
+        stale.removeAll(usersById.keySet());
+        employeeSummaryRepository.deleteAllById(stale);
+
+        // Every node's mirror reloads when this is broadcast
+        domainEventPublisher.publish(new EmployeeSummariesRebuiltEvent(UUID.randomUUID()));
+        log.info("Rebuilt {} employee summaries, removed {} stale", summaries.size(), stale.size());
+        return summaries.size();
+    }
+
+    /** Recomputes one employee's row, or removes it if the user no longer exists. */
+    @Transactional
+    public void refresh(UUID employeeId) {
+        Optional<User> found = userRepository.findById(employeeId);
+        if (found.isEmpty()) {
+            employeeSummaryRepository.deleteById(employeeId);
+            return;
+        }
+
+        User user = found.get();
+        Optional<User> manager = Optional.ofNullable(user.getManagerId()).flatMap(userRepository::findById);
+        List<ProjectAssignment> assignments = new ArrayList<>(assignmentRepository.findByEmployeeId(employeeId));
+        historyRepository.findTopByEmployeeIdOrderByStartDateDesc(employeeId)
+                .map(ProjectAssignmentHistory::toAssignment)
+                .ifPresent(assignments::add);
+        Map<UUID, Project> projects = latest(assignments)
+                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
+                .flatMap(a -> projectRepository.findById(a.getProjectId()))
+                .map(project -> Map.of(project.getId(), project))
+                .orElse(Map.of());
+
+        employeeSummaryRepository.save(build(user, managerName(manager, user),
+                employeeSkillRepository.findByEmployeeId(employeeId), assignments, projects::get));
+    }
+
+    @EventListener
+    public void on(AssignmentCreatedEvent event) {
+        refresh(event.employeeId());
+    }
+
+    @EventListener
+    public void on(AssignmentUpdatedEvent event) {
+        refresh(event.employeeId());
+    }
+
+    @EventListener
+    public void on(AssignmentEndedEvent event) {
+        refresh(event.employeeId());
+    }
+
+    @EventListener
+    public void on(EmployeeSkillChangedEvent event) {
+        refresh(event.employeeId());
+    }
+
+    @EventListener
+    public void on(SkillStatusChangedEvent event) {
+        refresh(event.employeeId());
+    }
+
+    @EventListener
+    @Transactional
+    public void on(UserChangedEvent event) {
+        refresh(event.userId());
+        if (event.deleted()) {
+            // Former reports get their own UserChangedEvent when unassigned
+            return;
+        }
+        userRepository.findById(event.userId()).ifPresent(user -> {
+            employeeSummaryRepository.updateManagerName(user.getId(), displayName(user));
+        });
+    }
+
+    private EmployeeSummary build(User user, String managerName, List<EmployeeSkill> skills,
+            List<ProjectAssignment> assignments, Function<UUID, Project> projects) {
+        EmployeeSummary.EmployeeSummaryBuilder summary = EmployeeSummary.builder()
+                .employeeId(user.getId())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .role(user.getRole())
+                .managerId(user.getManagerId())
+                .managerName(managerName)
+                .assignmentStatus("NONE")
+                .projectName("Bench")
+                .totalUtilization(Math.min(100, assignments.stream()
+                        .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
+                        .mapToInt(a -> a.getAllocationPercent() != null ? a.getAllocationPercent() : 100)
+                        .sum()))
+                .skills(skillsJson(skills))
+                .approvedSkills(skills.stream()
+                        .filter(s -> s.getStatus() == SkillStatus.APPROVED)
+                        .map(EmployeeSkill::getSkillName)
+                        .sorted(String.CASE_INSENSITIVE_ORDER)
+                        .collect(Collectors.joining(", ")))
+                .updatedAt(LocalDateTime.now());
+
+        // Same rules as the profile: latest assignment by start date, project only while ACTIVE
+        latest(assignments).ifPresent(assignment -> {
+            summary.assignmentStatus(assignment.getAssignmentStatus().name())
+                    .startDate(assignment.getStartDate())
+                    .endDate(assignment.getEndDate())
+                    .billingStatus(assignment.getBillingType() != null ? assignment.getBillingType().name() : null);
+            Project project = assignment.getAssignmentStatus() == AssignmentStatus.ACTIVE
+                    ? projects.apply(assignment.getProjectId())
+                    : null;
+            if (project != null) {
+                summary.projectName(project.getName()).companyName(project.getCompanyName());
+            }
+        });
+        return summary.build();
+    }
+
+    private static Optional<ProjectAssignment> latest(List<ProjectAssignment> assignments) {
+        return assignments.stream().max(Comparator.comparing(ProjectAssignment::getStartDate,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+    }
+
+    private static String managerName(Optional<User> manager, User user) {
+        if (user.getManagerId() == null) {
+            return null;
+        }
+        return manager.map(EmployeeSummaryService::displayName).orElse("Unknown");
+    }
+
+    private static String displayName(User user) {
+        String fName = user.getFirstName() != null ? user.getFirstName().trim() : "";
+        String lName = user.getLastName() != null ? user.getLastName().trim() : "";
+        String fullName = (fName + " " + lName).trim();
+        return !fullName.isEmpty() ? fullName : user.getEmail();
+    }
+
+    private String skillsJson(List<EmployeeSkill> skills) {
+        List<SkillResponse> entries = skills.stream()
+                .map(skill -> SkillResponse.builder()
+                        .id(skill.getId())
+                        .skillId(skill.getSkillId())
+                        .skillName(skill.getSkillName())
+                        .proficiencyLevel(skill.getProficiencyLevel())
+                        .status(skill.getStatus())
+                        .build())
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(entries);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise skills", e);
+        }
+    }
+}
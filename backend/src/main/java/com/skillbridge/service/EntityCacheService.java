@@ -0,0 +1,86 @@
+package com.skillbridge.service;
+
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.Skill;
+import com.skillbridge.index.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+/**
+ * Explicit invalidation and metrics for the Hibernate second-level cache
+ * regions declared in ehcache.xml.
+ *
+ * <p>
+ * READ_WRITE regions already follow writes made through Hibernate; the
+ * evictions here make ProjectService and SkillCatalogService writes drop the
+ * cached copy outright after commit, which also covers rows touched by bulk
+ * or native statements. The hibernate.l2.* meters are only registered when
+ * Hibernate statistics are enabled (HIBERNATE_STATISTICS=true), since
+ * collecting them costs every session.
+ */
+@Service
+public class EntityCacheService implements MeterBinder {
+
+    public static final String PROJECTS_REGION = "projects";
+    public static final String TECH_STACK_REGION = "projectTechStack";
+    public static final String SKILLS_REGION = "skills";
+
+    private static final List<String> REGIONS = List.of(PROJECTS_REGION, TECH_STACK_REGION, SKILLS_REGION);
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public void evictProject(UUID projectId) {
+        AfterCommit.run(() -> {
+            sessionFactory.getCache().evictEntityData(Project.class, projectId);
+            sessionFactory.getCache().evictCollectionData(Project.class.getName() + ".techStack", projectId);
+        });
+    }
+
+    public void evictSkill(UUID skillId) {
+        AfterCommit.run(() -> sessionFactory.getCache().evictEntityData(Skill.class, skillId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String region : REGIONS) {
+            bind(registry, statistics, region, "hibernate.l2.hits", CacheRegionStatistics::getHitCount);
+            bind(registry, statistics, region, "hibernate.l2.misses", CacheRegionStatistics::getMissCount);
+            bind(registry, statistics, region, "hibernate.l2.puts", CacheRegionStatistics::getPutCount);
+            Gauge.builder("hibernate.l2.size", statistics,
+                    s -> regionValue(s, region, CacheRegionStatistics::getElementCountInMemory))
+                    .tag("region", region)
+                    .description("Entries held in memory for the region")
+                    .register(registry);
+        }
+    }
+
+    private void bind(MeterRegistry registry, Statistics statistics, String region, String name,
+            ToDoubleFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder(name, statistics, s -> regionValue(s, region, value))
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private double regionValue(Statistics statistics, String region, ToDoubleFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? value.applyAsDouble(regionStatistics) : 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.skillbridge.service;
+
+import com.skillbridge.dto.NotificationResponse;
+import com.skillbridge.entity.Notification;
+import com.skillbridge.entity.User;
+import com.skillbridge.repository.NotificationRepository;
+import com.skillbridge.security.CustomUserDetails;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getMyNotifications(boolean unreadOnly, int limit) {
+        UUID recipientId = getAuthenticatedUser().getId();
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        List<Notification> notifications = unreadOnly
+                ? notificationRepository.findByRecipientIdAndReadAtIsNullOrderByCreatedAtDesc(recipientId, page)
+                : notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId, page);
+        return notifications.stream().map(this::mapToResponse).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount() {
+        return notificationRepository.countByRecipientIdAndReadAtIsNull(getAuthenticatedUser().getId());
+    }
+
+    // Idempotent; notifications of other users are left untouched
+    @Transactional
+    public void markRead(UUID notificationId) {
+        notificationRepository.markRead(notificationId, getAuthenticatedUser().getId(), LocalDateTime.now());
+    }
+
+    @Transactional
+    public int markAllRead() {
+        return notificationRepository.markAllRead(getAuthenticatedUser().getId(), LocalDateTime.now());
+    }
+
+    private NotificationResponse mapToResponse(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .createdAt(notification.getCreatedAt())
+                .read(notification.getReadAt() != null)
+                .build();
+    }
+
+    private User getAuthenticatedUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            return customUserDetails.getUser();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
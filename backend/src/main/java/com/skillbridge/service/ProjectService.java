@@ -2,8 +2,14 @@ package com.skillbridge.service;
 
 import com.skillbridge.dto.CreateProjectRequest;
 import com.skillbridge.dto.ProjectResponse;
+import com.skillbridge.dto.ProjectStaffingResponse;
 import com.skillbridge.entity.Project;
+import com.skillbridge.enums.MatchMode;
 import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.event.ProjectChangedEvent;
+import com.skillbridge.index.ProjectStaffingCounters;
+import com.skillbridge.index.ProjectTechIndex;
 import com.skillbridge.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +23,10 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final EntityCacheService entityCacheService;
+    private final ProjectTechIndex projectTechIndex;
+    private final ProjectStaffingCounters projectStaffingCounters;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public ProjectResponse createProject(CreateProjectRequest request) {
@@ -39,23 +49,45 @@ public class ProjectService {
                 .build();
 
         Project savedProject = projectRepository.save(project);
+        domainEventPublisher.publish(new ProjectChangedEvent(savedProject.getId()));
         return mapToResponse(savedProject);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll().stream()
+        return projectRepository.findAllWithTechStack().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getActiveProjects() {
-        return projectRepository.findByStatus(ProjectStatus.ACTIVE).stream()
+        return projectRepository.findByStatusWithTechStack(ProjectStatus.ACTIVE).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Projects using all (or any) of the given technologies, resolved from the
+     * resident tech index; only the matching projects are loaded.
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> findByTechnologies(List<String> technologies, MatchMode mode, ProjectStatus status) {
+        java.util.Set<java.util.UUID> ids = projectTechIndex.find(technologies, mode, status);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return projectRepository.findAllWithTechStackByIdIn(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    // Answered from the resident counters; no query against project_assignments
+    public List<ProjectStaffingResponse> getStaffingGaps(java.util.Set<ProjectStatus> statuses,
+            boolean understaffedOnly) {
+        return projectStaffingCounters.gaps(statuses, understaffedOnly);
+    }
+
     @Transactional
     public ProjectResponse updateProjectStatus(java.util.UUID projectId, ProjectStatus newStatus) {
         Project project = projectRepository.findById(projectId)
@@ -63,6 +95,8 @@ public class ProjectService {
 
         project.setStatus(newStatus);
         Project updatedProject = projectRepository.save(project);
+        entityCacheService.evictProject(projectId);
+        domainEventPublisher.publish(new ProjectChangedEvent(projectId));
 
         return mapToResponse(updatedProject);
     }
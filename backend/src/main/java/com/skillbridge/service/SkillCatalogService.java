@@ -1,10 +1,17 @@
 package com.skillbridge.service;
 
 import com.skillbridge.entity.Skill;
+import com.skillbridge.event.CatalogSkillChangedEvent;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.AfterCommit;
+import com.skillbridge.index.SkillCanonicalizer;
+import com.skillbridge.repository.EmployeeSkillRepository;
 import com.skillbridge.repository.SkillRepository;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class SkillCatalogService {
 
     private final SkillRepository skillRepository;
+    private final EmployeeSkillRepository employeeSkillRepository;
+    private final EntityCacheService entityCacheService;
+    private final SkillCanonicalizer skillCanonicalizer;
+    private final DomainEventPublisher domainEventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     public List<Skill> getAllSkills() {
         return skillRepository.findAll();
@@ -23,11 +35,87 @@ public class SkillCatalogService {
         if (skillRepository.existsByNameIgnoreCase(skill.getName())) {
             throw new RuntimeException("Skill with this name already exists");
         }
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        registerCreated(saved);
+        return saved;
+    }
+
+    /**
+     * Catalog entry for a free-text skill name: exact name first, then any entry
+     * that canonicalises to the same skill ("ReactJS" -> "React"). Unknown names
+     * are added to the catalog under their canonical spelling when
+     * {@code mayCreate} (HR, or the backfill); anyone else gets the closest
+     * catalog names to choose from instead.
+     */
+    @Transactional
+    public Skill resolveOrCreate(String rawName, boolean mayCreate) {
+        if (rawName == null || rawName.isBlank()) {
+            throw new RuntimeException("Skill name is required");
+        }
+
+        // 1. Exact catalog name
+        Optional<Skill> exact = skillRepository.findByNameIgnoreCase(rawName.trim());
+        if (exact.isPresent()) {
+            return exact.get();
+        }
+
+        int knownId = skillCanonicalizer.knownIdOf(rawName);
+        if (knownId != SkillCanonicalizer.UNKNOWN) {
+            // 2. Catalog entry for a synonym or another spelling (by id, served from the L2 cache)
+            for (UUID catalogId : skillCanonicalizer.catalogIdsOf(knownId)) {
+                Optional<Skill> variant = skillRepository.findById(catalogId);
+                if (variant.isPresent()) {
+                    return variant.get();
+                }
+            }
+            // 3. Catalog entry under the canonical spelling
+            Optional<Skill> canonical = skillRepository.findByNameIgnoreCase(skillCanonicalizer.displayName(knownId));
+            if (canonical.isPresent()) {
+                return canonical.get();
+            }
+        }
+
+        if (!mayCreate) {
+            List<String> suggestions = skillCanonicalizer.suggest(rawName, 3);
+            throw new RuntimeException("'" + rawName.trim() + "' is not in the skill catalog"
+                    + (suggestions.isEmpty() ? "; ask HR to add it"
+                            : ". Did you mean: " + String.join(", ", suggestions) + "?"));
+        }
+
+        int canonicalId = skillCanonicalizer.idOf(rawName);
+        if (canonicalId == SkillCanonicalizer.UNKNOWN) {
+            throw new RuntimeException("Invalid skill name: " + rawName);
+        }
+
+        // 4. Auto-create; a concurrent create of the same name wins quietly and is read back
+        String canonicalName = skillCanonicalizer.displayName(canonicalId);
+        jdbcTemplate.update("INSERT INTO skills (id, name, category, description) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (name) DO NOTHING",
+                UUID.randomUUID(), canonicalName, "Uncategorized", "Added from employee skill profiles");
+        Skill created = skillRepository.findByNameIgnoreCase(canonicalName)
+                .orElseThrow(() -> new IllegalStateException("Catalog skill vanished after insert: " + canonicalName));
+        registerCreated(created);
+        return created;
+    }
+
+    public List<String> suggest(String query, int limit) {
+        return skillCanonicalizer.suggest(query, Math.max(1, Math.min(limit, 50)));
     }
 
     @Transactional
     public void deleteSkill(UUID id) {
+        if (employeeSkillRepository.existsBySkillId(id)) {
+            throw new RuntimeException("Skill is still held by employees and cannot be deleted");
+        }
         skillRepository.deleteById(id);
+        entityCacheService.evictSkill(id);
+        domainEventPublisher.publish(new CatalogSkillChangedEvent(id, null, true));
+        AfterCommit.run(() -> skillCanonicalizer.unregisterCatalogSkill(id));
+    }
+
+    // Other nodes learn the catalog ID through the event; this one straight after commit
+    private void registerCreated(Skill skill) {
+        domainEventPublisher.publish(new CatalogSkillChangedEvent(skill.getId(), skill.getName(), false));
+        AfterCommit.run(() -> skillCanonicalizer.registerCatalogSkill(skill));
     }
 }
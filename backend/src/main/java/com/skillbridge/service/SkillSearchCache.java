@@ -0,0 +1,164 @@
+package com.skillbridge.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.dto.SkillSearchResponse;
+import com.skillbridge.enums.MatchMode;
+import com.skillbridge.enums.ProficiencyLevel;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.AssignmentUpdatedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ClusterResyncEvent;
+import com.skillbridge.event.EmployeeSkillChangedEvent;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.SkillCanonicalizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+/**
+ * Result pages of SkillSearchService, keyed by the canonical query and the
+ * caller's scope (HR, or one manager's direct reports).
+ *
+ * <p>
+ * Entries are dropped as change events reach this node as
+ * {@link ClusterEvent}s: when an employee skill inside the entry's skills and
+ * scope changes, when a user in a cached page (or the scope's team)
+ * changes, or when an assignment of any ranked candidate changes, since free
+ * capacity is part of the score. Everything is dropped after a cluster
+ * resync. A generation counter
+ * stops a search that raced with an invalidation from caching its now-stale
+ * result.
+ */
+@Service
+public class SkillSearchCache implements MeterBinder {
+
+    private final Cache<SearchKey, Result> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final SkillCanonicalizer skillCanonicalizer;
+    private final OrgHierarchy orgHierarchy;
+
+    public SkillSearchCache(SkillCanonicalizer skillCanonicalizer, OrgHierarchy orgHierarchy,
+            @Value("${skills.search-cache.max-entries:2000}") long maxEntries,
+            @Value("${skills.search-cache.ttl:10m}") Duration ttl) {
+        this.skillCanonicalizer = skillCanonicalizer;
+        this.orgHierarchy = orgHierarchy;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Page<SkillSearchResponse> get(SearchKey key, Supplier<Result> search) {
+        Result cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.page();
+        }
+        long before = generation.get();
+        Result result = search.get();
+        if (generation.get() == before) {
+            cache.put(key, result);
+        }
+        return result.page();
+    }
+
+    @EventListener
+    public void onSkillChanged(ClusterEvent<EmployeeSkillChangedEvent> clusterEvent) {
+        EmployeeSkillChangedEvent event = clusterEvent.event();
+        invalidateSkills(event.employeeId(), event.skillNames());
+    }
+
+    @EventListener
+    public void onSkillStatusChanged(ClusterEvent<SkillStatusChangedEvent> clusterEvent) {
+        SkillStatusChangedEvent event = clusterEvent.event();
+        invalidateSkills(event.employeeId(), Set.of(event.skillName()));
+    }
+
+    @EventListener
+    public void onUserChanged(ClusterEvent<UserChangedEvent> clusterEvent) {
+        UserChangedEvent event = clusterEvent.event();
+        UUID userId = event.userId();
+        // Team membership of the old and new manager, the user's own scope, and any page showing the user
+        invalidate((key, result) -> Objects.equals(key.managerScope(), event.previousManagerId())
+                || Objects.equals(key.managerScope(), event.managerId())
+                || userId.equals(key.managerScope())
+                || result.page().getContent().stream().anyMatch(response -> userId.equals(response.getUserId())));
+    }
+
+    @EventListener
+    public void onAssignmentCreated(ClusterEvent<AssignmentCreatedEvent> clusterEvent) {
+        invalidateCandidate(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onAssignmentUpdated(ClusterEvent<AssignmentUpdatedEvent> clusterEvent) {
+        invalidateCandidate(clusterEvent.event().employeeId());
+    }
+
+    @EventListener
+    public void onAssignmentEnded(ClusterEvent<AssignmentEndedEvent> clusterEvent) {
+        invalidateCandidate(clusterEvent.event().employeeId());
+    }
+
+    @EventListener(ClusterResyncEvent.class)
+    public void onResync() {
+        invalidate((key, result) -> true);
+    }
+
+    private void invalidateSkills(UUID employeeId, Set<String> skillNames) {
+        Set<Integer> changed = skillNames.stream()
+                .map(skillCanonicalizer::idOf)
+                .collect(Collectors.toSet());
+        invalidate((key, result) -> key.skillIds().stream().anyMatch(changed::contains)
+                && (key.managerScope() == null
+                        || orgHierarchy.directReports(key.managerScope()).contains(employeeId)));
+    }
+
+    // Free capacity moved: every ranking the employee took part in may change
+    private void invalidateCandidate(UUID employeeId) {
+        invalidate((key, result) -> result.candidates().contains(employeeId));
+    }
+
+    private void invalidate(BiPredicate<SearchKey, Result> affected) {
+        generation.incrementAndGet();
+        cache.asMap().entrySet().removeIf(entry -> affected.test(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "skillSearch");
+        Gauge.builder("skill.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of skill searches answered from the result cache")
+                .register(registry);
+    }
+
+    /** A result page and every employee that was ranked for it, not only those on the page. */
+    public record Result(Page<SkillSearchResponse> page, Set<UUID> candidates) {
+    }
+
+    /**
+     * managerScope is null for HR (everyone) and the manager's ID otherwise;
+     * skillIds are canonical IDs in ascending order.
+     */
+    public record SearchKey(UUID managerScope, List<Integer> skillIds, MatchMode matchMode,
+            ProficiencyLevel minProficiency, int page, int size) {
+    }
+}
@@ -1,22 +1,38 @@
 package com.skillbridge.service;
 
+import com.skillbridge.dto.ResolvedSkillTerm;
 import com.skillbridge.dto.SkillSearchRequest;
 import com.skillbridge.dto.SkillSearchResponse;
+import com.skillbridge.dto.UserProfileResponse;
 import com.skillbridge.entity.EmployeeSkill;
 import com.skillbridge.entity.User;
 
+import com.skillbridge.enums.MatchMode;
+import com.skillbridge.enums.ProficiencyLevel;
 import com.skillbridge.enums.Role;
 import com.skillbridge.enums.SkillStatus;
+import com.skillbridge.index.CapacityCalendar;
+import com.skillbridge.index.EmployeeSummaryIndex;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.SkillCanonicalizer;
 import com.skillbridge.repository.EmployeeSkillRepository;
-import com.skillbridge.repository.UserRepository;
 import com.skillbridge.security.CustomUserDetails;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,128 +41,239 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SkillSearchService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final int AVAILABILITY_WINDOW_DAYS = 28;
+    private static final int PROFICIENCY_LEVELS = ProficiencyLevel.values().length;
+    private static final double COVERAGE_WEIGHT = 0.5;
+    private static final double PROFICIENCY_WEIGHT = 0.3;
+    private static final double AVAILABILITY_WEIGHT = 0.2;
+
     private final EmployeeSkillRepository employeeSkillRepository;
-    private final UserRepository userRepository;
+    private final SkillCanonicalizer skillCanonicalizer;
+    private final EmployeeSkillBackfillService employeeSkillBackfillService;
+    private final OrgHierarchy orgHierarchy;
+    private final CapacityCalendar capacityCalendar;
+    private final EmployeeSummaryIndex employeeSummaryIndex;
+    private final SkillSearchCache skillSearchCache;
 
     @Transactional(readOnly = true)
-    public List<SkillSearchResponse> searchSkills(SkillSearchRequest request) {
+    public Page<SkillSearchResponse> searchSkills(SkillSearchRequest request) {
         User currentUser = getAuthenticatedUser();
         Role currentUserRole = currentUser.getRole();
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, Math.min(request.getSize() > 0 ? request.getSize() : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(page, size);
 
-        // 1. Fetch skills
-        List<EmployeeSkill> skills;
-        if (request.getSkillNames() != null && !request.getSkillNames().isEmpty()) {
-            skills = employeeSkillRepository.findBySkillNameInIgnoreCaseAndStatus(
-                    request.getSkillNames(),
-                    SkillStatus.APPROVED);
+        // Managers see their direct reports, HR sees everyone
+        Set<UUID> visibleEmployees;
+        if (currentUserRole == Role.MANAGER) {
+            visibleEmployees = orgHierarchy.directReports(currentUser.getId());
+        } else if (currentUserRole == Role.HR) {
+            visibleEmployees = null;
         } else {
-            skills = employeeSkillRepository.findBySkillNameIgnoreCaseAndStatus(
-                    request.getSkillName(),
-                    SkillStatus.APPROVED);
+            return Page.empty(pageable);
         }
 
-        if (skills.isEmpty()) {
-            return List.of();
+        // 1. Resolve requested names to canonical skill IDs (synonym and typo tolerant)
+        int[] requestedIds = requestedNames(request).stream()
+                .mapToInt(skillCanonicalizer::resolve)
+                .distinct()
+                .sorted()
+                .toArray();
+        MatchMode matchMode = request.getMatchMode() != null ? request.getMatchMode() : MatchMode.ALL;
+        if (requestedIds.length == 0
+                || (matchMode == MatchMode.ALL
+                        && Arrays.stream(requestedIds).anyMatch(id -> id == SkillCanonicalizer.UNKNOWN))) {
+            return Page.empty(pageable);
         }
 
-        // 2. Fetch Users associated with these skills
-        Set<UUID> employeeIds = skills.stream()
-                .map(EmployeeSkill::getEmployeeId)
-                .collect(Collectors.toSet());
+        // 2. Serve repeated searches from the scoped result cache
+        ProficiencyLevel minProficiency = request.getMinProficiencyLevel();
+        SkillSearchCache.SearchKey key = new SkillSearchCache.SearchKey(
+                currentUserRole == Role.MANAGER ? currentUser.getId() : null,
+                Arrays.stream(requestedIds).boxed().toList(), matchMode, minProficiency, page, size);
+        return skillSearchCache.get(key,
+                () -> rank(requestedIds, matchMode, minProficiency, visibleEmployees, pageable));
+    }
+
+    /** The canonical skill each search term resolved to, and whether it matched exactly, by synonym or fuzzily. */
+    public List<ResolvedSkillTerm> resolveTerms(SkillSearchRequest request) {
+        return requestedNames(request).stream()
+                .map(term -> {
+                    SkillCanonicalizer.Resolution resolution = skillCanonicalizer.resolveTerm(term);
+                    return ResolvedSkillTerm.builder()
+                            .term(term)
+                            .skillName(skillCanonicalizer.displayName(resolution.id()))
+                            .match(resolution.match())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> requestedNames(SkillSearchRequest request) {
+        return request.getSkillNames() != null && !request.getSkillNames().isEmpty()
+                ? request.getSkillNames()
+                : (request.getSkillName() != null ? List.of(request.getSkillName()) : List.of());
+    }
 
-        // Optimize: Fetch all users in one query
-        Map<UUID, User> userMap = userRepository.findAllById(employeeIds).stream()
-                .collect(Collectors.toMap(User::getId, user -> user));
+    private SkillSearchCache.Result rank(int[] requestedIds, MatchMode matchMode, ProficiencyLevel minProficiency,
+            Set<UUID> visibleEmployees, Pageable pageable) {
+        int page = pageable.getPageNumber();
+        int size = pageable.getPageSize();
+
+        // 3. Fetch skills by catalog ID, plus legacy rows still keyed only by name
+        List<EmployeeSkill> skills = new ArrayList<>();
+        List<UUID> catalogIds = skillCanonicalizer.catalogIdsOf(requestedIds);
+        if (!catalogIds.isEmpty()) {
+            skills.addAll(employeeSkillRepository.findBySkillIdInAndStatus(catalogIds, SkillStatus.APPROVED));
+        }
+        if (employeeSkillBackfillService.hasLegacyRows()) {
+            skills.addAll(employeeSkillRepository.findBySkillIdIsNullAndSkillNameInIgnoreCaseAndStatus(
+                    skillCanonicalizer.variantsOf(requestedIds),
+                    SkillStatus.APPROVED));
+        }
+
+        if (skills.isEmpty()) {
+            return new SkillSearchCache.Result(Page.empty(pageable), Set.of());
+        }
 
-        // 3. For multi-skill search: Group by employee and filter for employees with
-        // ALL requested skills
         Map<UUID, List<EmployeeSkill>> skillsByEmployee = skills.stream()
+                .filter(s -> visibleEmployees == null || visibleEmployees.contains(s.getEmployeeId()))
                 .collect(Collectors.groupingBy(EmployeeSkill::getEmployeeId));
 
-        // If searching for multiple skills, filter to only employees who have ALL of
-        // them
-        if (request.getSkillNames() != null && request.getSkillNames().size() > 1) {
-            Set<String> requestedSkillsLower = request.getSkillNames().stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet());
-
-            skillsByEmployee = skillsByEmployee.entrySet().stream()
-                    .filter(entry -> {
-                        Set<String> employeeSkillsLower = entry.getValue().stream()
-                                .map(s -> s.getSkillName().toLowerCase())
-                                .collect(Collectors.toSet());
-                        return employeeSkillsLower.containsAll(requestedSkillsLower);
-                    })
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        // 4. Coverage and proficiency of every qualifying employee
+        Map<UUID, Double> skillScores = new HashMap<>();
+        int[] bestLevel = new int[requestedIds.length];
+        for (Map.Entry<UUID, List<EmployeeSkill>> entry : skillsByEmployee.entrySet()) {
+            // minProficiency is met by any one requested skill, as before ranking was added
+            if (minProficiency != null && entry.getValue().stream()
+                    .noneMatch(s -> s.getProficiencyLevel().ordinal() >= minProficiency.ordinal())) {
+                continue;
+            }
+            Arrays.fill(bestLevel, -1);
+            int matched = 0;
+            for (EmployeeSkill s : entry.getValue()) {
+                int slot = indexOf(requestedIds, skillCanonicalizer.idOf(s.getSkillName()));
+                if (slot >= 0) {
+                    if (bestLevel[slot] < 0) {
+                        matched++;
+                    }
+                    bestLevel[slot] = Math.max(bestLevel[slot], s.getProficiencyLevel().ordinal());
+                }
+            }
+            if (matched == 0 || (matchMode == MatchMode.ALL && matched < requestedIds.length)) {
+                continue;
+            }
+            skillScores.put(entry.getKey(), skillScore(bestLevel, matched));
         }
+        long total = skillScores.size();
+        Set<UUID> candidates = Set.copyOf(skillScores.keySet());
 
-        // 4. Filter & Map - one entry per employee with combined skills
-        return skillsByEmployee.entrySet().stream()
-                .filter(entry -> {
-                    // Filter by role
-                    User employee = userMap.get(entry.getKey());
-                    if (employee == null)
-                        return false;
+        // 5. Add free capacity (loaded for all candidates at once), keeping only the best K = (page + 1) * size
+        LocalDate today = LocalDate.now();
+        Map<UUID, Integer> availability = capacityCalendar.availableCapacity(skillScores.keySet(), today,
+                today.plusDays(AVAILABILITY_WINDOW_DAYS - 1));
+        int k = (page + 1) * size;
+        PriorityQueue<Candidate> topK = new PriorityQueue<>(Math.min(k, skillScores.size() + 1),
+                Comparator.comparingDouble(Candidate::score)
+                        .thenComparing(Candidate::employeeId, Comparator.reverseOrder()));
+        for (Map.Entry<UUID, Double> entry : skillScores.entrySet()) {
+            int available = availability.get(entry.getKey());
+            double score = entry.getValue() + AVAILABILITY_WEIGHT * (available / 100.0);
+            if (topK.size() < k) {
+                topK.add(new Candidate(entry.getKey(), score, available));
+            } else if (score > topK.peek().score()) {
+                topK.poll();
+                topK.add(new Candidate(entry.getKey(), score, available));
+            }
+        }
 
-                    if (currentUserRole == Role.MANAGER) {
-                        return currentUser.getId().equals(employee.getManagerId());
-                    }
-                    return currentUserRole == Role.HR;
-                })
-                .filter(entry -> {
-                    // Filter by proficiency if specified
-                    if (request.getMinProficiencyLevel() != null) {
-                        return entry.getValue().stream()
-                                .anyMatch(skill -> skill.getProficiencyLevel().ordinal() >= request
-                                        .getMinProficiencyLevel().ordinal());
-                    }
-                    return true;
-                })
-                .map(entry -> {
-                    UUID employeeId = entry.getKey();
-                    List<EmployeeSkill> employeeSkills = entry.getValue();
-                    User employee = userMap.get(employeeId);
-
-                    // Map individual skills to SkillResponse
-                    List<com.skillbridge.dto.SkillResponse> matches = employeeSkills.stream()
-                            .map(s -> com.skillbridge.dto.SkillResponse.builder()
-                                    .id(s.getId())
-                                    .skillName(s.getSkillName())
-                                    .proficiencyLevel(s.getProficiencyLevel())
-                                    .status(s.getStatus())
-                                    .build())
-                            .sorted(Comparator.comparing(com.skillbridge.dto.SkillResponse::getProficiencyLevel)
-                                    .reversed())
-                            .collect(Collectors.toList());
-
-                    // Combine skill names (legacy support/display summary)
-                    String combinedSkills = matches.stream()
-                            .map(com.skillbridge.dto.SkillResponse::getSkillName)
-                            .collect(Collectors.joining(", "));
-
-                    // Get highest proficiency level (legacy support)
-                    com.skillbridge.enums.ProficiencyLevel highestLevel = matches.stream()
-                            .map(com.skillbridge.dto.SkillResponse::getProficiencyLevel)
-                            .max(Comparator.comparingInt(Enum::ordinal))
-                            .orElse(com.skillbridge.enums.ProficiencyLevel.BEGINNER);
-
-                    // Get first status (legacy)
-                    SkillStatus status = matches.isEmpty() ? SkillStatus.PENDING : matches.get(0).getStatus();
-
-                    return SkillSearchResponse.builder()
-                            .userId(employee.getId())
-                            .email(employee.getEmail())
-                            .employeeName(employee.getFirstName() + " " + employee.getLastName()) // Fix: Use name
-                                                                                                  // instead of email
-                            .skillName(combinedSkills)
-                            .proficiencyLevel(highestLevel)
-                            .status(status)
-                            .managerId(employee.getManagerId())
-                            .matches(matches)
-                            .build();
-                })
-                .sorted(Comparator.comparing(SkillSearchResponse::getProficiencyLevel).reversed())
+        // 6. Materialise only the requested page
+        List<Candidate> ranked = new ArrayList<>(topK);
+        ranked.sort(topK.comparator().reversed());
+        if (ranked.size() <= page * size) {
+            return new SkillSearchCache.Result(new PageImpl<>(List.of(), pageable, total), candidates);
+        }
+        List<Candidate> pageCandidates = ranked.subList(page * size, ranked.size());
+
+        // Names, emails and managers come from the resident employee summaries
+        List<SkillSearchResponse> content = new ArrayList<>(pageCandidates.size());
+        for (Candidate candidate : pageCandidates) {
+            UserProfileResponse employee = employeeSummaryIndex.get(candidate.employeeId());
+            if (employee != null) {
+                content.add(toResponse(candidate, employee, skillsByEmployee.get(candidate.employeeId())));
+            }
+        }
+        return new SkillSearchCache.Result(new PageImpl<>(content, pageable, total), candidates);
+    }
+
+    /**
+     * Skill part of the relevance in [0, 1]: half coverage of the requested
+     * skills, 30% mean proficiency across them (missing skills count as zero).
+     * The remaining 20% is free capacity over the next four weeks.
+     */
+    private static double skillScore(int[] bestLevel, int matched) {
+        double coverage = (double) matched / bestLevel.length;
+        double proficiency = 0;
+        for (int level : bestLevel) {
+            if (level >= 0) {
+                proficiency += (level + 1) / (double) PROFICIENCY_LEVELS;
+            }
+        }
+        proficiency /= bestLevel.length;
+        return COVERAGE_WEIGHT * coverage + PROFICIENCY_WEIGHT * proficiency;
+    }
+
+    private static int indexOf(int[] ids, int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private SkillSearchResponse toResponse(Candidate candidate, UserProfileResponse employee,
+            List<EmployeeSkill> employeeSkills) {
+        // Map individual skills to SkillResponse
+        List<com.skillbridge.dto.SkillResponse> matches = employeeSkills.stream()
+                .map(s -> com.skillbridge.dto.SkillResponse.builder()
+                        .id(s.getId())
+                        .skillId(s.getSkillId())
+                        .skillName(s.getSkillName())
+                        .proficiencyLevel(s.getProficiencyLevel())
+                        .status(s.getStatus())
+                        .build())
+                .sorted(Comparator.comparing(com.skillbridge.dto.SkillResponse::getProficiencyLevel)
+                        .reversed())
                 .collect(Collectors.toList());
+
+        // Combine skill names (legacy support/display summary)
+        String combinedSkills = matches.stream()
+                .map(com.skillbridge.dto.SkillResponse::getSkillName)
+                .collect(Collectors.joining(", "));
+
+        // Highest proficiency level and first status (legacy support)
+        ProficiencyLevel highestLevel = matches.get(0).getProficiencyLevel();
+        SkillStatus status = matches.get(0).getStatus();
+
+        return SkillSearchResponse.builder()
+                .userId(employee.getId())
+                .email(employee.getEmail())
+                .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                .skillName(combinedSkills)
+                .proficiencyLevel(highestLevel)
+                .status(status)
+                .managerId(employee.getManagerId())
+                .matches(matches)
+                .score(Math.round(candidate.score() * 1000) / 1000.0)
+                .availableCapacity(candidate.availableCapacity())
+                .build();
+    }
+
+    private record Candidate(UUID employeeId, double score, int availableCapacity) {
     }
 
     private User getAuthenticatedUser() {
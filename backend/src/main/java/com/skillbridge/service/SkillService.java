@@ -4,13 +4,22 @@ import com.skillbridge.dto.AddSkillRequest;
 import com.skillbridge.dto.SkillApprovalRequest;
 import com.skillbridge.dto.SkillResponse;
 import com.skillbridge.entity.EmployeeSkill;
+import com.skillbridge.entity.Skill;
 import com.skillbridge.entity.User;
 import com.skillbridge.enums.SkillStatus;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.event.EmployeeSkillChangedEvent;
+import com.skillbridge.event.SkillStatusChangedEvent;
+import com.skillbridge.index.OrgHierarchy;
 import com.skillbridge.repository.EmployeeSkillRepository;
 import com.skillbridge.repository.UserRepository;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -24,6 +33,9 @@ public class SkillService {
 
     private final EmployeeSkillRepository employeeSkillRepository;
     private final UserRepository userRepository;
+    private final OrgHierarchy orgHierarchy;
+    private final SkillCatalogService skillCatalogService;
+    private final DomainEventPublisher domainEventPublisher;
 
     private User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -35,10 +47,11 @@ public class SkillService {
     public SkillResponse addSkill(AddSkillRequest request) {
         User employee = getCurrentUser();
 
-        // Check for uniqueness
-        if (employeeSkillRepository.existsByEmployeeIdAndSkillNameIgnoreCase(employee.getId(),
-                request.getSkillName())) {
-            throw new RuntimeException("You have already added the skill: " + request.getSkillName());
+        // Check for uniqueness against the catalog skill, not the spelling
+        Skill catalogSkill = skillCatalogService.resolveOrCreate(request.getSkillName(),
+                employee.getRole() == com.skillbridge.enums.Role.HR);
+        if (hasSkill(employee.getId(), catalogSkill)) {
+            throw new RuntimeException("You have already added the skill: " + catalogSkill.getName());
         }
 
         // Managers get auto-approved skills, employees need manager approval
@@ -48,38 +61,38 @@ public class SkillService {
 
         EmployeeSkill skill = EmployeeSkill.builder()
                 .employeeId(employee.getId())
-                .skillName(request.getSkillName())
+                .skillId(catalogSkill.getId())
+                .skillName(catalogSkill.getName())
                 .proficiencyLevel(request.getProficiencyLevel())
                 .status(initialStatus)
                 .build();
 
         EmployeeSkill savedSkill = employeeSkillRepository.save(skill);
+        publishChanged(savedSkill, savedSkill.getSkillName());
         return mapToResponse(savedSkill);
     }
 
     public List<SkillResponse> getMySkills() {
         User employee = getCurrentUser();
         return employeeSkillRepository.findByEmployeeId(employee.getId()).stream()
-                .map(this::mapToResponse)
+                .map(skill -> mapToResponse(skill, employee))
                 .collect(Collectors.toList());
     }
 
     public List<SkillResponse> getPendingSkillsForManager() {
         User manager = getCurrentUser();
-        List<User> subordinates = userRepository.findAll().stream()
-                .filter(u -> Objects.equals(u.getManagerId(), manager.getId()))
-                .collect(Collectors.toList());
-
-        List<UUID> subordinateIds = subordinates.stream()
-                .map(User::getId)
-                .collect(Collectors.toList());
+        List<UUID> subordinateIds = List.copyOf(orgHierarchy.directReports(manager.getId()));
 
         if (subordinateIds.isEmpty()) {
             return List.of();
         }
 
+        // Load the employees once rather than per skill
+        Map<UUID, User> employees = userRepository.findAllById(subordinateIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
         return employeeSkillRepository.findByStatusAndEmployeeIdIn(SkillStatus.PENDING, subordinateIds).stream()
-                .map(this::mapToResponse)
+                .map(skill -> mapToResponse(skill, employees.get(skill.getEmployeeId())))
                 .collect(Collectors.toList());
     }
 
@@ -90,6 +103,8 @@ public class SkillService {
 
         skill.setStatus(request.getStatus());
         EmployeeSkill updated = employeeSkillRepository.save(skill);
+        domainEventPublisher.publish(new SkillStatusChangedEvent(updated.getId(), updated.getEmployeeId(),
+                updated.getSkillName(), updated.getStatus()));
         return mapToResponse(updated);
     }
 
@@ -103,15 +118,18 @@ public class SkillService {
             throw new AccessDeniedException("You are not authorized to update this skill");
         }
 
-        // Check for uniqueness if name changed
-        if (!skill.getSkillName().equalsIgnoreCase(request.getSkillName())) {
-            if (employeeSkillRepository.existsByEmployeeIdAndSkillNameIgnoreCase(employee.getId(),
-                    request.getSkillName())) {
-                throw new RuntimeException("You already have a skill named: " + request.getSkillName());
-            }
+        // Check for uniqueness if the catalog skill changed
+        Skill catalogSkill = skillCatalogService.resolveOrCreate(request.getSkillName(),
+                employee.getRole() == com.skillbridge.enums.Role.HR);
+        boolean sameSkill = catalogSkill.getId().equals(skill.getSkillId())
+                || (skill.getSkillId() == null && skill.getSkillName().equalsIgnoreCase(catalogSkill.getName()));
+        if (!sameSkill && hasSkill(employee.getId(), catalogSkill)) {
+            throw new RuntimeException("You already have a skill named: " + catalogSkill.getName());
         }
 
-        skill.setSkillName(request.getSkillName());
+        String previousName = skill.getSkillName();
+        skill.setSkillId(catalogSkill.getId());
+        skill.setSkillName(catalogSkill.getName());
         skill.setProficiencyLevel(request.getProficiencyLevel());
         // Managers get auto-approved, employees need manager approval
         skill.setStatus(employee.getRole() == com.skillbridge.enums.Role.MANAGER
@@ -119,6 +137,7 @@ public class SkillService {
                 : SkillStatus.PENDING);
 
         EmployeeSkill updated = employeeSkillRepository.save(skill);
+        publishChanged(updated, previousName, updated.getSkillName());
         return mapToResponse(updated);
     }
 
@@ -137,17 +156,32 @@ public class SkillService {
         }
 
         employeeSkillRepository.delete(skill);
+        publishChanged(skill, skill.getSkillName());
+    }
+
+    private void publishChanged(EmployeeSkill skill, String... skillNames) {
+        domainEventPublisher.publish(new EmployeeSkillChangedEvent(skill.getId(), skill.getEmployeeId(),
+                Set.copyOf(Arrays.asList(skillNames))));
+    }
+
+    // Catalog match, or a legacy row carrying the catalog name that is not yet backfilled
+    private boolean hasSkill(UUID employeeId, Skill catalogSkill) {
+        return employeeSkillRepository.existsByEmployeeIdAndSkillId(employeeId, catalogSkill.getId())
+                || employeeSkillRepository.existsByEmployeeIdAndSkillIdIsNullAndSkillNameIgnoreCase(employeeId,
+                        catalogSkill.getName());
     }
 
     private SkillResponse mapToResponse(EmployeeSkill skill) {
-        User employee = userRepository.findById(skill.getEmployeeId())
-                .orElse(null);
+        return mapToResponse(skill, userRepository.findById(skill.getEmployeeId()).orElse(null));
+    }
 
+    private SkillResponse mapToResponse(EmployeeSkill skill, User employee) {
         return SkillResponse.builder()
                 .id(skill.getId())
                 .employeeId(skill.getEmployeeId())
                 .employeeName(employee != null ? employee.getEmail().split("@")[0] : "Unknown") // Best effort for name
                 .employeeEmail(employee != null ? employee.getEmail() : "Unknown")
+                .skillId(skill.getSkillId())
                 .skillName(skill.getSkillName())
                 .proficiencyLevel(skill.getProficiencyLevel())
                 .status(skill.getStatus())
@@ -4,12 +4,23 @@ import com.skillbridge.dto.CreateUserRequest;
 import com.skillbridge.dto.UpdateUserRequest;
 import com.skillbridge.dto.UserProfileResponse;
 import com.skillbridge.dto.SkillResponse;
+import com.skillbridge.entity.ProjectAssignment;
 import com.skillbridge.entity.User;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.index.AfterCommit;
+import com.skillbridge.index.EmployeeSummaryIndex;
+import com.skillbridge.index.OrgHierarchy;
 import com.skillbridge.repository.EmployeeSkillRepository;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
 import com.skillbridge.repository.ProjectAssignmentRepository;
 import com.skillbridge.repository.ProjectRepository;
 import com.skillbridge.repository.UserRepository;
 import com.skillbridge.security.CustomUserDetails;
+import com.skillbridge.security.SessionCache;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,9 +38,15 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final ProjectAssignmentRepository assignmentRepository;
+    private final ProjectAssignmentHistoryRepository historyRepository;
     private final ProjectRepository projectRepository;
     private final EmployeeSkillRepository employeeSkillRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OrgHierarchy orgHierarchy;
+    private final DomainEventPublisher domainEventPublisher;
+    private final EmployeeSummaryIndex employeeSummaryIndex;
+    private final EmployeeSummaryService employeeSummaryService;
+    private final SessionCache sessionCache;
 
     @Transactional
     public UserProfileResponse createUser(CreateUserRequest request) {
@@ -54,25 +71,22 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        AfterCommit.run(() -> orgHierarchy.upsert(savedUser.getId(), savedUser.getManagerId()));
+        domainEventPublisher.publish(new UserChangedEvent(savedUser.getId(), null, savedUser.getManagerId(), false));
         return mapToResponse(savedUser);
     }
 
+    // List, team and bench views read the resident employee summaries
     public List<UserProfileResponse> getAllHRs() {
-        return userRepository.findByRole(com.skillbridge.enums.Role.HR).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return employeeSummaryIndex.byRole(com.skillbridge.enums.Role.HR);
     }
 
     public List<UserProfileResponse> getAllEmployees() {
-        return userRepository.findByRole(com.skillbridge.enums.Role.EMPLOYEE).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return employeeSummaryIndex.byRole(com.skillbridge.enums.Role.EMPLOYEE);
     }
 
     public List<UserProfileResponse> getManagers() {
-        return userRepository.findByRole(com.skillbridge.enums.Role.MANAGER).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return employeeSummaryIndex.byRole(com.skillbridge.enums.Role.MANAGER);
     }
 
     public UserProfileResponse getCurrentUserProfile() {
@@ -81,27 +95,33 @@ public class UserService {
     }
 
     public List<UserProfileResponse> getTeamMembers() {
+        return getTeamMembers(false);
+    }
+
+    /**
+     * Team of the current user; with {@code includeIndirect} this is everyone
+     * under them at any depth (skip-level view).
+     */
+    public List<UserProfileResponse> getTeamMembers(boolean includeIndirect) {
         User manager = getAuthenticatedUser();
-        // Fetch team members
-        return userRepository.findByManagerId(manager.getId()).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        java.util.Collection<UUID> memberIds = includeIndirect
+                ? orgHierarchy.subtree(manager.getId())
+                : orgHierarchy.directReports(manager.getId());
+        return employeeSummaryIndex.getAll(memberIds);
     }
 
     public List<UserProfileResponse> getBenchUsers() {
-        // Fetch all employees
-        List<User> employees = userRepository.findByRole(com.skillbridge.enums.Role.EMPLOYEE);
-
-        // Filter those who don't have an ACTIVE assignment
-        return employees.stream()
-                .filter(employee -> assignmentRepository
-                        .findTopByEmployeeIdOrderByStartDateDesc(employee.getId())
-                        .filter(a -> a.getAssignmentStatus() == com.skillbridge.enums.AssignmentStatus.ACTIVE)
-                        .isEmpty())
-                .map(this::mapToResponse)
+        // Employees whose latest assignment is not ACTIVE
+        return employeeSummaryIndex.byRole(com.skillbridge.enums.Role.EMPLOYEE).stream()
+                .filter(employee -> !AssignmentStatus.ACTIVE.name().equals(employee.getAssignmentStatus()))
                 .collect(Collectors.toList());
     }
 
+    /** Recomputes the employee_summary read model from the source tables. */
+    public int rebuildSummaries() {
+        return employeeSummaryService.rebuild();
+    }
+
     private User getAuthenticatedUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         if (principal instanceof CustomUserDetails customUserDetails) {
@@ -131,13 +151,24 @@ public class UserService {
             throw new RuntimeException("Manager is required for Employee role");
         }
 
+        UUID newManagerId = request.getRole() == com.skillbridge.enums.Role.EMPLOYEE ? request.getManagerId() : null;
+        if (orgHierarchy.wouldCreateCycle(id, newManagerId)) {
+            throw new RuntimeException("A user cannot report to themselves or to someone in their own reporting line");
+        }
+
+        UUID previousManagerId = user.getManagerId();
+        // Cached principals carry role and manager; drop them on every node
+        sessionCache.invalidate(user.getEmail());
+        sessionCache.invalidate(request.getEmail());
         user.setEmail(request.getEmail());
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setRole(request.getRole());
-        user.setManagerId(request.getRole() == com.skillbridge.enums.Role.EMPLOYEE ? request.getManagerId() : null);
+        user.setManagerId(newManagerId);
 
         User savedUser = userRepository.save(user);
+        AfterCommit.run(() -> orgHierarchy.upsert(id, newManagerId));
+        domainEventPublisher.publish(new UserChangedEvent(id, previousManagerId, newManagerId, false));
         return mapToResponse(savedUser);
     }
 
@@ -150,7 +181,12 @@ public class UserService {
         employeeSkillRepository.deleteAll(employeeSkillRepository.findByEmployeeId(id));
 
         // Delete related assignments
-        assignmentRepository.deleteAll(assignmentRepository.findByEmployeeId(id));
+        List<ProjectAssignment> assignments = assignmentRepository.findByEmployeeId(id);
+        assignmentRepository.deleteAll(assignments);
+        historyRepository.deleteByEmployeeId(id);
+        assignments.stream()
+                .filter(a -> a.getAssignmentStatus() == AssignmentStatus.ACTIVE)
+                .forEach(a -> domainEventPublisher.publish(AssignmentEndedEvent.of(a, LocalDate.now())));
 
         // Handle manager relationship: if this user is a manager, update their
         // employees
@@ -158,9 +194,14 @@ public class UserService {
         for (User employee : managedEmployees) {
             employee.setManagerId(null);
             userRepository.save(employee);
+            sessionCache.invalidate(employee.getEmail());
+            domainEventPublisher.publish(new UserChangedEvent(employee.getId(), id, null, false));
         }
 
         userRepository.delete(user);
+        sessionCache.invalidate(user.getEmail());
+        AfterCommit.run(() -> orgHierarchy.remove(id));
+        domainEventPublisher.publish(new UserChangedEvent(id, user.getManagerId(), null, true));
     }
 
     private UserProfileResponse mapToResponse(User user) {
@@ -198,8 +239,13 @@ public class UserService {
                 .managerName(managerName)
                 .skills(skills);
 
-        assignmentRepository.findTopByEmployeeIdOrderByStartDateDesc(user.getId())
-                .ifPresent(assignment -> {
+        // Live row unless the latest assignment has already moved to history
+        Optional<ProjectAssignment> live = assignmentRepository.findTopByEmployeeIdOrderByStartDateDesc(user.getId());
+        Optional<ProjectAssignment> archived = historyRepository.findTopByEmployeeIdOrderByStartDateDesc(user.getId())
+                .map(com.skillbridge.entity.ProjectAssignmentHistory::toAssignment);
+        Optional<ProjectAssignment> latest = archived.isEmpty() ? live
+                : live.isEmpty() || archived.get().getStartDate().isAfter(live.get().getStartDate()) ? archived : live;
+        latest.ifPresent(assignment -> {
                     builder.assignmentStatus(assignment.getAssignmentStatus().name());
                     builder.startDate(assignment.getStartDate());
                     builder.endDate(assignment.getEndDate());
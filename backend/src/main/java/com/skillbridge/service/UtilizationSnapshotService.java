@@ -0,0 +1,225 @@
+package com.skillbridge.service;
+
+import com.skillbridge.dto.UtilizationTrendPoint;
+import com.skillbridge.entity.EmployeeOrdinal;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.User;
+import com.skillbridge.entity.UtilizationSnapshot;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.enums.TrendGranularity;
+import com.skillbridge.repository.EmployeeOrdinalRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.UserRepository;
+import com.skillbridge.repository.UtilizationSnapshotRepository;
+import com.skillbridge.repository.UtilizationSnapshotRepository.DailyAggregate;
+import com.skillbridge.security.CustomUserDetails;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records one compact utilization row per employee per day and answers trend
+ * queries from those rows, so historical charts never touch
+ * project_assignments. A day is recorded under a Postgres advisory lock, so
+ * nodes never interleave their delete-then-insert of the same day.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UtilizationSnapshotService {
+
+    private static final long SNAPSHOT_LOCK_KEY = 0x5B1D_0002L;
+
+    private final UserRepository userRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final EmployeeOrdinalRepository ordinalRepository;
+    private final UtilizationSnapshotRepository snapshotRepository;
+
+    @Scheduled(cron = "${utilization.snapshot.cron:0 5 0 * * *}")
+    @Transactional
+    public void snapshotToday() {
+        // Every node fires the schedule; whichever gets the lock records the day
+        if (!snapshotRepository.tryAdvisoryXactLock(SNAPSHOT_LOCK_KEY)) {
+            log.info("Utilization snapshot already being recorded by another node, skipping");
+            return;
+        }
+        snapshot(LocalDate.now());
+    }
+
+    /**
+     * Replaces the snapshot for the given day with the current allocation state.
+     * Re-running for the same day is idempotent.
+     */
+    @Transactional
+    public int snapshot(LocalDate day) {
+        // Waits for a run in progress elsewhere (re-entrant for the scheduled run's own lock)
+        snapshotRepository.advisoryXactLock(SNAPSHOT_LOCK_KEY);
+
+        // Same population as /api/utilization/all
+        List<User> tracked = new ArrayList<>(userRepository.findByRole(Role.EMPLOYEE));
+        tracked.addAll(userRepository.findByRole(Role.MANAGER));
+
+        Map<UUID, List<ProjectAssignment>> activeByEmployee = assignmentRepository
+                .findByAssignmentStatus(AssignmentStatus.ACTIVE).stream()
+                .collect(Collectors.groupingBy(ProjectAssignment::getEmployeeId));
+
+        Set<UUID> ordinalOwners = new HashSet<>();
+        for (User user : tracked) {
+            ordinalOwners.add(user.getId());
+            if (user.getManagerId() != null) {
+                ordinalOwners.add(user.getManagerId());
+            }
+        }
+        Map<UUID, Integer> ordinals = resolveOrdinals(ordinalOwners);
+
+        snapshotRepository.deleteBySnapshotDay(day);
+
+        List<UtilizationSnapshot> rows = new ArrayList<>(tracked.size());
+        for (User user : tracked) {
+            int percent = 0;
+            short bits = 0;
+            for (ProjectAssignment assignment : activeByEmployee.getOrDefault(user.getId(), List.of())) {
+                if (!assignment.isInForceOn(day)) {
+                    continue;
+                }
+                percent += assignment.getAllocationPercent() != null ? assignment.getAllocationPercent() : 100;
+                if (assignment.getBillingType() == BillingType.BILLABLE) {
+                    bits |= UtilizationSnapshot.BILLABLE_BIT;
+                } else if (assignment.getBillingType() == BillingType.INVESTMENT) {
+                    bits |= UtilizationSnapshot.INVESTMENT_BIT;
+                }
+            }
+            rows.add(UtilizationSnapshot.builder()
+                    .snapshotDay(day)
+                    .employeeOrdinal(ordinals.get(user.getId()))
+                    .utilizationPercent((short) Math.min(percent, 100))
+                    .billingBits(bits)
+                    .managerOrdinal(user.getManagerId() != null ? ordinals.get(user.getManagerId()) : null)
+                    .build());
+        }
+
+        snapshotRepository.saveAll(rows);
+        log.info("Recorded utilization snapshot for {} ({} employees)", day, rows.size());
+        return rows.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<UtilizationTrendPoint> getCompanyTrend(LocalDate from, LocalDate to, TrendGranularity granularity) {
+        validateRange(from, to);
+        return bucket(snapshotRepository.aggregateByDay(from, to), granularity);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UtilizationTrendPoint> getTeamTrend(UUID managerId, LocalDate from, LocalDate to,
+            TrendGranularity granularity) {
+        validateRange(from, to);
+        return ordinalRepository.findByEmployeeIdIn(List.of(managerId)).stream()
+                .findFirst()
+                .map(manager -> bucket(
+                        snapshotRepository.aggregateByDayForManager(from, to, manager.getOrdinal()), granularity))
+                .orElse(List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UtilizationTrendPoint> getMyTeamTrend(LocalDate from, LocalDate to, TrendGranularity granularity) {
+        return getTeamTrend(getAuthenticatedUser().getId(), from, to, granularity);
+    }
+
+    private Map<UUID, Integer> resolveOrdinals(Collection<UUID> employeeIds) {
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        for (EmployeeOrdinal existing : ordinalRepository.findByEmployeeIdIn(employeeIds)) {
+            ordinals.put(existing.getEmployeeId(), existing.getOrdinal());
+        }
+
+        List<EmployeeOrdinal> missing = employeeIds.stream()
+                .filter(id -> !ordinals.containsKey(id))
+                .map(id -> EmployeeOrdinal.builder().employeeId(id).build())
+                .collect(Collectors.toList());
+        for (EmployeeOrdinal created : ordinalRepository.saveAll(missing)) {
+            ordinals.put(created.getEmployeeId(), created.getOrdinal());
+        }
+        return ordinals;
+    }
+
+    private List<UtilizationTrendPoint> bucket(List<DailyAggregate> days, TrendGranularity granularity) {
+        Map<LocalDate, List<DailyAggregate>> buckets = new LinkedHashMap<>();
+        for (DailyAggregate day : days) {
+            buckets.computeIfAbsent(periodStart(day.getDay(), granularity), k -> new ArrayList<>()).add(day);
+        }
+
+        List<UtilizationTrendPoint> points = new ArrayList<>(buckets.size());
+        buckets.forEach((start, samples) -> {
+            double headcount = 0;
+            double percent = 0;
+            double bench = 0;
+            double billable = 0;
+            for (DailyAggregate sample : samples) {
+                long dayHeadcount = sample.getHeadcount();
+                headcount += dayHeadcount;
+                percent += dayHeadcount == 0 ? 0 : (double) sample.getPercentTotal() / dayHeadcount;
+                bench += sample.getBenchCount();
+                billable += sample.getBillableCount();
+            }
+            int n = samples.size();
+            points.add(UtilizationTrendPoint.builder()
+                    .periodStart(start)
+                    .periodEnd(periodEnd(start, granularity))
+                    .sampledDays(n)
+                    .averageHeadcount(headcount / n)
+                    .averageUtilization(percent / n)
+                    .billableCount(billable / n)
+                    .benchCount(bench / n)
+                    .investmentCount((headcount - bench - billable) / n)
+                    .build());
+        });
+        return points;
+    }
+
+    private LocalDate periodStart(LocalDate day, TrendGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private LocalDate periodEnd(LocalDate start, TrendGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> start;
+            case WEEK -> start.plusDays(6);
+            case MONTH -> start.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' date cannot be after 'to' date");
+        }
+    }
+
+    private User getAuthenticatedUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            return customUserDetails.getUser();
+        }
+        throw new RuntimeException("User not authenticated");
+    }
+}
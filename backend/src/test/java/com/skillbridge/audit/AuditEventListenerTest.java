@@ -0,0 +1,94 @@
+package com.skillbridge.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.repository.OutboxEventRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AuditEventListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final UUID assignmentId = UUID.randomUUID();
+
+    @Test
+    void catchUpReplaysOnlyEventsThisNodeHasNotRecorded() throws Exception {
+        Path directory = Files.createTempDirectory("audit");
+        AuditLog auditLog = new AuditLog(directory.toString(), 1, 4, 1024, 1000);
+        auditLog.start();
+        try {
+            AuditEventListener listener = new AuditEventListener(auditLog, repository, objectMapper);
+            listener.onEvent(new ClusterEvent<>(7L, null, LocalDateTime.now(), ended(LocalDate.of(2026, 1, 1))));
+            // Redelivered on this node: still one record
+            listener.onEvent(new ClusterEvent<>(7L, null, LocalDateTime.now(), ended(LocalDate.of(2026, 1, 1))));
+
+            OutboxEvent missed = row(9L, ended(LocalDate.of(2026, 2, 1)));
+            when(repository.findDispatchedIds()).thenReturn(List.of(7L, 9L));
+            when(repository.findAllById(anyIterable())).thenReturn(List.of(missed));
+            listener.catchUp();
+
+            verify(repository).findAllById(List.of(9L));
+            List<AuditRecord> history = awaitHistory(auditLog, 2);
+            assertThat(history).extracting(AuditRecord::sequence).containsExactly(9L, 7L);
+
+            // Already caught up: nothing left to fetch
+            listener.catchUp();
+            verify(repository).findAllById(anyIterable());
+        } finally {
+            auditLog.stop();
+        }
+
+        // Restarted: the segments tell which events are already recorded
+        AuditLog reopened = new AuditLog(directory.toString(), 1, 4, 1024, 1000);
+        reopened.start();
+        try {
+            assertThat(reopened.isRecorded(7L)).isTrue();
+            assertThat(reopened.isRecorded(9L)).isTrue();
+        } finally {
+            reopened.stop();
+        }
+    }
+
+    private AssignmentEndedEvent ended(LocalDate endDate) {
+        return new AssignmentEndedEvent(assignmentId, UUID.randomUUID(), UUID.randomUUID(), 50,
+                BillingType.BILLABLE, endDate);
+    }
+
+    private OutboxEvent row(long id, AssignmentEndedEvent event) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Assignment")
+                .aggregateId(assignmentId)
+                .eventType(AssignmentEndedEvent.class.getSimpleName())
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(LocalDateTime.now())
+                .dispatchedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<AuditRecord> awaitHistory(AuditLog auditLog, int expected) throws InterruptedException {
+        List<AuditRecord> history = new ArrayList<>();
+        for (int i = 0; i < 200 && history.size() < expected; i++) {
+            Thread.sleep(10);
+            history = auditLog.entityHistory(assignmentId, 10);
+        }
+        return history;
+    }
+}
@@ -0,0 +1,71 @@
+package com.skillbridge.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.Role;
+import com.skillbridge.security.CustomUserDetails;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final AtomicInteger replicaReads = new AtomicInteger();
+    private final ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(mock(DataSource.class),
+            mock(DataSource.class), lagMonitor, 5000, replicaReads::incrementAndGet);
+
+    @AfterEach
+    void reset() {
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyWorkOfAUserGoesToTheReplicaWithoutCachePuts() {
+        when(lagMonitor.isUsable()).thenReturn(true);
+        signIn(UUID.randomUUID());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Target.REPLICA);
+        assertThat(replicaReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void laggingReplicaAndWorkWithoutAUserStayOnThePrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isUsable()).thenReturn(true);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Target.PRIMARY);
+
+        signIn(UUID.randomUUID());
+        when(lagMonitor.isUsable()).thenReturn(false);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Target.PRIMARY);
+        assertThat(replicaReads.get()).isZero();
+    }
+
+    @Test
+    void userReadsTheirOwnWriteFromThePrimary() {
+        when(lagMonitor.isUsable()).thenReturn(true);
+        signIn(UUID.randomUUID());
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Target.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.Target.PRIMARY);
+        assertThat(replicaReads.get()).isZero();
+    }
+
+    private static void signIn(UUID userId) {
+        User user = User.builder().id(userId).email("u@skillbridge.test").role(Role.EMPLOYEE).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new CustomUserDetails(user), null, List.of()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.skillbridge.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.skillbridge.entity.OutboxEvent;
+import com.skillbridge.enums.SkillStatus;
+import com.skillbridge.repository.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+class ClusterEventListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+
+    @Test
+    void republishesNotifiedRowsInOutboxOrderToTypedListeners() throws Exception {
+        UUID userId = UUID.randomUUID();
+        OutboxEvent skill = row(7, new SkillStatusChangedEvent(UUID.randomUUID(), userId, "Java",
+                SkillStatus.APPROVED));
+        OutboxEvent user = row(5, new UserChangedEvent(userId, null, null, false));
+        when(repository.findAllById(List.of(7L, 5L))).thenReturn(List.of(skill, user));
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Recorder.class)) {
+            ClusterEventListener listener = new ClusterEventListener(repository, objectMapper, context,
+                    new DataSourceProperties(), 1000, 1000);
+
+            listener.onNotifications(List.of("7", "5", "7"));
+
+            Recorder recorder = context.getBean(Recorder.class);
+            assertThat(recorder.all).extracting(ClusterEvent::outboxId).containsExactly(5L, 7L);
+            // Generic listeners only see their own event type
+            assertThat(recorder.userChanges).containsExactly(new UserChangedEvent(userId, null, null, false));
+        }
+    }
+
+    @Test
+    void asksViewsToResyncOnlyAfterAReconnect() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Recorder.class)) {
+            ClusterEventListener listener = new ClusterEventListener(repository, objectMapper, context,
+                    new DataSourceProperties(), 1000, 1000);
+            Recorder recorder = context.getBean(Recorder.class);
+
+            listener.onConnected();
+            assertThat(recorder.resyncs).isZero();
+
+            listener.onDisconnected();
+            listener.onConnected();
+            assertThat(recorder.resyncs).isEqualTo(1);
+        }
+    }
+
+    private OutboxEvent row(long id, DomainEvent event) throws Exception {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(event.getClass().getSimpleName())
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+    }
+
+    static class Recorder {
+
+        final List<ClusterEvent<?>> all = new ArrayList<>();
+        final List<UserChangedEvent> userChanges = new ArrayList<>();
+        int resyncs;
+
+        @EventListener
+        public void onAny(ClusterEvent<?> event) {
+            all.add(event);
+        }
+
+        @EventListener
+        public void onUserChanged(ClusterEvent<UserChangedEvent> event) {
+            userChanges.add(event.event());
+        }
+
+        @EventListener(ClusterResyncEvent.class)
+        public void onResync() {
+            resyncs++;
+        }
+    }
+}
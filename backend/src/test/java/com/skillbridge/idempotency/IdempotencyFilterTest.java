@@ -0,0 +1,273 @@
+package com.skillbridge.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.skillbridge.entity.IdempotencyRecord;
+import com.skillbridge.entity.IdempotencyRecordId;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.Role;
+import com.skillbridge.repository.IdempotencyRecordRepository;
+import com.skillbridge.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The filter in front of a stub endpoint, with the idempotency_keys table
+ * simulated in memory.
+ */
+class IdempotencyFilterTest {
+
+    private static final String ENDPOINT = "/api/assignments";
+
+    private final Map<IdempotencyRecordId, IdempotencyRecord> table = new ConcurrentHashMap<>();
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final User user = User.builder().id(UUID.randomUUID()).email("e@skillbridge.test").role(Role.EMPLOYEE)
+            .build();
+    private final Endpoint endpoint = new Endpoint();
+    private final IdempotencyStore store;
+    private final MockMvc mockMvc;
+
+    IdempotencyFilterTest() {
+        properties.setEndpoints(List.of("POST " + ENDPOINT));
+        properties.setMaxBodyBytes(1024);
+        stubTable();
+        store = spy(new IdempotencyStore(repository, jdbcTemplate, properties, mock(PlatformTransactionManager.class)));
+        store.bindTo(meters);
+        mockMvc = MockMvcBuilders.standaloneSetup(endpoint)
+                .addFilters(new IdempotencyFilter(properties, store))
+                .build();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void completedRequestIsReplayedWithItsHeaders() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"projectId\":1}");
+        MockHttpServletResponse second = send("key-1", "{\"projectId\":1}");
+
+        assertThat(endpoint.executions.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location")).isEqualTo(ENDPOINT + "/1");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+
+        // Evicted from memory: replayed from the table, headers included
+        IdempotencyStore restarted = new IdempotencyStore(repository, jdbcTemplate, properties,
+                mock(PlatformTransactionManager.class));
+        IdempotencyStore.Decision decision = restarted.begin(new IdempotencyStore.Key(user.getId(), "key-1"),
+                table.values().iterator().next().getRequestHash());
+        assertThat(decision).isInstanceOfSatisfying(IdempotencyStore.Replay.class, replay -> assertThat(
+                replay.response().headers()).containsEntry("Location", List.of(ENDPOINT + "/1")));
+    }
+
+    @Test
+    void duplicateArrivingMidRequestGetsTheOriginalsResponse() throws Exception {
+        endpoint.gate = new CountDownLatch(1);
+        CountDownLatch awaiting = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object decision = invocation.callRealMethod();
+            if (decision instanceof IdempotencyStore.Await) {
+                awaiting.countDown();
+            }
+            return decision;
+        }).when(store).begin(any(), any());
+
+        CompletableFuture<MockHttpServletResponse> original = CompletableFuture.supplyAsync(() -> send("key-2", "{}"));
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+            awaitQuietly(endpoint.entered);
+            return send("key-2", "{}");
+        });
+        assertThat(awaiting.await(5, TimeUnit.SECONDS)).isTrue();
+        endpoint.gate.countDown();
+
+        MockHttpServletResponse first = original.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse second = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(endpoint.executions.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(first.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+        assertThat(meters.counter("idempotency.requests", "outcome", "coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsRefused() throws Exception {
+        send("key-3", "{\"projectId\":1}");
+        MockHttpServletResponse reused = send("key-3", "{\"projectId\":2}");
+
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(endpoint.executions.get()).isEqualTo(1);
+        assertThat(meters.counter("idempotency.requests", "outcome", "mismatch").count()).isEqualTo(1);
+    }
+
+    @Test
+    void oversizedBodyIsRefusedBeforeTheHandlerRuns() throws Exception {
+        MockHttpServletResponse response = send("key-4", "x".repeat(1025));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(endpoint.executions.get()).isZero();
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    void claimOfARunningRequestIsKeptFreshSoItIsNotTakenOver() {
+        IdempotencyStore.Key key = new IdempotencyStore.Key(user.getId(), "key-5");
+        IdempotencyStore.Decision decision = store.begin(key, "hash");
+        assertThat(decision).isInstanceOf(IdempotencyStore.Execute.class);
+        IdempotencyRecord claim = table.get(new IdempotencyRecordId(user.getId(), "key-5"));
+        claim.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+
+        store.heartbeat();
+
+        // A retry reaching another node finds the claim alive, not abandoned
+        IdempotencyStore otherNode = new IdempotencyStore(repository, jdbcTemplate, properties,
+                mock(PlatformTransactionManager.class));
+        assertThat(otherNode.begin(key, "hash")).isInstanceOf(IdempotencyStore.Busy.class);
+        store.complete((IdempotencyStore.Execute) decision, null);
+        assertThat(table).isEmpty();
+    }
+
+    private MockHttpServletResponse send(String key, String body) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new CustomUserDetails(user), null, List.of()));
+        try {
+            return mockMvc.perform(post(ENDPOINT).header(IdempotencyFilter.HEADER, key)
+                    .contentType("application/json").content(body)).andReturn().getResponse();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Repository statements applied to the in-memory table, atomically like the real ones. */
+    private void stubTable() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Object[] args = Arrays.copyOfRange(invocation.getArguments(), 1, invocation.getArguments().length);
+            synchronized (table) {
+                if (sql.startsWith("INSERT")) {
+                    return claim(args);
+                }
+                if (sql.contains("SET request_hash")) {
+                    return takeOver(args);
+                }
+                IdempotencyRecord record = table.get(id((UUID) args[args.length - 2], (String) args[args.length - 1]));
+                if (record == null) {
+                    return 0;
+                }
+                if (sql.contains("SET created_at")) {
+                    if (record.getResponseStatus() != null) {
+                        return 0;
+                    }
+                    record.setCreatedAt((LocalDateTime) args[0]);
+                    return 1;
+                }
+                record.setResponseStatus((Integer) args[0]);
+                record.setResponseContentType((String) args[1]);
+                record.setResponseHeaders((String) args[2]);
+                record.setResponseBody((byte[]) args[3]);
+                return 1;
+            }
+        });
+        when(repository.findById(any())).thenAnswer(invocation -> Optional
+                .ofNullable(table.get(invocation.<IdempotencyRecordId>getArgument(0))));
+        doAnswer(invocation -> table.remove(invocation.<IdempotencyRecordId>getArgument(0)))
+                .when(repository).deleteById(any());
+    }
+
+    private int claim(Object[] args) {
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .userId((UUID) args[0])
+                .idempotencyKey((String) args[1])
+                .requestHash((String) args[2])
+                .createdAt((LocalDateTime) args[3])
+                .expiresAt((LocalDateTime) args[4])
+                .build();
+        return table.putIfAbsent(id(record.getUserId(), record.getIdempotencyKey()), record) == null ? 1 : 0;
+    }
+
+    private int takeOver(Object[] args) {
+        IdempotencyRecord record = table.get(id((UUID) args[3], (String) args[4]));
+        LocalDateTime now = (LocalDateTime) args[1];
+        LocalDateTime abandonedBefore = (LocalDateTime) args[6];
+        if (record == null || !(record.getExpiresAt().isBefore(now)
+                || record.getResponseStatus() == null && record.getCreatedAt().isBefore(abandonedBefore))) {
+            return 0;
+        }
+        record.setRequestHash((String) args[0]);
+        record.setCreatedAt(now);
+        record.setExpiresAt((LocalDateTime) args[2]);
+        record.setResponseStatus(null);
+        return 1;
+    }
+
+    private static IdempotencyRecordId id(UUID userId, String key) {
+        return new IdempotencyRecordId(userId, key);
+    }
+
+    @RestController
+    static class Endpoint {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+
+        @PostMapping(ENDPOINT)
+        ResponseEntity<String> create(@RequestBody String body) throws InterruptedException {
+            int execution = executions.incrementAndGet();
+            entered.countDown();
+            if (gate != null) {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            return ResponseEntity.created(URI.create(ENDPOINT + "/" + execution))
+                    .body("{\"assignment\":" + execution + "}");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.skillbridge.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CapacityCalendarTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+    private final ProjectAssignmentRepository repository = mock(ProjectAssignmentRepository.class);
+    private final CapacityCalendar calendar = new CapacityCalendar(repository);
+    private final UUID employeeId = UUID.randomUUID();
+
+    @Test
+    void peakCountsOverlappingAssignmentsWithInclusiveEndDates() {
+        when(repository.findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE)).thenReturn(List.of(
+                assignment(50, JAN_1, JAN_1.plusDays(9)),
+                assignment(30, JAN_1.plusDays(9), null)));
+
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, JAN_1.plusDays(8))).isEqualTo(50);
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, JAN_1.plusDays(9))).isEqualTo(80);
+        assertThat(calendar.peakAllocation(employeeId, JAN_1.plusDays(10), null)).isEqualTo(30);
+        assertThat(calendar.availableCapacity(employeeId, JAN_1, null)).isEqualTo(20);
+    }
+
+    @Test
+    void appliesChangesToLoadedTimelineWithoutReloading() {
+        when(repository.findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE))
+                .thenReturn(List.of());
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isZero();
+
+        ProjectAssignment added = assignment(40, JAN_1, null);
+        calendar.apply(added);
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isEqualTo(40);
+
+        added.setAssignmentStatus(AssignmentStatus.ENDED);
+        calendar.apply(added);
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isZero();
+        verify(repository, times(1)).findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE);
+    }
+
+    @Test
+    void changeCommittedWhileLoadingIsNotLost() throws Exception {
+        ProjectAssignment committed = assignment(60, JAN_1, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // First load reads the state from before the commit and stalls; later loads see the commit
+        when(repository.findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .thenReturn(List.of(committed));
+
+        CompletableFuture<Integer> reader = CompletableFuture
+                .supplyAsync(() -> calendar.peakAllocation(employeeId, JAN_1, null));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // After-commit update arrives while there is no entry to update yet
+        calendar.apply(committed);
+        release.countDown();
+
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isZero();
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isEqualTo(60);
+    }
+
+    @Test
+    void reloadDoesNotCacheOverAChangeAppliedWhileLoading() {
+        ProjectAssignment committed = assignment(70, JAN_1, null);
+        // Cached empty; the reload then reads stale rows while the change is applied mid-load
+        when(repository.findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE))
+                .thenReturn(List.of())
+                .thenAnswer(invocation -> {
+                    calendar.apply(committed);
+                    return List.of();
+                })
+                .thenReturn(List.of(committed));
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isZero();
+
+        calendar.reload(employeeId);
+
+        assertThat(calendar.peakAllocation(employeeId, JAN_1, null)).isEqualTo(70);
+        verify(repository, times(3)).findByEmployeeIdAndAssignmentStatus(employeeId, AssignmentStatus.ACTIVE);
+    }
+
+    @Test
+    void batchCapacityLoadsMissingEmployeesWithOneQuery() {
+        UUID idle = UUID.randomUUID();
+        when(repository.findByEmployeeIdInAndAssignmentStatus(List.of(employeeId, idle), AssignmentStatus.ACTIVE))
+                .thenReturn(List.of(assignment(40, JAN_1, null)));
+
+        assertThat(calendar.availableCapacity(List.of(employeeId, idle), JAN_1, JAN_1.plusDays(27)))
+                .containsEntry(employeeId, 60)
+                .containsEntry(idle, 100);
+        assertThat(calendar.availableCapacity(idle, JAN_1, null)).isEqualTo(100);
+        verify(repository, never()).findByEmployeeIdAndAssignmentStatus(any(), any());
+    }
+
+    private ProjectAssignment assignment(int percent, LocalDate start, LocalDate end) {
+        return ProjectAssignment.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .projectId(UUID.randomUUID())
+                .assignmentStatus(AssignmentStatus.ACTIVE)
+                .billingType(BillingType.BILLABLE)
+                .allocationPercent(percent)
+                .startDate(start)
+                .endDate(end)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.skillbridge.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.entity.EmployeeSummary;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.AssignmentEndedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.EmployeeSummaryRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSummaryIndexTest {
+
+    private final EmployeeSummaryRepository repository = mock(EmployeeSummaryRepository.class);
+    private final EmployeeSummaryIndex index = new EmployeeSummaryIndex(repository, new ObjectMapper());
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID employeeId = UUID.randomUUID();
+
+    @Test
+    void clusterEventsRereadTheRowsWrittenOnTheDispatchingNode() {
+        when(repository.findAll()).thenReturn(List.of(summary(managerId, null, "Ann", 0),
+                summary(employeeId, managerId, "Ann", 60)));
+        assertThat(index.get(employeeId).getTotalUtilization()).isEqualTo(60);
+
+        // Another node ended the assignment and renamed the manager
+        when(repository.findById(employeeId)).thenReturn(Optional.of(summary(employeeId, managerId, "Ann", 0)));
+        index.onAssignmentEnded(new ClusterEvent<>(1L, null, null, new AssignmentEndedEvent(UUID.randomUUID(),
+                employeeId, UUID.randomUUID(), 60, BillingType.BILLABLE, LocalDate.now())));
+        assertThat(index.get(employeeId).getTotalUtilization()).isZero();
+
+        when(repository.findById(managerId)).thenReturn(Optional.of(summary(managerId, null, "Anna", 0)));
+        when(repository.findByManagerId(managerId)).thenReturn(List.of(summary(employeeId, managerId, "Anna", 0)));
+        index.onUserChanged(new ClusterEvent<>(2L, null, null,
+                new UserChangedEvent(managerId, null, null, false)));
+        assertThat(index.get(managerId).getFirstName()).isEqualTo("Anna");
+        assertThat(index.get(employeeId).getManagerName()).isEqualTo("Anna Lee");
+
+        // Deleted elsewhere
+        when(repository.findById(employeeId)).thenReturn(Optional.empty());
+        index.onUserChanged(new ClusterEvent<>(3L, null, null,
+                new UserChangedEvent(employeeId, managerId, null, true)));
+        assertThat(index.get(employeeId)).isNull();
+    }
+
+    private static EmployeeSummary summary(UUID id, UUID managerId, String managerFirstName, int utilization) {
+        boolean isManager = managerId == null;
+        return EmployeeSummary.builder()
+                .employeeId(id)
+                .email(id + "@skillbridge.test")
+                .firstName(isManager ? managerFirstName : "Bo")
+                .lastName(isManager ? "Lee" : "Kim")
+                .role(isManager ? Role.MANAGER : Role.EMPLOYEE)
+                .managerId(managerId)
+                .managerName(isManager ? null : managerFirstName + " Lee")
+                .assignmentStatus(utilization > 0 ? "ACTIVE" : "ENDED")
+                .totalUtilization(utilization)
+                .skills("[]")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.skillbridge.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.UserChangedEvent;
+import com.skillbridge.repository.UserRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OrgHierarchyTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OrgHierarchy hierarchy = new OrgHierarchy(userRepository);
+    private final User director = user(null);
+    private final User manager = user(director.getId());
+    private final User employee = user(manager.getId());
+
+    @Test
+    void reParentingOnAnotherNodeArrivesAsAClusterEvent() {
+        when(userRepository.findAll()).thenReturn(List.of(director, manager, employee));
+        assertThat(hierarchy.isUnder(employee.getId(), director.getId())).isTrue();
+
+        User moved = user(null);
+        moved.setId(employee.getId());
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(moved));
+        hierarchy.onUserChanged(new ClusterEvent<>(1L, null, null,
+                new UserChangedEvent(employee.getId(), manager.getId(), null, false)));
+
+        assertThat(hierarchy.managerOf(employee.getId())).isNull();
+        assertThat(hierarchy.subtree(director.getId())).containsExactly(manager.getId());
+    }
+
+    @Test
+    void deletionOnAnotherNodeOrphansTheReports() {
+        when(userRepository.findAll()).thenReturn(List.of(director, manager, employee));
+        hierarchy.warmUp();
+
+        hierarchy.onUserChanged(new ClusterEvent<>(2L, null, null,
+                new UserChangedEvent(manager.getId(), director.getId(), null, true)));
+
+        assertThat(hierarchy.subtree(director.getId())).isEmpty();
+        assertThat(hierarchy.isUnder(employee.getId(), director.getId())).isFalse();
+    }
+
+    @Test
+    void resyncReloadsChangesMissedWhileDisconnected() {
+        when(userRepository.findAll()).thenReturn(List.of(director, manager, employee));
+        hierarchy.warmUp();
+
+        User promoted = user(director.getId());
+        promoted.setId(employee.getId());
+        when(userRepository.findAll()).thenReturn(List.of(director, manager, promoted));
+        hierarchy.onResync();
+
+        assertThat(hierarchy.directReports(director.getId())).containsExactlyInAnyOrder(manager.getId(),
+                employee.getId());
+        assertThat(hierarchy.directReports(manager.getId())).isEmpty();
+    }
+
+    @Test
+    void managerLoopCommittedByConcurrentUpdatesDoesNotHangWalks() {
+        // Two nodes each passed the cycle check: manager under employee, employee under manager
+        User loopedManager = user(employee.getId());
+        loopedManager.setId(manager.getId());
+        when(userRepository.findAll()).thenReturn(List.of(director, loopedManager, employee));
+
+        assertThat(hierarchy.subtree(manager.getId())).containsExactly(employee.getId());
+        assertThat(hierarchy.subtree(employee.getId())).containsExactly(manager.getId());
+        assertThat(hierarchy.isUnder(employee.getId(), manager.getId())).isTrue();
+    }
+
+    private static User user(UUID managerId) {
+        return User.builder().id(UUID.randomUUID()).firstName("U").lastName("U").role(Role.EMPLOYEE)
+                .managerId(managerId).build();
+    }
+}
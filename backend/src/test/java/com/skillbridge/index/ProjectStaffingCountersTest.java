@@ -0,0 +1,164 @@
+package com.skillbridge.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.dto.ProjectStaffingResponse;
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.event.ProjectChangedEvent;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ProjectStaffingCountersTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final ProjectAssignmentRepository assignmentRepository = mock(ProjectAssignmentRepository.class);
+    private final ProjectStaffingCounters counters = new ProjectStaffingCounters(projectRepository,
+            assignmentRepository);
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void loadsFromTheProjectionAndCountsDistinctEmployees() {
+        when(projectRepository.findAllStaffingDetails())
+                .thenReturn(List.of(new Details(projectId, "Atlas", ProjectStatus.ACTIVE, 3)));
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE)).thenReturn(List.of(
+                assignment(alice, 50), assignment(alice, 30), assignment(bob, 100)));
+
+        ProjectStaffingResponse atlas = only(counters.gaps(null, true));
+
+        assertThat(atlas.getHeadcount()).isEqualTo(2);
+        assertThat(atlas.getAllocatedFte()).isEqualTo(1.8);
+        assertThat(atlas.getHeadcountGap()).isEqualTo(1);
+        assertThat(atlas.getFteGap()).isCloseTo(1.2, offset(1e-9));
+        verify(projectRepository, never()).findAllWithTechStack();
+    }
+
+    @Test
+    void assignmentChangesAreAppliedWithoutReloading() {
+        when(projectRepository.findAllStaffingDetails())
+                .thenReturn(List.of(new Details(projectId, "Atlas", ProjectStatus.ACTIVE, 2)));
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE)).thenReturn(List.of());
+        counters.warmUp();
+
+        ProjectAssignment first = assignment(alice, 100);
+        counters.apply(first);
+        counters.apply(assignment(bob, 100));
+        assertThat(counters.gaps(null, true)).isEmpty();
+
+        first.setAllocationPercent(40);
+        counters.apply(first);
+        assertThat(only(counters.gaps(null, true)).getAllocatedFte()).isEqualTo(1.4);
+
+        first.setAssignmentStatus(AssignmentStatus.ENDED);
+        counters.apply(first);
+        ProjectStaffingResponse atlas = only(counters.gaps(null, true));
+        assertThat(atlas.getHeadcount()).isEqualTo(1);
+        assertThat(atlas.getHeadcountGap()).isEqualTo(1);
+        verify(assignmentRepository).findByAssignmentStatus(AssignmentStatus.ACTIVE);
+    }
+
+    @Test
+    void projectChangedOnAnotherNodeIsReReadAndApplied() {
+        when(projectRepository.findAllStaffingDetails())
+                .thenReturn(List.of(new Details(projectId, "Atlas", ProjectStatus.PLANNED, 2)));
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE)).thenReturn(List.of());
+        assertThat(counters.gaps(Set.of(ProjectStatus.ACTIVE), false)).isEmpty();
+
+        Project activated = Project.builder().id(projectId).name("Atlas").status(ProjectStatus.ACTIVE)
+                .employeesRequired(4).techStack(List.of("Java")).build();
+        when(projectRepository.findAllWithTechStackByIdIn(any())).thenReturn(List.of(activated));
+        ProjectListener listener = new ProjectListener(new ProjectTechIndex(projectRepository), counters,
+                projectRepository);
+        listener.onChanged(new ClusterEvent<>(1L, null, null, new ProjectChangedEvent(projectId)));
+
+        ProjectStaffingResponse atlas = only(counters.gaps(Set.of(ProjectStatus.ACTIVE), false));
+        assertThat(atlas.getEmployeesRequired()).isEqualTo(4);
+        assertThat(atlas.getHeadcountGap()).isEqualTo(4);
+    }
+
+    @Test
+    void reconcileReplacesDriftedCountersAndCountsTheDrift() {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        counters.bindTo(meters);
+        when(projectRepository.findAllStaffingDetails())
+                .thenReturn(List.of(new Details(projectId, "Atlas", ProjectStatus.ACTIVE, 2)));
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE))
+                .thenReturn(List.of(assignment(alice, 100)));
+        counters.reconcile();
+        counters.reconcile();
+        assertThat(meters.counter("projects.staffing.drift").count()).isZero();
+
+        // A change this node never heard about
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE))
+                .thenReturn(List.of(assignment(alice, 100), assignment(bob, 100)));
+        counters.reconcile();
+
+        assertThat(only(counters.gaps(null, false)).getHeadcount()).isEqualTo(2);
+        assertThat(meters.counter("projects.staffing.drift").count()).isEqualTo(1);
+        assertThat(meters.get("projects.understaffed").gauge().value()).isZero();
+    }
+
+    private static ProjectStaffingResponse only(List<ProjectStaffingResponse> gaps) {
+        assertThat(gaps).hasSize(1);
+        return gaps.get(0);
+    }
+
+    private ProjectAssignment assignment(UUID employeeId, int percent) {
+        return ProjectAssignment.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .projectId(projectId)
+                .assignmentStatus(AssignmentStatus.ACTIVE)
+                .billingType(BillingType.BILLABLE)
+                .allocationPercent(percent)
+                .startDate(LocalDate.of(2026, 1, 1))
+                .build();
+    }
+
+    private record Details(UUID id, String name, ProjectStatus status, Integer required)
+            implements ProjectRepository.StaffingDetails {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getCompanyName() {
+            return "Acme";
+        }
+
+        @Override
+        public ProjectStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Integer getEmployeesRequired() {
+            return required;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.skillbridge.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skillbridge.controller.AllocationRequestController;
+import com.skillbridge.entity.AllocationRequest;
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.AllocationRequestStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.repository.AllocationRequestRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import com.skillbridge.service.AssignmentService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * GET /api/allocation-requests/pending through the budget filter. Repository
+ * stubs record the statements their real counterparts would issue, so the
+ * X-Query-Count header reflects the controller's query pattern.
+ */
+class QueryBudgetFilterTest {
+
+    private static final String PENDING = "/api/allocation-requests/pending";
+    private static final int PENDING_BUDGET = 6;
+    private static final int REQUESTS = 40;
+
+    private final AllocationRequestRepository requestRepository = mock(AllocationRequestRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AllocationRequestController controller = new AllocationRequestController(requestRepository,
+            mock(ProjectAssignmentRepository.class), projectRepository, userRepository, mock(OrgHierarchy.class),
+            mock(DomainEventPublisher.class), mock(AssignmentService.class));
+    private final QueryBudgetProperties properties = new QueryBudgetProperties();
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addFilters(new QueryBudgetFilter(properties))
+            .build();
+
+    private final List<Project> projects = new ArrayList<>();
+    private final Set<UUID> cachedProjects = new HashSet<>();
+    private boolean projectCache = true;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEndpoints(Map.of("GET " + PENDING, PENDING_BUDGET));
+        User hr = User.builder().id(UUID.randomUUID()).email("hr@skillbridge.test").firstName("H").lastName("R")
+                .role(Role.HR).build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(hr.getEmail(), null, List.of()));
+        when(userRepository.findByEmail(hr.getEmail())).thenAnswer(invocation -> {
+            QueryCounter.record("select u.* from users u where u.email=?");
+            return Optional.of(hr);
+        });
+
+        for (int i = 0; i < 2; i++) {
+            projects.add(Project.builder().id(UUID.randomUUID()).name("Project " + i).build());
+        }
+        List<User> employees = new ArrayList<>();
+        List<AllocationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            User employee = User.builder().id(UUID.randomUUID()).firstName("E").lastName(String.valueOf(i))
+                    .role(Role.EMPLOYEE).build();
+            employees.add(employee);
+            requests.add(AllocationRequest.builder()
+                    .id(UUID.randomUUID())
+                    .employeeId(employee.getId())
+                    .projectId(projects.get(i % projects.size()).getId())
+                    .status(AllocationRequestStatus.PENDING_HR)
+                    .billingType(BillingType.BILLABLE)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        when(requestRepository.findByStatusAndArchivedFalse(AllocationRequestStatus.PENDING_HR))
+                .thenAnswer(invocation -> {
+                    QueryCounter.record("select ar.* from allocation_requests ar where ar.status=?");
+                    return requests;
+                });
+        Map<UUID, User> byId = employees.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        when(userRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            QueryCounter.record("select u.* from users u where u.id in (?)");
+            List<User> found = new ArrayList<>();
+            invocation.<Iterable<UUID>>getArgument(0).forEach(id -> found.add(byId.get(id)));
+            return found;
+        });
+        // Projects come from the second-level cache after their first load
+        when(projectRepository.findById(any(UUID.class))).thenAnswer(invocation -> {
+            UUID id = invocation.getArgument(0);
+            if (!projectCache || cachedProjects.add(id)) {
+                QueryCounter.record("select p.* from projects p where p.id=?");
+            }
+            return projects.stream().filter(p -> p.getId().equals(id)).findFirst();
+        });
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pendingRequestsStayWithinBudgetWhateverTheRowCount() throws Exception {
+        properties.setFailOnExceed(true);
+
+        mockMvc.perform(get(PENDING))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(REQUESTS))
+                .andExpect(header().string(QueryBudgetFilter.HEADER, "5"));
+    }
+
+    @Test
+    void overBudgetResponseIsReplacedWhenFailOnExceed() throws Exception {
+        properties.setFailOnExceed(true);
+        projectCache = false;
+
+        String body = mockMvc.perform(get(PENDING))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().string(QueryBudgetFilter.HEADER, String.valueOf(3 + REQUESTS)))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).isEqualTo("GET " + PENDING + " issued " + (3 + REQUESTS)
+                + " SQL statements, budget is " + PENDING_BUDGET);
+    }
+
+    @Test
+    void withoutFailOnExceedTheBodyStreamsAndOnlyTheHeaderReportsTheCount() throws Exception {
+        projectCache = false;
+
+        mockMvc.perform(get(PENDING))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(REQUESTS))
+                .andExpect(header().string(QueryBudgetFilter.HEADER, String.valueOf(3 + REQUESTS)));
+    }
+
+    @Test
+    void budgetAssertionListsTheRepeatedStatement() {
+        assertThat(QueryBudgets.assertAtMost(PENDING_BUDGET, "pending", controller::getPendingRequests)
+                .getBody()).hasSize(REQUESTS);
+
+        projectCache = false;
+        assertThatThrownBy(() -> QueryBudgets.assertAtMost(PENDING_BUDGET, "pending",
+                controller::getPendingRequests))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(REQUESTS + "x select p.* from projects p where p.id=?");
+    }
+}
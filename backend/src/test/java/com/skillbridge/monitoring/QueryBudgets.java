@@ -0,0 +1,40 @@
+package com.skillbridge.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Statement budgets for tests: wrap a call to an endpoint or service and an
+ * N+1 regression fails with the statement histogram in the message.
+ */
+final class QueryBudgets {
+
+    private QueryBudgets() {
+    }
+
+    /** Runs the action in a fresh scope and returns the statements it issued. */
+    static QueryCounter.Scope measure(Runnable action) {
+        QueryCounter.Scope scope = QueryCounter.begin();
+        try {
+            action.run();
+            return scope;
+        } finally {
+            QueryCounter.end();
+        }
+    }
+
+    /**
+     * Runs the action and throws an AssertionError listing the statements if it
+     * issued more than max of them.
+     */
+    static <T> T assertAtMost(int max, String label, Supplier<T> action) {
+        Object[] result = new Object[1];
+        QueryCounter.Scope scope = measure(() -> result[0] = action.get());
+        if (scope.count() > max) {
+            throw new AssertionError(String.format("%s issued %d SQL statements, budget is %d:%n%s", label,
+                    scope.count(), max, scope.describe()));
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.skillbridge.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.Notification;
+import com.skillbridge.entity.PendingNotification;
+import com.skillbridge.enums.NotificationType;
+import com.skillbridge.repository.NotificationRepository;
+import com.skillbridge.repository.PendingNotificationRepository;
+import com.skillbridge.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationPipelineTest {
+
+    private final PendingNotificationRepository pendingRepository = mock(PendingNotificationRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final NotificationPipeline pipeline = new NotificationPipeline(pendingRepository, notificationRepository,
+            mock(UserRepository.class), List.of(), jdbcTemplate, mock(PlatformTransactionManager.class), 0, 1000,
+            100);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesClaimedRowsPerRecipientAndDeletesThem() {
+        UUID busy = UUID.randomUUID();
+        UUID quiet = UUID.randomUUID();
+        List<PendingNotification> pending = List.of(
+                pending(1L, busy, "Allocation approved"),
+                pending(2L, quiet, "Skill verified"),
+                pending(3L, busy, "New allocation request"));
+        when(pendingRepository.claim(100)).thenReturn(pending);
+
+        assertThat(pipeline.flushBatch()).isEqualTo(3);
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(2);
+        Notification digest = saved.getValue().get(0);
+        assertThat(digest.getRecipientId()).isEqualTo(busy);
+        assertThat(digest.getType()).isEqualTo(NotificationType.DIGEST);
+        assertThat(digest.getMessage()).contains("Allocation approved", "New allocation request");
+        assertThat(saved.getValue().get(1).getTitle()).isEqualTo("Skill verified");
+        verify(pendingRepository).deleteAllInBatch(pending);
+    }
+
+    @Test
+    void refusesToEnqueueOutsideTheDeliveryTransaction() {
+        NotificationPipeline.Item item = new NotificationPipeline.Item(UUID.randomUUID(),
+                NotificationType.ALLOCATION_REQUEST, "Allocation approved", "You have been allocated.");
+
+        assertThatThrownBy(() -> pipeline.enqueue(7L, item)).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static PendingNotification pending(long id, UUID recipientId, String title) {
+        return PendingNotification.builder()
+                .id(id)
+                .outboxEventId(id)
+                .recipientId(recipientId)
+                .type(NotificationType.ALLOCATION_REQUEST)
+                .title(title)
+                .message(title + ".")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.skillbridge.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.Role;
+import com.skillbridge.repository.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class SessionCacheTest {
+
+    private static final String EMAIL = "employee@skillbridge.com";
+
+    private final UserRepository repository = mock(UserRepository.class);
+    private final SessionCache cache = new SessionCache(repository, mock(JdbcTemplate.class), true,
+            Duration.ofMinutes(5), 100);
+
+    @BeforeEach
+    void listenerConnected() {
+        cache.setSynced(true);
+    }
+
+    @Test
+    void answersRepeatedChecksFromMemory() {
+        when(repository.findByEmail(EMAIL)).thenReturn(Optional.of(user("jti-1")));
+
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isPresent();
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isPresent();
+
+        verify(repository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadThatRacedWithAnEvictionIsNotCached() {
+        // The notification for a new login arrives while the old session is being read
+        when(repository.findByEmail(EMAIL))
+                .thenAnswer(invocation -> {
+                    cache.evict(EMAIL);
+                    return Optional.of(user("jti-1"));
+                })
+                .thenReturn(Optional.of(user("jti-2")));
+
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isPresent();
+        // Had the stale row been cached, the old token would still be accepted here
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isEmpty();
+        assertThat(cache.userForSession(EMAIL, "jti-2")).isPresent();
+    }
+
+    @Test
+    void evictionMakesTheNextCheckReadTheDatabase() {
+        when(repository.findByEmail(EMAIL))
+                .thenReturn(Optional.of(user("jti-1")))
+                .thenReturn(Optional.of(user("jti-2")));
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isPresent();
+
+        cache.evict(EMAIL);
+
+        assertThat(cache.userForSession(EMAIL, "jti-1")).isEmpty();
+    }
+
+    @Test
+    void bypassedWhileTheListenerIsDisconnected() {
+        when(repository.findByEmail(EMAIL)).thenReturn(Optional.of(user("jti-1")));
+        cache.userForSession(EMAIL, "jti-1");
+
+        cache.setSynced(false);
+        cache.userForSession(EMAIL, "jti-1");
+        cache.userForSession(EMAIL, "jti-1");
+
+        verify(repository, times(3)).findByEmail(EMAIL);
+    }
+
+    private static User user(String jti) {
+        return User.builder()
+                .id(UUID.nameUUIDFromBytes(EMAIL.getBytes()))
+                .email(EMAIL)
+                .role(Role.EMPLOYEE)
+                .activeJti(jti)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.skillbridge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.dto.CapacityAvailabilityResponse;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.CapacityCalendar;
+import com.skillbridge.index.EmployeeLocks;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.UtilizationCounters;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import com.skillbridge.security.CustomUserDetails;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class AssignmentServiceCapacityTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+    private final ProjectAssignmentRepository assignmentRepository = mock(ProjectAssignmentRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AssignmentService service = new AssignmentService(assignmentRepository,
+            mock(ProjectAssignmentHistoryRepository.class), mock(ProjectRepository.class), userRepository,
+            new CapacityCalendar(assignmentRepository), new EmployeeLocks(256, 5000), mock(DomainEventPublisher.class),
+            mock(UtilizationCounters.class), mock(OrgHierarchy.class));
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void teamCapacityLoadsEveryTimelineInOneQuery() {
+        User manager = user(Role.MANAGER, null);
+        User busy = user(Role.EMPLOYEE, manager.getId());
+        User overbooked = user(Role.EMPLOYEE, manager.getId());
+        User idle = user(Role.EMPLOYEE, manager.getId());
+        when(userRepository.findByManagerId(manager.getId())).thenReturn(List.of(busy, overbooked, idle));
+        when(assignmentRepository.findByEmployeeIdInAndAssignmentStatus(any(), any())).thenReturn(List.of(
+                assignment(busy, 60), assignment(overbooked, 70), assignment(overbooked, 50)));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new CustomUserDetails(manager), null, List.of()));
+
+        List<CapacityAvailabilityResponse> team = service.getAvailableCapacity(JAN_1, JAN_1.plusDays(13), 0);
+
+        assertThat(team).extracting(CapacityAvailabilityResponse::getEmployeeId)
+                .containsExactly(idle.getId(), busy.getId(), overbooked.getId());
+        assertThat(team).extracting(CapacityAvailabilityResponse::getAvailableCapacity).containsExactly(100, 40, 0);
+        assertThat(team).extracting(CapacityAvailabilityResponse::getPeakAllocation).containsExactly(0, 60, 100);
+        verify(assignmentRepository, times(1)).findByEmployeeIdInAndAssignmentStatus(any(), any());
+        verify(assignmentRepository, never()).findByEmployeeIdAndAssignmentStatus(any(), any());
+    }
+
+    private static User user(Role role, UUID managerId) {
+        return User.builder().id(UUID.randomUUID()).firstName("U").lastName(role.name()).email("u@skillbridge.test")
+                .role(role).managerId(managerId).build();
+    }
+
+    private static ProjectAssignment assignment(User employee, int percent) {
+        return ProjectAssignment.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employee.getId())
+                .projectId(UUID.randomUUID())
+                .assignmentStatus(AssignmentStatus.ACTIVE)
+                .billingType(BillingType.BILLABLE)
+                .allocationPercent(percent)
+                .startDate(JAN_1)
+                .build();
+    }
+}
@@ -0,0 +1,213 @@
+package com.skillbridge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.dto.CreateAssignmentRequest;
+import com.skillbridge.dto.UpdateAssignmentRequest;
+import com.skillbridge.entity.Project;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.User;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.ProjectStatus;
+import com.skillbridge.enums.Role;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.CapacityCalendar;
+import com.skillbridge.index.EmployeeLocks;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.UtilizationCounters;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Many threads creating and resizing assignments for a handful of employees
+ * at once, against a shared in-memory table. Each call runs in a simulated
+ * transaction so the employee lock is held until "commit", as in production.
+ */
+class AssignmentServiceConcurrencyTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 250;
+    private static final int EMPLOYEES = 4;
+
+    private final Map<UUID, ProjectAssignment> table = new ConcurrentHashMap<>();
+    private final ProjectAssignmentRepository assignmentRepository = mock(ProjectAssignmentRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CapacityCalendar capacityCalendar = new CapacityCalendar(assignmentRepository);
+    private final AssignmentService service = new AssignmentService(assignmentRepository,
+            mock(ProjectAssignmentHistoryRepository.class), projectRepository, userRepository, capacityCalendar,
+            new EmployeeLocks(256, 5000), mock(DomainEventPublisher.class), mock(UtilizationCounters.class),
+            mock(OrgHierarchy.class));
+
+    @Test
+    void concurrentWritersNeverOverbookAnEmployee() throws Exception {
+        List<UUID> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            User employee = User.builder().id(UUID.randomUUID()).firstName("E").lastName(String.valueOf(i))
+                    .role(Role.EMPLOYEE).build();
+            employees.add(employee.getId());
+            when(userRepository.findByIdForUpdate(employee.getId())).thenReturn(Optional.of(employee));
+            when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        }
+        Project project = Project.builder().id(UUID.randomUUID()).name("Atlas").status(ProjectStatus.ACTIVE).build();
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        stubTable();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    UUID employeeId = employees.get(random.nextInt(EMPLOYEES));
+                    try {
+                        inTransaction(() -> random.nextInt(4) == 0
+                                ? resizeOne(employeeId, random)
+                                : service.assignEmployeeToProject(createRequest(employeeId, project, random)));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // Capacity refused (or nothing to resize yet)
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+        pool.shutdown();
+
+        int operations = THREADS * OPERATIONS_PER_THREAD;
+        System.out.printf("%d writers on %d employees: %d ops in %.2fs (%.0f ops/s), %d accepted, %d rejected%n",
+                THREADS, EMPLOYEES, operations, seconds, operations / seconds, accepted.get(), rejected.get());
+
+        assertThat(accepted.get() + rejected.get()).isEqualTo(operations);
+        assertThat(accepted.get()).isPositive();
+        assertThat(rejected.get()).isPositive();
+        for (UUID employeeId : employees) {
+            for (LocalDate day = JAN_1; day.isBefore(JAN_1.plusDays(45)); day = day.plusDays(1)) {
+                LocalDate current = day;
+                int booked = table.values().stream()
+                        .filter(a -> a.getEmployeeId().equals(employeeId))
+                        .filter(a -> a.isInForceOn(current))
+                        .mapToInt(ProjectAssignment::getAllocationPercent)
+                        .sum();
+                assertThat(booked).as("allocation of %s on %s", employeeId, day).isLessThanOrEqualTo(100);
+            }
+        }
+    }
+
+    private Object resizeOne(UUID employeeId, ThreadLocalRandom random) {
+        List<UUID> candidates = table.values().stream()
+                .filter(a -> a.getEmployeeId().equals(employeeId))
+                .map(ProjectAssignment::getId)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("Nothing to resize");
+        }
+        UpdateAssignmentRequest request = new UpdateAssignmentRequest();
+        request.setAllocationPercent(10 + random.nextInt(60));
+        return service.updateAssignment(candidates.get(random.nextInt(candidates.size())), request);
+    }
+
+    private static CreateAssignmentRequest createRequest(UUID employeeId, Project project,
+            ThreadLocalRandom random) {
+        LocalDate from = JAN_1.plusDays(random.nextInt(30));
+        return CreateAssignmentRequest.builder()
+                .employeeId(employeeId)
+                .projectId(project.getId())
+                .billingType(BillingType.BILLABLE)
+                .startDate(from)
+                .endDate(random.nextInt(5) == 0 ? null : from.plusDays(random.nextInt(10)))
+                .allocationPercent(10 + random.nextInt(40))
+                .build();
+    }
+
+    /** Repository calls read and write the shared table; every read returns copies, like a fresh session. */
+    private void stubTable() {
+        when(assignmentRepository.save(any(ProjectAssignment.class))).thenAnswer(invocation -> {
+            ProjectAssignment saved = copy(invocation.getArgument(0));
+            if (saved.getId() == null) {
+                saved.setId(UUID.randomUUID());
+            }
+            table.put(saved.getId(), saved);
+            return copy(saved);
+        });
+        when(assignmentRepository.findById(any(UUID.class))).thenAnswer(invocation -> Optional
+                .ofNullable(table.get(invocation.<UUID>getArgument(0))).map(AssignmentServiceConcurrencyTest::copy));
+        when(assignmentRepository.findEmployeeIdById(any(UUID.class))).thenAnswer(invocation -> Optional
+                .ofNullable(table.get(invocation.<UUID>getArgument(0))).map(ProjectAssignment::getEmployeeId));
+        when(assignmentRepository.findByEmployeeIdAndAssignmentStatus(any(UUID.class), any(AssignmentStatus.class)))
+                .thenAnswer(invocation -> table.values().stream()
+                        .filter(a -> a.getEmployeeId().equals(invocation.getArgument(0)))
+                        .filter(a -> a.getAssignmentStatus() == invocation.getArgument(1))
+                        .map(AssignmentServiceConcurrencyTest::copy)
+                        .collect(Collectors.toList()));
+    }
+
+    private static <T> T inTransaction(Supplier<T> work) {
+        TransactionSynchronizationManager.initSynchronization();
+        int status = TransactionSynchronization.STATUS_ROLLED_BACK;
+        try {
+            T result = work.get();
+            status = TransactionSynchronization.STATUS_COMMITTED;
+            return result;
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+                    .getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(status);
+            }
+        }
+    }
+
+    private static ProjectAssignment copy(ProjectAssignment source) {
+        return ProjectAssignment.builder()
+                .id(source.getId())
+                .employeeId(source.getEmployeeId())
+                .projectId(source.getProjectId())
+                .assignmentStatus(source.getAssignmentStatus())
+                .billingType(source.getBillingType())
+                .projectRole(source.getProjectRole())
+                .startDate(source.getStartDate())
+                .endDate(source.getEndDate())
+                .allocationPercent(source.getAllocationPercent())
+                .build();
+    }
+}
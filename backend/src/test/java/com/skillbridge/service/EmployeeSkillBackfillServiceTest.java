@@ -0,0 +1,60 @@
+package com.skillbridge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.index.SkillCanonicalizer;
+import com.skillbridge.repository.EmployeeSkillRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmployeeSkillBackfillServiceTest {
+
+    private final EmployeeSkillRepository employeeSkillRepository = mock(EmployeeSkillRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet result = mock(ResultSet.class);
+    private final EmployeeSkillBackfillService service = new EmployeeSkillBackfillService(employeeSkillRepository,
+            mock(SkillCatalogService.class), mock(SkillCanonicalizer.class), mock(PlatformTransactionManager.class),
+            jdbcTemplate);
+
+    @Test
+    void nodeFindingTheBackfillRunningElsewhereWaitsForItsTurn() throws Exception {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        // Held by another node at startup, free on the retry (then the unlock)
+        when(result.getBoolean(1)).thenReturn(false, true, true);
+        when(employeeSkillRepository.findBySkillIdIsNullAndIdGreaterThanOrderById(any(), any()))
+                .thenReturn(List.of());
+
+        service.backfillOnStartup();
+        verify(employeeSkillRepository, never()).findBySkillIdIsNullAndIdGreaterThanOrderById(any(), any());
+        assertThat(service.hasLegacyRows()).isTrue();
+
+        service.retryPending();
+        service.retryPending();
+
+        verify(employeeSkillRepository, times(1)).findBySkillIdIsNullAndIdGreaterThanOrderById(any(), any());
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(?)");
+        assertThat(service.hasLegacyRows()).isFalse();
+    }
+}
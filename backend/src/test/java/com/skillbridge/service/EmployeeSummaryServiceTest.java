@@ -0,0 +1,54 @@
+package com.skillbridge.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.event.DomainEventPublisher;
+import com.skillbridge.index.EmployeeSummaryIndex;
+import com.skillbridge.repository.EmployeeSkillRepository;
+import com.skillbridge.repository.EmployeeSummaryRepository;
+import com.skillbridge.repository.ProjectAssignmentHistoryRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.ProjectRepository;
+import com.skillbridge.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmployeeSummaryServiceTest {
+
+    private final EmployeeSummaryRepository summaryRepository = mock(EmployeeSummaryRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EmployeeSummaryIndex index = mock(EmployeeSummaryIndex.class);
+    private final EmployeeSummaryService service = new EmployeeSummaryService(summaryRepository, userRepository,
+            mock(EmployeeSkillRepository.class), mock(ProjectAssignmentRepository.class),
+            mock(ProjectAssignmentHistoryRepository.class), mock(ProjectRepository.class), index,
+            mock(DomainEventPublisher.class), new ObjectMapper(), mock(PlatformTransactionManager.class));
+
+    @Test
+    void startupRebuildIsLeftToTheNodeHoldingTheLock() {
+        when(summaryRepository.count()).thenReturn(0L);
+        when(userRepository.count()).thenReturn(3L);
+        when(summaryRepository.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+        service.warmUp();
+
+        verify(userRepository, never()).findAll();
+        verify(index).reload();
+    }
+
+    @Test
+    void rebuildIsSkippedWhenAnotherNodeFinishedItMeanwhile() {
+        when(summaryRepository.count()).thenReturn(0L, 3L);
+        when(userRepository.count()).thenReturn(3L);
+        when(summaryRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+
+        service.warmUp();
+
+        verify(userRepository, never()).findAll();
+        verify(index).reload();
+    }
+}
@@ -0,0 +1,61 @@
+package com.skillbridge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.skillbridge.dto.SkillSearchResponse;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.MatchMode;
+import com.skillbridge.event.AssignmentCreatedEvent;
+import com.skillbridge.event.ClusterEvent;
+import com.skillbridge.index.OrgHierarchy;
+import com.skillbridge.index.SkillCanonicalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+class SkillSearchCacheTest {
+
+    private final SkillSearchCache cache = new SkillSearchCache(mock(SkillCanonicalizer.class),
+            mock(OrgHierarchy.class), 100, Duration.ofMinutes(10));
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void assignmentChangeDropsEveryPageThatRankedTheEmployee() {
+        UUID onPage = UUID.randomUUID();
+        UUID rankedOffPage = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        SkillSearchCache.SearchKey java = key(1);
+        SkillSearchCache.SearchKey go = key(2);
+        search(java, Set.of(onPage, rankedOffPage), onPage);
+        search(go, Set.of(unrelated), unrelated);
+
+        cache.onAssignmentCreated(new ClusterEvent<>(1L, null, null, new AssignmentCreatedEvent(UUID.randomUUID(),
+                rankedOffPage, UUID.randomUUID(), 50, BillingType.BILLABLE, LocalDate.now(), null)));
+
+        search(java, Set.of(onPage, rankedOffPage), onPage);
+        search(go, Set.of(unrelated), unrelated);
+        assertThat(searches).hasValue(3);
+    }
+
+    private void search(SkillSearchCache.SearchKey key, Set<UUID> candidates, UUID shown) {
+        cache.get(key, () -> {
+            searches.incrementAndGet();
+            Page<SkillSearchResponse> page = new PageImpl<>(
+                    List.of(SkillSearchResponse.builder().userId(shown).build()), PageRequest.of(0, 1),
+                    candidates.size());
+            return new SkillSearchCache.Result(page, candidates);
+        });
+    }
+
+    private static SkillSearchCache.SearchKey key(int skillId) {
+        return new SkillSearchCache.SearchKey(null, List.of(skillId), MatchMode.ALL, null, 0, 1);
+    }
+}
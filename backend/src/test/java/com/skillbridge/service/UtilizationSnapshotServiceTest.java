@@ -0,0 +1,85 @@
+package com.skillbridge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skillbridge.entity.EmployeeOrdinal;
+import com.skillbridge.entity.ProjectAssignment;
+import com.skillbridge.entity.User;
+import com.skillbridge.entity.UtilizationSnapshot;
+import com.skillbridge.enums.AssignmentStatus;
+import com.skillbridge.enums.BillingType;
+import com.skillbridge.enums.Role;
+import com.skillbridge.repository.EmployeeOrdinalRepository;
+import com.skillbridge.repository.ProjectAssignmentRepository;
+import com.skillbridge.repository.UserRepository;
+import com.skillbridge.repository.UtilizationSnapshotRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class UtilizationSnapshotServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ProjectAssignmentRepository assignmentRepository = mock(ProjectAssignmentRepository.class);
+    private final EmployeeOrdinalRepository ordinalRepository = mock(EmployeeOrdinalRepository.class);
+    private final UtilizationSnapshotRepository snapshotRepository = mock(UtilizationSnapshotRepository.class);
+    private final UtilizationSnapshotService service = new UtilizationSnapshotService(userRepository,
+            assignmentRepository, ordinalRepository, snapshotRepository);
+
+    @Test
+    void scheduledRunIsSkippedWhileAnotherNodeHoldsTheLock() {
+        when(snapshotRepository.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+        service.snapshotToday();
+
+        verify(snapshotRepository, never()).deleteBySnapshotDay(any());
+        verify(snapshotRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsEachEmployeesManagerOfTheDay() {
+        User manager = user(Role.MANAGER, null);
+        User employee = user(Role.EMPLOYEE, manager.getId());
+        when(userRepository.findByRole(Role.EMPLOYEE)).thenReturn(List.of(employee));
+        when(userRepository.findByRole(Role.MANAGER)).thenReturn(List.of(manager));
+        when(assignmentRepository.findByAssignmentStatus(AssignmentStatus.ACTIVE)).thenReturn(List.of(
+                ProjectAssignment.builder()
+                        .id(UUID.randomUUID())
+                        .employeeId(employee.getId())
+                        .assignmentStatus(AssignmentStatus.ACTIVE)
+                        .billingType(BillingType.BILLABLE)
+                        .allocationPercent(60)
+                        .build()));
+        when(ordinalRepository.findByEmployeeIdIn(anyCollection())).thenReturn(List.of(
+                new EmployeeOrdinal(1, manager.getId()), new EmployeeOrdinal(2, employee.getId())));
+
+        assertThat(service.snapshot(DAY)).isEqualTo(2);
+
+        verify(snapshotRepository).advisoryXactLock(anyLong());
+        ArgumentCaptor<List<UtilizationSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(saved.capture());
+        Map<Integer, UtilizationSnapshot> byOrdinal = saved.getValue().stream()
+                .collect(Collectors.toMap(UtilizationSnapshot::getEmployeeOrdinal, row -> row));
+        assertThat(byOrdinal.get(2).getManagerOrdinal()).isEqualTo(1);
+        assertThat(byOrdinal.get(2).getUtilizationPercent()).isEqualTo((short) 60);
+        assertThat(byOrdinal.get(1).getManagerOrdinal()).isNull();
+    }
+
+    private static User user(Role role, UUID managerId) {
+        return User.builder().id(UUID.randomUUID()).role(role).managerId(managerId).build();
+    }
+}
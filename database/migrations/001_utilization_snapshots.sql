@@ -0,0 +1,17 @@
+-- Daily utilization snapshots for trend reports. Employees get a dense
+-- integer alias (employee_ordinals) so each snapshot row stays a few bytes:
+-- billing_bits 1 = billable assignment active, 2 = investment assignment active.
+-- The snapshot job fills both tables; history starts with its first run.
+
+CREATE TABLE IF NOT EXISTS employee_ordinals (
+    ordinal SERIAL PRIMARY KEY,
+    employee_id UUID NOT NULL UNIQUE REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS utilization_snapshots (
+    snapshot_day DATE NOT NULL,
+    employee_ordinal INTEGER NOT NULL,
+    utilization_percent SMALLINT NOT NULL,
+    billing_bits SMALLINT NOT NULL,
+    PRIMARY KEY (snapshot_day, employee_ordinal)
+);
@@ -0,0 +1,24 @@
+-- Utilization snapshots: record each employee's manager on the snapshot day,
+-- so team trends keep their history when people move teams.
+--
+-- Rows recorded before this column existed are attributed to the current
+-- manager, which is what team trends showed for them until now.
+
+ALTER TABLE utilization_snapshots ADD COLUMN IF NOT EXISTS manager_ordinal INTEGER;
+
+CREATE INDEX IF NOT EXISTS idx_utilization_snapshots_manager_day
+    ON utilization_snapshots (manager_ordinal, snapshot_day);
+
+INSERT INTO employee_ordinals (employee_id)
+SELECT DISTINCT u.manager_id
+FROM users u
+WHERE u.manager_id IS NOT NULL
+ON CONFLICT (employee_id) DO NOTHING;
+
+UPDATE utilization_snapshots s
+SET manager_ordinal = mo.ordinal
+FROM employee_ordinals eo
+JOIN users u ON u.id = eo.employee_id
+JOIN employee_ordinals mo ON mo.employee_id = u.manager_id
+WHERE s.employee_ordinal = eo.ordinal
+  AND s.manager_ordinal IS NULL;
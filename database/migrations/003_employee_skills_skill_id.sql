@@ -0,0 +1,27 @@
+-- Employee skills: free-text skill_name -> catalog skill_id
+--
+-- Phase 1 (this script, safe while the application is running):
+--   add the nullable FK and its indexes, and link rows whose name matches a
+--   catalog entry exactly (case-insensitive). The application's startup
+--   backfill (skills.backfill.enabled) links the remaining rows through the
+--   synonym dictionary, creating catalog entries for names it cannot match.
+--   Reads fall back to skill_name until no unlinked rows remain.
+
+ALTER TABLE employee_skills ADD COLUMN IF NOT EXISTS skill_id UUID REFERENCES skills(id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_skills_skill_status ON employee_skills (skill_id, status);
+CREATE INDEX IF NOT EXISTS idx_employee_skills_employee_skill ON employee_skills (employee_id, skill_id);
+
+UPDATE employee_skills es
+SET skill_id = s.id,
+    skill_name = s.name
+FROM skills s
+WHERE es.skill_id IS NULL
+  AND lower(es.skill_name) = lower(s.name);
+
+-- Phase 2 (run once "legacy rows remaining" reports 0 and duplicates per
+-- employee have been resolved):
+--
+-- ALTER TABLE employee_skills ALTER COLUMN skill_id SET NOT NULL;
+-- DROP INDEX IF EXISTS idx_employee_skills_employee_skill;
+-- CREATE UNIQUE INDEX ux_employee_skills_employee_skill ON employee_skills (employee_id, skill_id);
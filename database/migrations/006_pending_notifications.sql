@@ -0,0 +1,14 @@
+-- Durable hand-off from outbox delivery to the notification inbox. Rows are
+-- written in the event's delivery transaction and deleted once coalesced
+-- into notifications, so the table is normally close to empty.
+
+CREATE TABLE IF NOT EXISTS pending_notifications (
+    id BIGSERIAL PRIMARY KEY,
+    outbox_event_id BIGINT NOT NULL,
+    recipient_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uq_pending_notifications_event_recipient UNIQUE (outbox_event_id, recipient_id)
+);
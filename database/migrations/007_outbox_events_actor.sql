@@ -0,0 +1,5 @@
+-- Outbox events: record the user whose request caused each event, so the
+-- audit log (fed from dispatched events) can answer "all actions by user X".
+-- Existing rows keep a NULL actor (system change).
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS actor_id UUID;
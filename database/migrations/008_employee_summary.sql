@@ -0,0 +1,25 @@
+-- Employee summary read model: one denormalised row per user, maintained by
+-- EmployeeSummaryService from outbox events. The application rebuilds the
+-- rows on startup when their count differs from users, so no backfill here.
+
+CREATE TABLE IF NOT EXISTS employee_summary (
+    employee_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    role VARCHAR(50) NOT NULL,
+    manager_id UUID,
+    manager_name VARCHAR(255),
+    assignment_status VARCHAR(20) NOT NULL,
+    project_name VARCHAR(255),
+    company_name VARCHAR(255),
+    start_date DATE,
+    end_date DATE,
+    billing_status VARCHAR(20),
+    total_utilization INTEGER NOT NULL DEFAULT 0,
+    skills TEXT NOT NULL,
+    approved_skills TEXT,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_summary_manager ON employee_summary (manager_id);
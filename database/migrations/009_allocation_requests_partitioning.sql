@@ -0,0 +1,53 @@
+-- Allocation requests: enum status, archived flag and partitioning
+--
+-- Rebuilds allocation_requests as a table list-partitioned on archived:
+--   allocation_requests_hot   archived = FALSE, open and recently closed requests
+--   allocation_requests_cold  archived = TRUE, range-partitioned by created_at
+--                             (yearly tables, created by AllocationRequestArchiver)
+-- Existing rows are copied into the hot partition; the first archive run moves
+-- closed ones past the horizon (allocation-requests.archive.horizon-days).
+-- Takes an exclusive lock on the table for the copy: run in a maintenance window.
+
+BEGIN;
+
+ALTER TABLE allocation_requests RENAME TO allocation_requests_legacy;
+ALTER INDEX IF EXISTS allocation_requests_pkey RENAME TO allocation_requests_legacy_pkey;
+
+CREATE TABLE allocation_requests (
+    id UUID NOT NULL,
+    employee_id UUID NOT NULL REFERENCES users(id),
+    project_id UUID NOT NULL REFERENCES projects(id),
+    status VARCHAR(20) NOT NULL
+        CHECK (status IN ('PENDING_MANAGER', 'PENDING_HR', 'APPROVED', 'REJECTED')),
+    billing_type VARCHAR(50),
+    manager_comments TEXT,
+    rejection_reason TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    reviewed_at TIMESTAMP,
+    reviewed_by UUID REFERENCES users(id),
+    forwarded_at TIMESTAMP,
+    forwarded_by UUID REFERENCES users(id),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, archived, created_at)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE allocation_requests_hot PARTITION OF allocation_requests FOR VALUES IN (FALSE);
+CREATE TABLE allocation_requests_cold PARTITION OF allocation_requests FOR VALUES IN (TRUE)
+    PARTITION BY RANGE (created_at);
+CREATE TABLE allocation_requests_cold_default PARTITION OF allocation_requests_cold DEFAULT;
+
+CREATE INDEX idx_allocation_requests_status_employee ON allocation_requests (status, employee_id);
+CREATE INDEX idx_allocation_requests_employee_created ON allocation_requests (employee_id, created_at);
+
+-- Legacy free-text 'PENDING' was never written by the workflow; treat it as awaiting the manager
+INSERT INTO allocation_requests (id, employee_id, project_id, status, billing_type, manager_comments,
+        rejection_reason, created_at, reviewed_at, reviewed_by, forwarded_at, forwarded_by, archived)
+SELECT id, employee_id, project_id,
+       CASE WHEN status = 'PENDING' THEN 'PENDING_MANAGER' ELSE status END,
+       billing_type, manager_comments, rejection_reason, created_at, reviewed_at, reviewed_by,
+       forwarded_at, forwarded_by, FALSE
+FROM allocation_requests_legacy;
+
+DROP TABLE allocation_requests_legacy;
+
+COMMIT;
@@ -0,0 +1,29 @@
+-- Hot/cold split for project assignments: ENDED and REJECTED rows leave
+-- project_assignments for project_assignment_history. Rows are not moved
+-- here; AssignmentHistoryMover drains them in batches after startup, so the
+-- migration itself takes no long lock on the live table.
+
+CREATE TABLE IF NOT EXISTS project_assignment_history (
+    id UUID PRIMARY KEY,
+    employee_id UUID NOT NULL REFERENCES users(id),
+    project_id UUID NOT NULL REFERENCES projects(id),
+    assignment_status VARCHAR(50) NOT NULL CHECK (assignment_status IN ('ENDED', 'REJECTED')),
+    billing_type VARCHAR(50),
+    project_role VARCHAR(255),
+    allocation_percent INTEGER,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    requested_at TIMESTAMP,
+    reviewed_at TIMESTAMP,
+    reviewed_by UUID,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_assignment_history_employee
+    ON project_assignment_history (employee_id, start_date DESC);
+CREATE INDEX IF NOT EXISTS idx_project_assignment_history_project
+    ON project_assignment_history (project_id, start_date DESC);
+
+-- Live lookups by employee (latest assignment, active assignments)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_assignments_employee
+    ON project_assignments (employee_id, start_date DESC);
@@ -0,0 +1,5 @@
+-- Idempotency keys: replay the headers the handler set (Location, ...) along
+-- with status and body. Responses stored before this column existed replay
+-- without them until they expire.
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS response_headers TEXT;
@@ -23,12 +23,16 @@ CREATE TABLE skills (
 CREATE TABLE employee_skills (
     id UUID PRIMARY KEY,
     employee_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    skill_id UUID REFERENCES skills(id),
     skill_name VARCHAR(255) NOT NULL,
     proficiency_level VARCHAR(50) NOT NULL, 
     status VARCHAR(50) NOT NULL, 
     version BIGINT DEFAULT 0
 );
 
+CREATE INDEX idx_employee_skills_skill_status ON employee_skills (skill_id, status);
+CREATE INDEX idx_employee_skills_employee_skill ON employee_skills (employee_id, skill_id);
+
 
 CREATE TABLE projects (
     id UUID PRIMARY KEY,
@@ -48,11 +52,15 @@ CREATE TABLE project_tech_stack (
 );
 
 
+-- Hot partition: open and recently closed requests (all the workflow reads).
+-- Cold partition: archived requests, by year of created_at; yearly tables are
+-- created by AllocationRequestArchiver before it moves rows into them.
 CREATE TABLE allocation_requests (
-    id UUID PRIMARY KEY,
+    id UUID NOT NULL,
     employee_id UUID NOT NULL REFERENCES users(id),
     project_id UUID NOT NULL REFERENCES projects(id),
-    status VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL
+        CHECK (status IN ('PENDING_MANAGER', 'PENDING_HR', 'APPROVED', 'REJECTED')),
     billing_type VARCHAR(50), 
     manager_comments TEXT,
     rejection_reason TEXT,
@@ -60,8 +68,18 @@ CREATE TABLE allocation_requests (
     reviewed_at TIMESTAMP,
     reviewed_by UUID REFERENCES users(id),
     forwarded_at TIMESTAMP,
-    forwarded_by UUID REFERENCES users(id)
-);
+    forwarded_by UUID REFERENCES users(id),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, archived, created_at)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE allocation_requests_hot PARTITION OF allocation_requests FOR VALUES IN (FALSE);
+CREATE TABLE allocation_requests_cold PARTITION OF allocation_requests FOR VALUES IN (TRUE)
+    PARTITION BY RANGE (created_at);
+CREATE TABLE allocation_requests_cold_default PARTITION OF allocation_requests_cold DEFAULT;
+
+CREATE INDEX idx_allocation_requests_status_employee ON allocation_requests (status, employee_id);
+CREATE INDEX idx_allocation_requests_employee_created ON allocation_requests (employee_id, created_at);
 
 
 CREATE TABLE project_assignments (
@@ -79,3 +97,139 @@ CREATE TABLE project_assignments (
     reviewed_by UUID REFERENCES users(id),
     version BIGINT DEFAULT 0
 );
+
+
+-- Dense integer alias per employee for compact analytics tables
+CREATE TABLE employee_ordinals (
+    ordinal SERIAL PRIMARY KEY,
+    employee_id UUID NOT NULL UNIQUE REFERENCES users(id) ON DELETE CASCADE
+);
+
+
+-- Daily utilization snapshot: 4 + 4 + 2 + 2 + 4 bytes of payload per row
+-- billing_bits: 1 = billable assignment active, 2 = investment assignment active
+-- manager_ordinal: the employee's direct manager on that day (team trends)
+CREATE TABLE utilization_snapshots (
+    snapshot_day DATE NOT NULL,
+    employee_ordinal INTEGER NOT NULL,
+    utilization_percent SMALLINT NOT NULL,
+    billing_bits SMALLINT NOT NULL,
+    manager_ordinal INTEGER,
+    PRIMARY KEY (snapshot_day, employee_ordinal)
+);
+CREATE INDEX idx_utilization_snapshots_manager_day ON utilization_snapshots (manager_ordinal, snapshot_day);
+
+
+-- Transactional outbox: domain events written with the change that caused them
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    actor_id UUID,
+    created_at TIMESTAMP NOT NULL,
+    dispatched_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    failed BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id) WHERE dispatched_at IS NULL;
+
+
+-- In-app notification inbox (rows are coalesced per recipient before insert)
+CREATE TABLE notifications (
+    id UUID PRIMARY KEY,
+    recipient_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    read_at TIMESTAMP
+);
+
+CREATE INDEX idx_notifications_recipient_created ON notifications (recipient_id, created_at);
+
+-- Notifications written with the outbox event that caused them, waiting to be
+-- coalesced into the inbox by NotificationPipeline (one row per event and recipient)
+CREATE TABLE pending_notifications (
+    id BIGSERIAL PRIMARY KEY,
+    outbox_event_id BIGINT NOT NULL,
+    recipient_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uq_pending_notifications_event_recipient UNIQUE (outbox_event_id, recipient_id)
+);
+
+
+-- Read model: one denormalised row per user for list, team, bench and search
+-- screens. Derived by EmployeeSummaryService; rebuild with
+-- POST /api/users/summaries/rebuild.
+CREATE TABLE employee_summary (
+    employee_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    role VARCHAR(50) NOT NULL,
+    manager_id UUID,
+    manager_name VARCHAR(255),
+    assignment_status VARCHAR(20) NOT NULL,
+    project_name VARCHAR(255),
+    company_name VARCHAR(255),
+    start_date DATE,
+    end_date DATE,
+    billing_status VARCHAR(20),
+    total_utilization INTEGER NOT NULL DEFAULT 0,
+    skills TEXT NOT NULL,
+    approved_skills TEXT,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_employee_summary_manager ON employee_summary (manager_id);
+
+
+-- Closed assignments: ENDED / REJECTED rows move here from project_assignments
+-- in background batches (AssignmentHistoryMover) once closed for
+-- assignments.history.grace-days, so live queries scan only live rows.
+-- Read through GET /api/assignments/history and /api/assignments/my/history.
+CREATE TABLE project_assignment_history (
+    id UUID PRIMARY KEY,
+    employee_id UUID NOT NULL REFERENCES users(id),
+    project_id UUID NOT NULL REFERENCES projects(id),
+    assignment_status VARCHAR(50) NOT NULL CHECK (assignment_status IN ('ENDED', 'REJECTED')),
+    billing_type VARCHAR(50),
+    project_role VARCHAR(255),
+    allocation_percent INTEGER,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    requested_at TIMESTAMP,
+    reviewed_at TIMESTAMP,
+    reviewed_by UUID,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_project_assignment_history_employee ON project_assignment_history (employee_id, start_date DESC);
+CREATE INDEX idx_project_assignment_history_project ON project_assignment_history (project_id, start_date DESC);
+CREATE INDEX idx_project_assignments_employee ON project_assignments (employee_id, start_date DESC);
+
+
+-- Idempotency-Key support for retried writes (IdempotencyFilter). A row is
+-- claimed before the handler runs and holds the response once it completes;
+-- expired rows are purged hourly.
+CREATE TABLE idempotency_keys (
+    user_id UUID NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_status INTEGER,
+    response_content_type VARCHAR(255),
+    response_headers TEXT,
+    response_body BYTEA,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -8,6 +8,8 @@ import AllocationApprovals from '../components/AllocationApprovals';
 import Sidebar from '../components/Sidebar';
 import { allocationsApi } from '../api/allocations';
 
+// Matches the backend's default page size for /skills/search
+const TALENT_PAGE_SIZE = 50;
 
 const HRDashboard = () => {
     const { user, role } = useAuth();
@@ -60,6 +62,10 @@ const HRDashboard = () => {
     const [catalogSkills, setCatalogSkills] = useState([]);
     const [talentResults, setTalentResults] = useState(null);
     const [talentLoading, setTalentLoading] = useState(false);
+    const [talentQuery, setTalentQuery] = useState('');
+    const [talentPage, setTalentPage] = useState(0);
+    const [talentTotal, setTalentTotal] = useState(0);
+    const [talentLoadingMore, setTalentLoadingMore] = useState(false);
 
 
     // Edit/Delete State
@@ -287,6 +293,13 @@ const HRDashboard = () => {
         }
     };
 
+    // One ranked page; X-Total-Count says how many employees match in all
+    const fetchTalentPage = async (skillsQuery, page) => {
+        const response = await api.get(`/skills/search?${skillsQuery}&page=${page}&size=${TALENT_PAGE_SIZE}`);
+        const total = Number(response.headers?.['x-total-count']);
+        return { results: response.data, total: Number.isNaN(total) ? response.data.length : total };
+    };
+
     const handleTalentSearch = async (e) => {
         e.preventDefault();
         if (searchSkills.length === 0) return;
@@ -296,8 +309,11 @@ const HRDashboard = () => {
 
         try {
             const skillsQuery = searchSkills.map(s => `skills=${encodeURIComponent(s)}`).join('&');
-            const response = await api.get(`/skills/search?${skillsQuery}`);
-            setTalentResults(response.data);
+            const { results, total } = await fetchTalentPage(skillsQuery, 0);
+            setTalentQuery(skillsQuery);
+            setTalentPage(0);
+            setTalentTotal(total);
+            setTalentResults(results);
         } catch (err) {
             console.error('Failed to search talent:', err);
             // setTalentError('Error occurred while searching for talent.');
@@ -306,6 +322,20 @@ const HRDashboard = () => {
         }
     };
 
+    const handleTalentLoadMore = async () => {
+        setTalentLoadingMore(true);
+        try {
+            const { results, total } = await fetchTalentPage(talentQuery, talentPage + 1);
+            setTalentPage(talentPage + 1);
+            setTalentTotal(total);
+            setTalentResults(prev => [...prev, ...results]);
+        } catch (err) {
+            console.error('Failed to load more talent:', err);
+        } finally {
+            setTalentLoadingMore(false);
+        }
+    };
+
     const handleInputChange = (e) => {
         const { name, value } = e.target;
         setFormData(prev => ({ ...prev, [name]: value }));
@@ -802,6 +832,18 @@ const HRDashboard = () => {
                                 ))}
                             </tbody>
                         </table>
+                        {talentResults.length < talentTotal && (
+                            <div className="text-center py-2">
+                                <button
+                                    type="button"
+                                    className="btn btn-outline-secondary btn-sm"
+                                    onClick={handleTalentLoadMore}
+                                    disabled={talentLoadingMore}
+                                >
+                                    {talentLoadingMore ? 'Loading...' : `Show more (${talentResults.length} of ${talentTotal})`}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 ) : (
                     talentResults !== null && <p className="text-muted text-center small mt-4">No results found.</p>
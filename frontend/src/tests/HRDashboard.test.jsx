@@ -899,6 +899,50 @@ describe('HRDashboard Comprehensive Tests', () => {
             });
         });
 
+        test('pages through talent search results', async () => {
+            const page = (first, count) => Array.from({ length: count }, (_, i) => ({
+                employeeName: `Employee ${first + i}`,
+                matches: [{ skillName: 'Java', proficiencyLevel: 'ADVANCED' }],
+                status: 'APPROVED'
+            }));
+
+            api.get.mockImplementation((url) => {
+                if (url.includes('/skills/search') && url.includes('page=0')) {
+                    return Promise.resolve({ data: page(0, 50), headers: { 'x-total-count': '60' } });
+                }
+                if (url.includes('/skills/search') && url.includes('page=1')) {
+                    return Promise.resolve({ data: page(50, 10), headers: { 'x-total-count': '60' } });
+                }
+                if (url === '/catalog/skills') return Promise.resolve({ data: mockSkills });
+                return Promise.resolve({ data: [] });
+            });
+
+            render(<MemoryRouter><HRDashboard /></MemoryRouter>);
+            const sidebar = screen.getByRole('navigation', { name: 'Sidebar' });
+            fireEvent.click(within(sidebar).getByText('Talent'));
+
+            await waitFor(() => {
+                const headings = screen.getAllByRole('heading', { name: /Talent Discovery/i });
+                expect(headings[0]).toBeInTheDocument();
+            }, { timeout: 3000 });
+
+            const skillSelect = screen.getByLabelText(/Add skill to search/i);
+            fireEvent.change(skillSelect, { target: { value: 'Java' } });
+            await waitFor(() => screen.getByText('Java'));
+            fireEvent.click(screen.getByRole('button', { name: /Search/i }));
+
+            const more = await screen.findByRole('button', { name: /Show more \(50 of 60\)/i });
+            expect(screen.queryByText('Employee 50')).not.toBeInTheDocument();
+
+            fireEvent.click(more);
+
+            await waitFor(() => {
+                expect(screen.getByText('Employee 59')).toBeInTheDocument();
+                expect(screen.queryByRole('button', { name: /Show more/i })).not.toBeInTheDocument();
+            });
+            expect(api.get).toHaveBeenCalledWith(expect.stringContaining('/skills/search?skills=Java&page=1&size=50'));
+        });
+
         test('does not search with empty skills', async () => {
             render(<MemoryRouter><HRDashboard /></MemoryRouter>);
             const sidebar = screen.getByRole('navigation', { name: 'Sidebar' });
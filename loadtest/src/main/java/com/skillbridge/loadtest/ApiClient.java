@@ -0,0 +1,114 @@
+package com.skillbridge.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin JSON client over {@link HttpClient}. Every call is timed into
+ * {@link Metrics} under an endpoint label with path variables left as
+ * templates ("PUT /api/skills/{id}/verify"), so runs aggregate per endpoint
+ * rather than per URL.
+ *
+ * <p>
+ * Calls return the parsed body on 2xx and {@code null} otherwise; scenarios
+ * treat a business rejection (e.g. "already has a pending request") as a
+ * normal outcome, it is counted in the 4xx column.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper json;
+    private final Metrics metrics;
+
+    ApiClient(String baseUrl, Metrics metrics) {
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.metrics = metrics;
+    }
+
+    /** Logs in and returns the JWT, or null when the credentials are refused. */
+    String login(String email, String password) {
+        JsonNode body = post(null, "POST /api/auth/login", "/api/auth/login",
+                Map.of("email", email, "password", password));
+        return body != null ? body.path("token").asText(null) : null;
+    }
+
+    JsonNode get(VirtualUser user, String endpoint, String pathAndQuery) {
+        return send(endpoint, request(user, pathAndQuery).GET());
+    }
+
+    JsonNode post(VirtualUser user, String endpoint, String path, Object body) {
+        return send(endpoint, request(user, path).POST(jsonBody(body)));
+    }
+
+    JsonNode put(VirtualUser user, String endpoint, String path, Object body) {
+        return send(endpoint, request(user, path).PUT(jsonBody(body)));
+    }
+
+    private HttpRequest.Builder request(VirtualUser user, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+        if (user != null) {
+            builder.header("Authorization", "Bearer " + user.token());
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialise request body", e);
+        }
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        HttpRequest request = builder.header("Content-Type", "application/json").build();
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            metrics.failed(endpoint);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        metrics.record(endpoint, (System.nanoTime() - start) / 1000, response.statusCode());
+
+        if (response.statusCode() >= 300) {
+            return null;
+        }
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return json.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+}
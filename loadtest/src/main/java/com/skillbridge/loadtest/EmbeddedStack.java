@@ -0,0 +1,121 @@
+package com.skillbridge.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Self-contained target for a run: a throwaway embedded Postgres and the
+ * backend jar started against it in a child JVM. The schema comes from the
+ * application itself (ddl-auto) and DataSeeder creates the admin HR account.
+ * SQL logging is switched off and, unless asked otherwise, so is the per-user
+ * rate limiter, which would otherwise throttle the synthetic HR users. The
+ * application log goes to {@code app.log} in the output directory.
+ */
+final class EmbeddedStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final EmbeddedPostgres postgres;
+    private final Process app;
+    private final String baseUrl;
+
+    private EmbeddedStack(EmbeddedPostgres postgres, Process app, String baseUrl) {
+        this.postgres = postgres;
+        this.app = app;
+        this.baseUrl = baseUrl;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    static EmbeddedStack start(Path appJar, boolean keepRateLimits, Path outputDir)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(appJar)) {
+            throw new IllegalArgumentException("Backend jar not found: " + appJar + " (run mvn package in backend/)");
+        }
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        int port = freePort();
+
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", appJar.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false"));
+        ProcessBuilder builder = new ProcessBuilder(command);
+        Map<String, String> env = builder.environment();
+        env.put("DB_URL", "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres");
+        env.put("DB_USERNAME", "postgres");
+        env.put("DB_PASSWORD", "postgres");
+        env.put("AUDIT_DIR", outputDir.resolve("audit").toAbsolutePath().toString());
+        if (!keepRateLimits) {
+            env.put("RATE_LIMIT_ENABLED", "false");
+        }
+        Files.createDirectories(outputDir);
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(outputDir.resolve("app.log").toFile());
+        Process app = builder.start();
+
+        EmbeddedStack stack = new EmbeddedStack(postgres, app, "http://localhost:" + port);
+        try {
+            stack.awaitHealthy();
+        } catch (IOException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+        return stack;
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + app.exitValue() + ", see app.log");
+            }
+            try {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("Backend not healthy after " + STARTUP_TIMEOUT.toSeconds() + " s, see app.log");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        app.destroy();
+        try {
+            if (!app.waitFor(30, java.util.concurrent.TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            app.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        postgres.close();
+    }
+}
@@ -0,0 +1,171 @@
+package com.skillbridge.loadtest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end HTTP load generator for the SkillBridge backend.
+ *
+ * <p>
+ * A run creates a synthetic organisation through the API (see
+ * {@link Population}), then {@code --threads} workers replay a weighted
+ * scenario mix (see {@link Scenarios}) for {@code --warmup} plus
+ * {@code --duration} seconds. Each worker repeatedly picks a scenario and a
+ * random user of its role. Without {@code --rate} workers run closed-loop
+ * (next scenario as soon as the last finished, plus {@code --think-ms});
+ * with it scenarios are paced to that many per second overall, and the
+ * "[scenario]" rows are timed from their intended start, so a stalled
+ * backend shows up as latency instead of as fewer requests.
+ *
+ * <p>
+ * Output, under {@code --out}/&lt;timestamp&gt;-&lt;mix&gt;/: a per-endpoint table
+ * on stdout (count, req/s, p50/p95/p99/max, 4xx, 429, errors), the same as
+ * {@code summary.csv}, and {@code latency.hlog}, an HdrHistogram interval log
+ * tagged by endpoint for comparing runs.
+ *
+ * <pre>
+ * # against a running backend
+ * mvn -q exec:java -Dexec.args="--base-url http://localhost:8080 --mix default --threads 32"
+ * # self-contained: embedded Postgres plus the packaged backend
+ * mvn -q exec:java -Dexec.args="--start-app ../backend/target/backend-0.0.1-SNAPSHOT.jar --duration 300"
+ * </pre>
+ *
+ * Other options: --mix default|read-heavy|contention, --warmup s,
+ * --managers n, --employees-per-manager n, --hr-users n, --projects n,
+ * --admin-email, --admin-password, --seed n, --keep-rate-limits.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        List<Scenarios.Scenario> mix;
+        try {
+            options = LoadTestOptions.parse(args);
+            mix = Scenarios.mix(options.mix());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        Path outputDir = options.outputDir().resolve(
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-" + options.mix());
+        EmbeddedStack stack = null;
+        try {
+            String baseUrl = options.baseUrl();
+            if (options.startApp() != null) {
+                System.out.println("Starting embedded Postgres and " + options.startApp());
+                stack = EmbeddedStack.start(options.startApp(), options.keepRateLimits(), outputDir);
+                baseUrl = stack.baseUrl();
+            }
+
+            Metrics metrics = new Metrics(outputDir.resolve("latency.hlog"));
+            ApiClient api = new ApiClient(baseUrl, metrics);
+            System.out.println("Creating synthetic users against " + baseUrl);
+            Population population = Population.create(api, options);
+            System.out.printf("%d HR, %d managers, %d employees, %d projects%n", population.hrUsers().size(),
+                    population.managers().size(), population.employees().size(), population.projectIds().size());
+
+            run(options, mix, population, api, metrics);
+            metrics.report(System.out, outputDir.resolve("summary.csv"));
+            System.out.println("Results in " + outputDir.toAbsolutePath());
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, List<Scenarios.Scenario> mix, Population population,
+            ApiClient api, Metrics metrics) throws InterruptedException {
+        List<Scenarios.Scenario> runnable = mix.stream()
+                .filter(scenario -> !users(population, scenario.role()).isEmpty())
+                .toList();
+        if (runnable.isEmpty()) {
+            throw new IllegalStateException("No users for any scenario of mix " + options.mix());
+        }
+        int[] cumulativeWeights = new int[runnable.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < runnable.size(); i++) {
+            totalWeight += runnable.get(i).weight();
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        // Per worker: with --rate the gap between intended scenario starts, otherwise 0
+        long intervalNanos = options.rate() > 0 ? (long) (options.threads() * 1e9 / options.rate()) : 0;
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(metrics::tick, 1, 1, TimeUnit.SECONDS);
+        ticker.schedule(() -> {
+            System.out.println("Warm-up done, measuring for " + options.duration().toSeconds() + " s");
+            metrics.startMeasuring();
+        }, options.warmup().toMillis(), TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads());
+        final int weightSum = totalWeight;
+        for (int w = 0; w < options.threads(); w++) {
+            long seed = options.seed() + w;
+            workers.execute(() -> {
+                Random random = new Random(seed);
+                // Spread the first starts so paced workers do not fire in lockstep
+                long intended = System.nanoTime() + (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos) : 0);
+                while (!Thread.currentThread().isInterrupted()) {
+                    if (intervalNanos > 0) {
+                        LockSupport.parkNanos(intended - System.nanoTime());
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    if (intended >= end) {
+                        return;
+                    }
+                    Scenarios.Scenario scenario = pick(runnable, cumulativeWeights, random.nextInt(weightSum));
+                    List<VirtualUser> candidates = users(population, scenario.role());
+                    VirtualUser user = candidates.get(random.nextInt(candidates.size()));
+                    scenario.action().run(api, population, user, random);
+                    metrics.record("[scenario] " + scenario.name(), (System.nanoTime() - intended) / 1000, 200);
+
+                    if (intervalNanos > 0) {
+                        intended += intervalNanos;
+                    } else if (!options.thinkTime().isZero()) {
+                        LockSupport.parkNanos(options.thinkTime().toNanos());
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(options.warmup().plus(options.duration()).toSeconds() + 120, TimeUnit.SECONDS);
+        workers.shutdownNow();
+        ticker.shutdownNow();
+    }
+
+    private static Scenarios.Scenario pick(List<Scenarios.Scenario> scenarios, int[] cumulativeWeights, int roll) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static List<VirtualUser> users(Population population, VirtualUser.Role role) {
+        return switch (role) {
+            case HR -> population.hrUsers();
+            case MANAGER -> population.managers();
+            case EMPLOYEE -> population.employees();
+        };
+    }
+}
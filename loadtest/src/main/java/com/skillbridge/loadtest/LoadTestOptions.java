@@ -0,0 +1,81 @@
+package com.skillbridge.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, all {@code --name value}. See {@link LoadTest} for
+ * the list and defaults.
+ */
+record LoadTestOptions(
+        String baseUrl,
+        Path startApp,
+        boolean keepRateLimits,
+        String mix,
+        int threads,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        int managers,
+        int employeesPerManager,
+        int hrUsers,
+        int projects,
+        String adminEmail,
+        String adminPassword,
+        Path outputDir,
+        long seed) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String name = arg.substring(2);
+            if (name.equals("keep-rate-limits")) {
+                values.put(name, "true");
+            } else if (i + 1 < args.length) {
+                values.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+        }
+
+        String startApp = values.remove("start-app");
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("base-url", startApp != null ? null : "http://localhost:8080"),
+                startApp != null ? Path.of(startApp) : null,
+                Boolean.parseBoolean(values.remove("keep-rate-limits")),
+                values.getOrDefault("mix", "default"),
+                Integer.parseInt(values.getOrDefault("threads", "16")),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "120"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("think-ms", "0"))),
+                Integer.parseInt(values.getOrDefault("managers", "10")),
+                Integer.parseInt(values.getOrDefault("employees-per-manager", "10")),
+                Integer.parseInt(values.getOrDefault("hr-users", "2")),
+                Integer.parseInt(values.getOrDefault("projects", "20")),
+                values.getOrDefault("admin-email", "hr@skillbridge.com"),
+                values.getOrDefault("admin-password", "password"),
+                Path.of(values.getOrDefault("out", "results")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+
+        for (String known : new String[] { "base-url", "mix", "threads", "rate", "warmup", "duration", "think-ms",
+                "managers", "employees-per-manager", "hr-users", "projects", "admin-email", "admin-password", "out",
+                "seed" }) {
+            values.remove(known);
+        }
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.threads() < 1) {
+            throw new IllegalArgumentException("--threads must be at least 1");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,158 @@
+package com.skillbridge.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Per-endpoint latency (microseconds) and outcome counts.
+ *
+ * <p>
+ * Every request lands in a {@link Recorder} for its endpoint label; once a
+ * second {@link #tick} swaps out the interval histograms, appends them to
+ * {@code latency.hlog} (HdrHistogram interval log, one tag per endpoint) and
+ * folds them into the run totals. While warming up the intervals are
+ * dropped. The log can be fed to HistogramLogAnalyzer or the hdr-plot tools
+ * to compare two runs.
+ */
+final class Metrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final class Endpoint {
+        final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        final LongAdder ok = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        Histogram recycled;
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final HistogramLogWriter log;
+    private volatile boolean measuring;
+    private long intervalStartMillis;
+    private long measureStartMillis;
+
+    Metrics(Path logFile) throws IOException {
+        Files.createDirectories(logFile.getParent());
+        this.log = new HistogramLogWriter(logFile.toFile());
+        long now = System.currentTimeMillis();
+        log.outputComment("SkillBridge load test, latencies in microseconds, one tag per endpoint");
+        log.outputLogFormatVersion();
+        log.outputStartTime(now);
+        log.setBaseTime(now);
+        log.outputLegend();
+        intervalStartMillis = now;
+    }
+
+    /** Records one response; 429 counts as throttled, other 4xx as rejected by business rules. */
+    void record(String endpoint, long latencyMicros, int status) {
+        Endpoint e = endpoint(endpoint);
+        e.recorder.recordValue(Math.max(1, latencyMicros));
+        if (status < 400) {
+            e.ok.increment();
+        } else if (status == 429) {
+            e.throttled.increment();
+        } else if (status < 500) {
+            e.rejected.increment();
+        } else {
+            e.errors.increment();
+        }
+    }
+
+    /** A request that never got a response (connect failure, timeout). */
+    void failed(String endpoint) {
+        endpoint(endpoint).errors.increment();
+    }
+
+    private Endpoint endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+    }
+
+    /** Ends the warm-up: everything recorded so far is discarded. */
+    synchronized void startMeasuring() {
+        tick();
+        endpoints.values().forEach(e -> {
+            e.total.reset();
+            e.ok.reset();
+            e.rejected.reset();
+            e.throttled.reset();
+            e.errors.reset();
+        });
+        measureStartMillis = System.currentTimeMillis();
+        measuring = true;
+    }
+
+    synchronized void tick() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Endpoint e = entry.getValue();
+            Histogram interval = e.recorder.getIntervalHistogram(e.recycled);
+            e.recycled = interval;
+            if (!measuring || interval.getTotalCount() == 0) {
+                continue;
+            }
+            interval.setStartTimeStamp(intervalStartMillis);
+            interval.setEndTimeStamp(now);
+            interval.setTag(tag(entry.getKey()));
+            log.outputIntervalHistogram(interval);
+            e.total.add(interval);
+        }
+        intervalStartMillis = now;
+    }
+
+    /** Flushes the last interval and prints the per-endpoint table; also writes summary.csv. */
+    synchronized void report(PrintStream out, Path summaryCsv) throws IOException {
+        tick();
+        log.close();
+        double seconds = Math.max(1, System.currentTimeMillis() - measureStartMillis) / 1000.0;
+
+        String header = String.format("%-58s %8s %8s %9s %9s %9s %9s %6s %6s %6s",
+                "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "4xx", "429", "err");
+        out.println(header);
+        out.println("-".repeat(header.length()));
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(summaryCsv))) {
+            csv.println("endpoint,count,throughput_per_s,p50_us,p95_us,p99_us,max_us,rejected,throttled,errors");
+            long totalCount = 0;
+            for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+                Endpoint e = entry.getValue();
+                Histogram h = e.total;
+                long count = h.getTotalCount();
+                totalCount += count;
+                out.println(String.format("%-58s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %6d %6d %6d",
+                        entry.getKey(), count, count / seconds,
+                        millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(95)),
+                        millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()),
+                        e.rejected.sum(), e.throttled.sum(), e.errors.sum()));
+                csv.println(String.join(",", '"' + entry.getKey() + '"', String.valueOf(count),
+                        String.format("%.2f", count / seconds),
+                        String.valueOf(h.getValueAtPercentile(50)), String.valueOf(h.getValueAtPercentile(95)),
+                        String.valueOf(h.getValueAtPercentile(99)), String.valueOf(h.getMaxValue()),
+                        String.valueOf(e.rejected.sum()), String.valueOf(e.throttled.sum()),
+                        String.valueOf(e.errors.sum())));
+            }
+            out.println("-".repeat(header.length()));
+            out.println(String.format("%d requests in %.0f s, %.1f req/s", totalCount, seconds, totalCount / seconds));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    // Interval log tags may not contain whitespace or commas
+    private static String tag(String endpoint) {
+        return endpoint.replace(' ', '_').replace(',', ';');
+    }
+}
@@ -0,0 +1,177 @@
+package com.skillbridge.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Synthetic organisation for one run: projects, HR users, managers and their
+ * employees, created through the public API with the admin HR account and
+ * then logged in. Names carry a run ID so repeated runs against the same
+ * database do not collide. Employees start with a few approved skills so
+ * searches have something to rank.
+ */
+final class Population {
+
+    static final List<String> SKILLS = List.of("Java", "Spring Boot", "React", "TypeScript", "Python", "Go",
+            "Kotlin", "PostgreSQL", "Kafka", "Kubernetes", "Docker", "AWS", "Azure", "Terraform", "GraphQL",
+            "Node.js", "Angular", "Vue", "Rust", "Scala", "Spark", "Airflow", "Redis", "Elasticsearch", "C#",
+            ".NET", "Swift", "Flutter", "Django", "Figma");
+
+    static final String PASSWORD = "loadtest-password";
+
+    private final List<VirtualUser> hrUsers = new ArrayList<>();
+    private final List<VirtualUser> managers = new ArrayList<>();
+    private final List<VirtualUser> employees = new ArrayList<>();
+    private final List<UUID> projectIds = new ArrayList<>();
+
+    List<VirtualUser> hrUsers() {
+        return hrUsers;
+    }
+
+    List<VirtualUser> managers() {
+        return managers;
+    }
+
+    List<VirtualUser> employees() {
+        return employees;
+    }
+
+    List<UUID> projectIds() {
+        return projectIds;
+    }
+
+    static Population create(ApiClient api, LoadTestOptions options) throws InterruptedException {
+        String adminToken = api.login(options.adminEmail(), options.adminPassword());
+        if (adminToken == null) {
+            throw new IllegalStateException("Cannot log in as " + options.adminEmail());
+        }
+        VirtualUser admin = new VirtualUser(VirtualUser.Role.HR, null, options.adminEmail(), adminToken, null);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Random random = new Random(options.seed());
+        Population population = new Population();
+
+        // 1. Projects
+        for (int i = 0; i < options.projects(); i++) {
+            List<String> techStack = pick(random, SKILLS, 3);
+            JsonNode project = api.post(admin, "POST /api/projects", "/api/projects", Map.of(
+                    "name", "LT " + runId + " project " + i,
+                    "companyName", "Load Test Co",
+                    "techStack", techStack,
+                    "startDate", LocalDate.now().minusMonths(1).toString(),
+                    "endDate", LocalDate.now().plusYears(1).toString(),
+                    "employeesRequired", 10,
+                    "status", "ACTIVE"));
+            if (project == null) {
+                throw new IllegalStateException("Cannot create projects with " + options.adminEmail());
+            }
+            population.projectIds.add(UUID.fromString(project.path("id").asText()));
+        }
+
+        // 2. Users: HR, managers, then each manager's employees
+        // (email -> manager ID, null for HR and managers)
+        Map<String, Optional<UUID>> created = new LinkedHashMap<>();
+        for (int i = 0; i < options.hrUsers(); i++) {
+            created.put(email(runId, "hr", i), Optional.empty());
+            createUser(api, admin, email(runId, "hr", i), i, "HR", null);
+        }
+        int employeeIndex = 0;
+        for (int m = 0; m < options.managers(); m++) {
+            created.put(email(runId, "mgr", m), Optional.empty());
+            UUID managerId = createUser(api, admin, email(runId, "mgr", m), m, "MANAGER", null);
+            for (int e = 0; e < options.employeesPerManager(); e++, employeeIndex++) {
+                created.put(email(runId, "emp", employeeIndex), Optional.of(managerId));
+                createUser(api, admin, email(runId, "emp", employeeIndex), employeeIndex, "EMPLOYEE", managerId);
+            }
+        }
+
+        // 3. Log everyone in, in parallel (password hashing dominates)
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(4, options.threads()));
+        try {
+            List<Callable<VirtualUser>> logins = new ArrayList<>();
+            created.forEach((email, manager) -> logins.add(() -> login(api, email, manager.orElse(null))));
+            for (Future<VirtualUser> login : pool.invokeAll(logins)) {
+                VirtualUser user = login.get();
+                switch (user.role()) {
+                    case HR -> population.hrUsers.add(user);
+                    case MANAGER -> population.managers.add(user);
+                    case EMPLOYEE -> population.employees.add(user);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Login of a synthetic user failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        // 4. A few approved skills per employee
+        for (VirtualUser employee : population.employees) {
+            for (String skill : pick(random, SKILLS, 3)) {
+                api.post(employee, "POST /api/skills", "/api/skills", Map.of(
+                        "skillName", skill,
+                        "proficiencyLevel", Scenarios.PROFICIENCY[random.nextInt(Scenarios.PROFICIENCY.length)]));
+            }
+        }
+        for (VirtualUser manager : population.managers) {
+            JsonNode pending = api.get(manager, "GET /api/skills/pending", "/api/skills/pending");
+            if (pending != null) {
+                for (JsonNode skill : pending) {
+                    api.put(manager, "PUT /api/skills/{id}/verify", "/api/skills/" + skill.path("id").asText()
+                            + "/verify", Map.of("status", "APPROVED"));
+                }
+            }
+        }
+        return population;
+    }
+
+    private static String email(String runId, String kind, int index) {
+        return "lt-" + runId + "-" + kind + "-" + index + "@loadtest.local";
+    }
+
+    /** Creates the user and returns their ID. */
+    private static UUID createUser(ApiClient api, VirtualUser admin, String email, int index, String role,
+            UUID managerId) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("email", email);
+        request.put("firstName", role.charAt(0) + role.substring(1).toLowerCase());
+        request.put("lastName", "User " + index);
+        request.put("password", PASSWORD);
+        request.put("role", role);
+        if (managerId != null) {
+            request.put("managerId", managerId.toString());
+        }
+        JsonNode user = api.post(admin, "POST /api/users", "/api/users", request);
+        if (user == null) {
+            throw new IllegalStateException("Cannot create synthetic user " + email);
+        }
+        return UUID.fromString(user.path("id").asText());
+    }
+
+    private static VirtualUser login(ApiClient api, String email, UUID managerId) {
+        JsonNode body = api.post(null, "POST /api/auth/login", "/api/auth/login",
+                Map.of("email", email, "password", PASSWORD));
+        if (body == null) {
+            throw new IllegalStateException("Cannot log in as " + email);
+        }
+        return new VirtualUser(VirtualUser.Role.valueOf(body.path("role").asText()),
+                UUID.fromString(body.path("userId").asText()), email, body.path("token").asText(), managerId);
+    }
+
+    static <T> List<T> pick(Random random, List<T> from, int count) {
+        List<T> copy = new ArrayList<>(from);
+        Collections.shuffle(copy, random);
+        return copy.subList(0, Math.min(count, copy.size()));
+    }
+}
@@ -0,0 +1,211 @@
+package com.skillbridge.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The user journeys a run is made of, and the weighted mixes that combine
+ * them. One scenario is a short sequence of calls a real user makes for one
+ * screen or action; a mix picks scenarios by weight and a random user of the
+ * scenario's role for each.
+ */
+final class Scenarios {
+
+    static final String[] PROFICIENCY = { "BEGINNER", "INTERMEDIATE", "ADVANCED" };
+
+    private Scenarios() {
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run(ApiClient api, Population population, VirtualUser user, Random random);
+    }
+
+    record Scenario(String name, VirtualUser.Role role, int weight, Action action) {
+    }
+
+    static List<Scenario> mix(String name) {
+        return switch (name) {
+            case "default" -> List.of(
+                    new Scenario("employee-dashboard", VirtualUser.Role.EMPLOYEE, 30, Scenarios::employeeDashboard),
+                    new Scenario("add-skill", VirtualUser.Role.EMPLOYEE, 6, Scenarios::addSkill),
+                    new Scenario("submit-allocation", VirtualUser.Role.EMPLOYEE, 6, Scenarios::submitAllocation),
+                    new Scenario("manager-dashboard", VirtualUser.Role.MANAGER, 15, Scenarios::managerDashboard),
+                    new Scenario("verify-skills", VirtualUser.Role.MANAGER, 6, Scenarios::verifySkills),
+                    new Scenario("forward-requests", VirtualUser.Role.MANAGER, 6, Scenarios::forwardRequests),
+                    new Scenario("manager-search", VirtualUser.Role.MANAGER, 8, Scenarios::skillSearch),
+                    new Scenario("hr-dashboard", VirtualUser.Role.HR, 8, Scenarios::hrDashboard),
+                    new Scenario("hr-search", VirtualUser.Role.HR, 4, Scenarios::skillSearch),
+                    new Scenario("approve-requests", VirtualUser.Role.HR, 5, Scenarios::approveRequests),
+                    new Scenario("release-assignments", VirtualUser.Role.HR, 4, Scenarios::releaseAssignments),
+                    new Scenario("projects-by-tech", VirtualUser.Role.HR, 2, Scenarios::projectsByTech));
+            case "read-heavy" -> List.of(
+                    new Scenario("employee-dashboard", VirtualUser.Role.EMPLOYEE, 40, Scenarios::employeeDashboard),
+                    new Scenario("manager-dashboard", VirtualUser.Role.MANAGER, 25, Scenarios::managerDashboard),
+                    new Scenario("manager-search", VirtualUser.Role.MANAGER, 15, Scenarios::skillSearch),
+                    new Scenario("hr-dashboard", VirtualUser.Role.HR, 15, Scenarios::hrDashboard),
+                    new Scenario("projects-by-tech", VirtualUser.Role.HR, 5, Scenarios::projectsByTech));
+            // Many HR users changing the allocation of the same few employees at once
+            case "contention" -> List.of(
+                    new Scenario("contended-assign", VirtualUser.Role.HR, 70, Scenarios::contendedAssign),
+                    new Scenario("employee-dashboard", VirtualUser.Role.EMPLOYEE, 30, Scenarios::employeeDashboard));
+            default -> throw new IllegalArgumentException(
+                    "Unknown mix '" + name + "', expected default, read-heavy or contention");
+        };
+    }
+
+    static void employeeDashboard(ApiClient api, Population population, VirtualUser user, Random random) {
+        api.get(user, "GET /api/users/me", "/api/users/me");
+        api.get(user, "GET /api/utilization/me", "/api/utilization/me");
+        api.get(user, "GET /api/assignments/my", "/api/assignments/my");
+        api.get(user, "GET /api/allocation-requests/my", "/api/allocation-requests/my");
+        api.get(user, "GET /api/skills/my", "/api/skills/my");
+        api.get(user, "GET /api/notifications/unread-count", "/api/notifications/unread-count");
+    }
+
+    static void addSkill(ApiClient api, Population population, VirtualUser user, Random random) {
+        api.get(user, "GET /api/catalog/skills/suggest", "/api/catalog/skills/suggest?q="
+                + encode(Population.SKILLS.get(random.nextInt(Population.SKILLS.size())).substring(0, 2)));
+        // Duplicates are refused by the backend and show up in the 4xx column
+        api.post(user, "POST /api/skills", "/api/skills", Map.of(
+                "skillName", Population.SKILLS.get(random.nextInt(Population.SKILLS.size())),
+                "proficiencyLevel", PROFICIENCY[random.nextInt(PROFICIENCY.length)]));
+    }
+
+    static void submitAllocation(ApiClient api, Population population, VirtualUser user, Random random) {
+        api.get(user, "GET /api/projects/active", "/api/projects/active");
+        UUID projectId = population.projectIds().get(random.nextInt(population.projectIds().size()));
+        api.post(user, "POST /api/allocation-requests", "/api/allocation-requests",
+                Map.of("projectId", projectId.toString()));
+    }
+
+    static void managerDashboard(ApiClient api, Population population, VirtualUser user, Random random) {
+        api.get(user, "GET /api/users/team", "/api/users/team");
+        api.get(user, "GET /api/utilization/team", "/api/utilization/team");
+        api.get(user, "GET /api/utilization/team/summary", "/api/utilization/team/summary");
+        api.get(user, "GET /api/skills/pending", "/api/skills/pending");
+        api.get(user, "GET /api/allocation-requests/pending", "/api/allocation-requests/pending");
+    }
+
+    static void verifySkills(ApiClient api, Population population, VirtualUser user, Random random) {
+        JsonNode pending = api.get(user, "GET /api/skills/pending", "/api/skills/pending");
+        if (pending == null) {
+            return;
+        }
+        int verified = 0;
+        for (JsonNode skill : pending) {
+            if (verified++ == 5) {
+                break;
+            }
+            api.put(user, "PUT /api/skills/{id}/verify", "/api/skills/" + skill.path("id").asText() + "/verify",
+                    Map.of("status", random.nextInt(10) == 0 ? "REJECTED" : "APPROVED"));
+        }
+    }
+
+    static void forwardRequests(ApiClient api, Population population, VirtualUser user, Random random) {
+        JsonNode pending = api.get(user, "GET /api/allocation-requests/pending", "/api/allocation-requests/pending");
+        if (pending == null) {
+            return;
+        }
+        for (JsonNode request : pending) {
+            String id = request.path("assignmentId").asText();
+            if (random.nextInt(10) == 0) {
+                api.put(user, "PUT /api/allocation-requests/{id}/reject", "/api/allocation-requests/" + id
+                        + "/reject", Map.of("reason", "Load test rejection"));
+            } else {
+                api.put(user, "PUT /api/allocation-requests/{id}/forward", "/api/allocation-requests/" + id
+                        + "/forward", Map.of("billingType", random.nextBoolean() ? "BILLABLE" : "INVESTMENT"));
+            }
+        }
+    }
+
+    static void skillSearch(ApiClient api, Population population, VirtualUser user, Random random) {
+        StringBuilder query = new StringBuilder("/api/skills/search?match=")
+                .append(random.nextBoolean() ? "ALL" : "ANY");
+        for (String skill : Population.pick(random, Population.SKILLS, 1 + random.nextInt(3))) {
+            query.append("&skills=").append(encode(skill));
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&minProficiency=").append(PROFICIENCY[random.nextInt(PROFICIENCY.length)]);
+        }
+        api.get(user, "GET /api/skills/search", query.toString());
+    }
+
+    static void hrDashboard(ApiClient api, Population population, VirtualUser user, Random random) {
+        LocalDate today = LocalDate.now();
+        api.get(user, "GET /api/utilization/summary", "/api/utilization/summary");
+        api.get(user, "GET /api/users/bench", "/api/users/bench");
+        api.get(user, "GET /api/allocation-requests/pending", "/api/allocation-requests/pending");
+        api.get(user, "GET /api/utilization/availability", "/api/utilization/availability?from=" + today
+                + "&to=" + today.plusMonths(1) + "&minCapacity=50");
+        if (random.nextInt(4) == 0) {
+            api.get(user, "GET /api/utilization/all", "/api/utilization/all");
+            api.get(user, "GET /api/utilization/trends", "/api/utilization/trends?from=" + today.minusMonths(3)
+                    + "&to=" + today + "&granularity=WEEK");
+        }
+    }
+
+    static void approveRequests(ApiClient api, Population population, VirtualUser user, Random random) {
+        JsonNode pending = api.get(user, "GET /api/allocation-requests/pending", "/api/allocation-requests/pending");
+        if (pending == null) {
+            return;
+        }
+        for (JsonNode request : pending) {
+            String id = request.path("assignmentId").asText();
+            api.put(user, "PUT /api/allocation-requests/{id}/approve", "/api/allocation-requests/" + id + "/approve",
+                    Map.of());
+        }
+    }
+
+    // Ends an active assignment so the employee can request again; keeps the approval chain flowing
+    static void releaseAssignments(ApiClient api, Population population, VirtualUser user, Random random) {
+        VirtualUser employee = population.employees().get(random.nextInt(population.employees().size()));
+        endAssignments(api, user, employee.id());
+    }
+
+    static void projectsByTech(ApiClient api, Population population, VirtualUser user, Random random) {
+        StringBuilder query = new StringBuilder("/api/projects/by-tech?match=ANY");
+        for (String skill : Population.pick(random, Population.SKILLS, 2)) {
+            query.append("&tech=").append(encode(skill));
+        }
+        api.get(user, "GET /api/projects/by-tech", query.toString());
+    }
+
+    static void contendedAssign(ApiClient api, Population population, VirtualUser user, Random random) {
+        // The first three employees are the hot spot
+        VirtualUser employee = population.employees().get(random.nextInt(Math.min(3, population.employees().size())));
+        if (random.nextInt(4) == 0) {
+            endAssignments(api, user, employee.id());
+            return;
+        }
+        UUID projectId = population.projectIds().get(random.nextInt(population.projectIds().size()));
+        api.post(user, "POST /api/assignments", "/api/assignments", Map.of(
+                "employeeId", employee.id().toString(),
+                "projectId", projectId.toString(),
+                "billingType", "BILLABLE",
+                "startDate", LocalDate.now().toString(),
+                "allocationPercent", 10));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void endAssignments(ApiClient api, VirtualUser hr, UUID employeeId) {
+        JsonNode utilization = api.get(hr, "GET /api/assignments/employee/{id}/utilization",
+                "/api/assignments/employee/" + employeeId + "/utilization");
+        if (utilization == null) {
+            return;
+        }
+        for (JsonNode assignment : utilization.path("assignments")) {
+            api.put(hr, "PUT /api/assignments/{id}/end", "/api/assignments/" + assignment.path("assignmentId").asText()
+                    + "/end", Map.of());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.skillbridge.loadtest;
+
+import java.util.UUID;
+
+/** A signed-in synthetic user; {@code managerId} is set for employees. */
+record VirtualUser(Role role, UUID id, String email, String token, UUID managerId) {
+
+    enum Role {
+        HR, MANAGER, EMPLOYEE
+    }
+}